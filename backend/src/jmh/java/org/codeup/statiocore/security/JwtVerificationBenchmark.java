@@ -0,0 +1,57 @@
+package org.codeup.statiocore.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of authenticating one request in JwtAuthenticationFilter:
+ * full HMAC verification and claims parsing versus a verified-token cache hit.
+ *
+ * Run with ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtVerificationBenchmark {
+    private static final String SECRET = "benchmark-secret-for-hs512-signing-must-be-at-least-sixty-four-bytes";
+
+    private JwtTokenVerifier verifier;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        verifier = new JwtTokenVerifier(SECRET, 10_000);
+        token = Jwts.builder()
+                .setSubject(UUID.randomUUID().toString())
+                .claim("email", "bench@statiocore.test")
+                .claim("role", "USER")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS512)
+                .compact();
+        verifier.verify(token);
+    }
+
+    @Benchmark
+    public JwtTokenVerifier.VerifiedToken uncachedVerification() {
+        return verifier.parse(token);
+    }
+
+    @Benchmark
+    public JwtTokenVerifier.VerifiedToken cachedVerification() {
+        return verifier.verify(token);
+    }
+}
@@ -3,9 +3,11 @@ package org.codeup.statiocore;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableCaching
+@EnableScheduling
 public class StatiocoreApplication {
     public static void main(String[] args) {
         SpringApplication.run(StatiocoreApplication.class, args);
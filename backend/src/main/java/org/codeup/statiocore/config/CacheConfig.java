@@ -1,6 +1,16 @@
 package org.codeup.statiocore.config;
 
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.codeup.statiocore.service.cache.JitteredExpiry;
+import org.codeup.statiocore.service.cache.ReferenceDataLoader;
+import org.codeup.statiocore.service.cache.SingleFlightCaffeineCache;
+import org.codeup.statiocore.service.cache.SpotAvailabilityLoader;
+import org.codeup.statiocore.service.dashboard.UserDashboardAssembler;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
@@ -8,15 +18,26 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Cache configuration using Caffeine for performance optimization.
  *
- * Short-term cache (30s): Frequently accessed data (dashboards, spot availability)
- * Long-term cache (10min): Static data (buildings, floors)
- *
- * Cache is evicted on data-modifying operations (check-in, checkout).
+ * Event-invalidated caches (10min): dashboards, spot availability and building stats.
+ * These are evicted precisely after commit by CacheCoordinator / BuildingStatsCache,
+ * so the TTL is only a safety net.
+ * Hot caches (availableSpots, userDashboard) are async loading caches: one load per
+ * key however many requests miss, a background refresh after 30s while the old value
+ * is still served, and a ±10% jittered TTL so entries do not expire in lockstep.
+ * Short-term cache (30s): everything else in the primary manager
+ * Long-term loading caches: reference data (buildings, floor/spot layouts), refreshed
+ * in the background after 1min and evicted precisely by ReferenceDataCache.
  *
  * @author TonyS-dev
  */
@@ -24,38 +45,94 @@ import java.util.concurrent.TimeUnit;
 @EnableCaching
 public class CacheConfig {
 
+    private static final Duration HOT_REFRESH_AFTER = Duration.ofSeconds(30);
+    private static final Duration EVENT_INVALIDATED_TTL = Duration.ofMinutes(10);
+    private static final double TTL_JITTER = 0.1;
+
     @Bean @Primary
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager(
-            "availableSpots",    // Evicted on check-in/checkout
-            "buildingStats",     // Evicted on building changes
-            "floorStats",        // Evicted on floor changes
-            "userDashboard",     // 30s TTL for real-time feel
-            "adminDashboard"     // 30s TTL for admin monitoring
-        );
+    public CacheManager cacheManager(SpotAvailabilityLoader spotAvailabilityLoader,
+                                     UserDashboardAssembler dashboardAssembler,
+                                     MeterRegistry meterRegistry) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected org.springframework.cache.Cache adaptCaffeineCache(String name, AsyncCache<Object, Object> cache) {
+                return new SingleFlightCaffeineCache(name, cache, meterRegistry);
+            }
+        };
 
         // Short-term cache: 30 seconds TTL, max 1000 entries
         cacheManager.setCaffeine(Caffeine.newBuilder()
             .maximumSize(1000)
             .expireAfterWrite(30, TimeUnit.SECONDS)
             .recordStats());
+        cacheManager.setCacheNames(List.of("floorStats"));
+
+        // Evicted on domain events (check-in/out, reservations, payments, inventory changes)
+        cacheManager.registerCustomCache("availableSpots", hot("availableSpots", 1000,
+            spotAvailabilityLoader::load, meterRegistry));
+        cacheManager.registerCustomCache("buildingStats", eventInvalidated(1000));
+        // Per-user part only: the system-wide spot counts are added from the admin snapshot (UserServiceImpl)
+        cacheManager.registerCustomCache("userDashboard", hot("userDashboard", 10_000,
+            key -> dashboardAssembler.assemble((UUID) key), meterRegistry));
 
         return cacheManager;
     }
 
+    private static Cache<Object, Object> eventInvalidated(long maximumSize) {
+        return Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(EVENT_INVALIDATED_TTL)
+            .recordStats()
+            .build();
+    }
+
+    // Load time per cache is recorded in cache.loads (loader refreshes here, value loader misses in
+    // SingleFlightCaffeineCache); coalesced requests by SingleFlightCaffeineCache
+    private static AsyncCache<Object, Object> hot(String name, long maximumSize,
+                                                  CacheLoader<Object, Object> loader, MeterRegistry meterRegistry) {
+        Timer loads = SingleFlightCaffeineCache.loadTimer(name, meterRegistry);
+        return Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .refreshAfterWrite(HOT_REFRESH_AFTER)
+            .expireAfter(new JitteredExpiry(EVENT_INVALIDATED_TTL, TTL_JITTER))
+            .recordStats()
+            .buildAsync(key -> loads.recordCallable(() -> loader.load(key)));
+    }
+
     @Bean
-    public CacheManager longTermCacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager(
-            "buildings",
-            "floors"
-        );
+    public CacheManager longTermCacheManager(ReferenceDataLoader referenceDataLoader) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // Static: unknown names must not silently create plain caches here
+        cacheManager.setCacheNames(List.of());
 
-        cacheManager.setCaffeine(Caffeine.newBuilder()
+        // Loading caches: misses load through ReferenceDataLoader, stale entries reload asynchronously
+        cacheManager.registerCustomCache("buildings", referenceData()
+            .maximumSize(1)
+            .build(key -> referenceDataLoader.loadBuildings()));
+        cacheManager.registerCustomCache("floors", referenceData()
             .maximumSize(500)
-            .expireAfterWrite(5, TimeUnit.MINUTES)
-            .recordStats());
+            .build(new CacheLoader<Object, Object>() {
+                @Override
+                public Object load(Object key) {
+                    return referenceDataLoader.loadFloors((UUID) key);
+                }
+
+                // getAll: every missing building in one layout query
+                @Override
+                public Map<Object, Object> loadAll(Set<?> keys) {
+                    return new HashMap<>(referenceDataLoader.loadFloors(
+                        keys.stream().map(UUID.class::cast).toList()));
+                }
+            }));
 
         return cacheManager;
     }
+
+    private static Caffeine<Object, Object> referenceData() {
+        return Caffeine.newBuilder()
+            .refreshAfterWrite(1, TimeUnit.MINUTES)
+            .expireAfterWrite(1, TimeUnit.HOURS)
+            .recordStats();
+    }
 }
 
@@ -13,10 +13,16 @@ import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * DataInitializationConfig - Seeds initial test data on application startup
@@ -35,10 +41,34 @@ public class DataInitializationConfig {
         private final IReservationRepository reservationRepository;
         private final IActivityLogRepository activityLogRepository;
         private final IPaymentRepository paymentRepository;
+        private final TransactionTemplate transactionTemplate;
+
+        private static final List<UUID> SEED_SPOT_IDS = Stream.of(
+                        "850e8400-e29b-41d4-a716-446655440001",
+                        "850e8400-e29b-41d4-a716-446655440003",
+                        "850e8400-e29b-41d4-a716-446655440005",
+                        "850e8400-e29b-41d4-a716-446655440006",
+                        "850e8400-e29b-41d4-a716-446655440008",
+                        "850e8400-e29b-41d4-a716-446655440009",
+                        "850e8400-e29b-41d4-a716-446655440011",
+                        "850e8400-e29b-41d4-a716-446655440012",
+                        "850e8400-e29b-41d4-a716-446655440013",
+                        "850e8400-e29b-41d4-a716-446655440014",
+                        "850e8400-e29b-41d4-a716-446655440015",
+                        "850e8400-e29b-41d4-a716-446655440016",
+                        "850e8400-e29b-41d4-a716-446655440017",
+                        "850e8400-e29b-41d4-a716-446655440018",
+                        "850e8400-e29b-41d4-a716-446655440019",
+                        "850e8400-e29b-41d4-a716-446655440020",
+                        "850e8400-e29b-41d4-a716-446655440021",
+                        "850e8400-e29b-41d4-a716-446655440022")
+                        .map(UUID::fromString)
+                        .toList();
 
         @Bean
         public CommandLineRunner initializeTestData() {
-                return args -> {
+                // One transaction for the whole seed so Hibernate sends each table's inserts as JDBC batches
+                return args -> transactionTemplate.executeWithoutResult(status -> {
                         log.info("Starting data initialization...");
 
                         // Check if admin user already exists
@@ -124,26 +154,20 @@ public class DataInitializationConfig {
                         // ==========================================
                         log.info("Creating parking sessions...");
 
-                        ParkingSpot spot1 = parkingSpotRepository
-                                        .findById(UUID.fromString("850e8400-e29b-41d4-a716-446655440001")).orElse(null);
-                        ParkingSpot spot3 = parkingSpotRepository
-                                        .findById(UUID.fromString("850e8400-e29b-41d4-a716-446655440003")).orElse(null);
-                        ParkingSpot spot5 = parkingSpotRepository
-                                        .findById(UUID.fromString("850e8400-e29b-41d4-a716-446655440005")).orElse(null);
-                        ParkingSpot spot6 = parkingSpotRepository
-                                        .findById(UUID.fromString("850e8400-e29b-41d4-a716-446655440006")).orElse(null);
-                        ParkingSpot spot8 = parkingSpotRepository
-                                        .findById(UUID.fromString("850e8400-e29b-41d4-a716-446655440008")).orElse(null);
-                        ParkingSpot spot9 = parkingSpotRepository
-                                        .findById(UUID.fromString("850e8400-e29b-41d4-a716-446655440009")).orElse(null);
-                        ParkingSpot spot11 = parkingSpotRepository
-                                        .findById(UUID.fromString("850e8400-e29b-41d4-a716-446655440011")).orElse(null);
-                        ParkingSpot spot12 = parkingSpotRepository
-                                        .findById(UUID.fromString("850e8400-e29b-41d4-a716-446655440012")).orElse(null);
-                        ParkingSpot spot13 = parkingSpotRepository
-                                        .findById(UUID.fromString("850e8400-e29b-41d4-a716-446655440013")).orElse(null);
-                        ParkingSpot spot14 = parkingSpotRepository
-                                        .findById(UUID.fromString("850e8400-e29b-41d4-a716-446655440014")).orElse(null);
+                        // Every seeded spot in one query instead of a findById each
+                        Map<UUID, ParkingSpot> spots = parkingSpotRepository.findAllById(SEED_SPOT_IDS).stream()
+                                        .collect(Collectors.toMap(ParkingSpot::getId, Function.identity()));
+
+                        ParkingSpot spot1 = spots.get(UUID.fromString("850e8400-e29b-41d4-a716-446655440001"));
+                        ParkingSpot spot3 = spots.get(UUID.fromString("850e8400-e29b-41d4-a716-446655440003"));
+                        ParkingSpot spot5 = spots.get(UUID.fromString("850e8400-e29b-41d4-a716-446655440005"));
+                        ParkingSpot spot6 = spots.get(UUID.fromString("850e8400-e29b-41d4-a716-446655440006"));
+                        ParkingSpot spot8 = spots.get(UUID.fromString("850e8400-e29b-41d4-a716-446655440008"));
+                        ParkingSpot spot9 = spots.get(UUID.fromString("850e8400-e29b-41d4-a716-446655440009"));
+                        ParkingSpot spot11 = spots.get(UUID.fromString("850e8400-e29b-41d4-a716-446655440011"));
+                        ParkingSpot spot12 = spots.get(UUID.fromString("850e8400-e29b-41d4-a716-446655440012"));
+                        ParkingSpot spot13 = spots.get(UUID.fromString("850e8400-e29b-41d4-a716-446655440013"));
+                        ParkingSpot spot14 = spots.get(UUID.fromString("850e8400-e29b-41d4-a716-446655440014"));
 
                         if (spot1 != null && spot3 != null) {
                                 // Active sessions - let JPA generate IDs
@@ -288,22 +312,14 @@ public class DataInitializationConfig {
                         // ==========================================
                         log.info("Creating reservations...");
 
-                        ParkingSpot spot15 = parkingSpotRepository
-                                        .findById(UUID.fromString("850e8400-e29b-41d4-a716-446655440015")).orElse(null);
-                        ParkingSpot spot16 = parkingSpotRepository
-                                        .findById(UUID.fromString("850e8400-e29b-41d4-a716-446655440016")).orElse(null);
-                        ParkingSpot spot17 = parkingSpotRepository
-                                        .findById(UUID.fromString("850e8400-e29b-41d4-a716-446655440017")).orElse(null);
-                        ParkingSpot spot18 = parkingSpotRepository
-                                        .findById(UUID.fromString("850e8400-e29b-41d4-a716-446655440018")).orElse(null);
-                        ParkingSpot spot19 = parkingSpotRepository
-                                        .findById(UUID.fromString("850e8400-e29b-41d4-a716-446655440019")).orElse(null);
-                        ParkingSpot spot20 = parkingSpotRepository
-                                        .findById(UUID.fromString("850e8400-e29b-41d4-a716-446655440020")).orElse(null);
-                        ParkingSpot spot21 = parkingSpotRepository
-                                        .findById(UUID.fromString("850e8400-e29b-41d4-a716-446655440021")).orElse(null);
-                        ParkingSpot spot22 = parkingSpotRepository
-                                        .findById(UUID.fromString("850e8400-e29b-41d4-a716-446655440022")).orElse(null);
+                        ParkingSpot spot15 = spots.get(UUID.fromString("850e8400-e29b-41d4-a716-446655440015"));
+                        ParkingSpot spot16 = spots.get(UUID.fromString("850e8400-e29b-41d4-a716-446655440016"));
+                        ParkingSpot spot17 = spots.get(UUID.fromString("850e8400-e29b-41d4-a716-446655440017"));
+                        ParkingSpot spot18 = spots.get(UUID.fromString("850e8400-e29b-41d4-a716-446655440018"));
+                        ParkingSpot spot19 = spots.get(UUID.fromString("850e8400-e29b-41d4-a716-446655440019"));
+                        ParkingSpot spot20 = spots.get(UUID.fromString("850e8400-e29b-41d4-a716-446655440020"));
+                        ParkingSpot spot21 = spots.get(UUID.fromString("850e8400-e29b-41d4-a716-446655440021"));
+                        ParkingSpot spot22 = spots.get(UUID.fromString("850e8400-e29b-41d4-a716-446655440022"));
 
                         if (spot15 != null && spot16 != null) {
                                 // Active reservations
@@ -414,6 +430,6 @@ public class DataInitializationConfig {
                         log.info("Data initialization completed!");
 
                         log.info("Data initialization completed!");
-                };
+                });
         }
 }
@@ -0,0 +1,40 @@
+package org.codeup.statiocore.config.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-replica routing, bound from {@code datasource.routing.*}.
+ * The primary pool keeps using {@code spring.datasource.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "datasource.routing")
+public class DataSourceRoutingProperties {
+    private boolean enabled = false;
+
+    // Replicas lagging further behind than this are skipped until they catch up
+    private long maxLagMs = 5_000;
+
+    private long lagCheckIntervalMs = 5_000;
+
+    // Must return the replay lag in milliseconds; 0 once the replica has replayed everything it received
+    private String lagQuery = """
+            SELECT CASE
+                       WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+                   END""";
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Data
+    public static class Replica {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
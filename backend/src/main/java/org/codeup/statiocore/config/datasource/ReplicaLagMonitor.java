@@ -0,0 +1,106 @@
+package org.codeup.statiocore.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Polls each replica's replay lag and tells {@link ReplicaRoutingDataSource}
+ * which replicas may serve reads.
+ *
+ * A replica starts out unavailable, and any failed check (connection error,
+ * query error) counts as unbounded lag. Reads fall back to the primary
+ * rather than risk a stale or broken replica. Lag is exported per replica as
+ * {@code datasource.replica.lag}. The monitor owns the replica pools and
+ * closes them on shutdown.
+ *
+ * @author TonyS-dev
+ */
+public class ReplicaLagMonitor implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+    private static final long UNKNOWN = Long.MAX_VALUE;
+
+    private final Map<String, DataSource> replicas;
+    private final Map<String, JdbcTemplate> lagChecks = new LinkedHashMap<>();
+    private final Map<String, AtomicLong> lagMillis = new LinkedHashMap<>();
+    private final long maxLagMs;
+    private final String lagQuery;
+    private volatile List<String> available = List.of();
+
+    public ReplicaLagMonitor(Map<String, DataSource> replicas, long maxLagMs, String lagQuery, MeterRegistry meterRegistry) {
+        this.maxLagMs = maxLagMs;
+        this.lagQuery = lagQuery;
+        this.replicas = replicas;
+        replicas.forEach((name, dataSource) -> {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.setQueryTimeout(2);
+            lagChecks.put(name, jdbcTemplate);
+
+            AtomicLong lag = new AtomicLong(UNKNOWN);
+            lagMillis.put(name, lag);
+            Gauge.builder("datasource.replica.lag", lag, l -> l.get() == UNKNOWN ? Double.NaN : l.get())
+                    .description("Replication lag of a read replica; NaN while it cannot be reached")
+                    .baseUnit("milliseconds")
+                    .tag("pool", name)
+                    .register(meterRegistry);
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.lag-check-interval-ms:5000}")
+    public void check() {
+        List<String> healthy = new ArrayList<>();
+        lagChecks.forEach((name, jdbcTemplate) -> {
+            long lag = measure(name, jdbcTemplate);
+            lagMillis.get(name).set(lag);
+            if (lag <= maxLagMs) {
+                healthy.add(name);
+            }
+        });
+
+        if (!healthy.equals(available)) {
+            logger.info("Replicas serving reads changed from {} to {}", available, healthy);
+        }
+        available = List.copyOf(healthy);
+    }
+
+    /**
+     * Replicas currently within the lag threshold, in configuration order.
+     */
+    public List<String> availableReplicas() {
+        return available;
+    }
+
+    public Map<String, DataSource> replicas() {
+        return replicas;
+    }
+
+    @Override
+    public void close() {
+        replicas.values().forEach(dataSource -> {
+            if (dataSource instanceof HikariDataSource hikari) {
+                hikari.close();
+            }
+        });
+    }
+
+    private long measure(String name, JdbcTemplate jdbcTemplate) {
+        try {
+            Double lag = jdbcTemplate.queryForObject(lagQuery, Double.class);
+            return lag != null ? lag.longValue() : UNKNOWN;
+        } catch (RuntimeException ex) {
+            logger.warn("Lag check failed for replica {}: {}", name, ex.getMessage());
+            return UNKNOWN;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.codeup.statiocore.config.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to a replica and everything else to the primary.
+ *
+ * Replicas are picked round-robin among those {@link ReplicaLagMonitor}
+ * currently reports within the lag threshold; when none is, the read goes
+ * to the primary and {@code datasource.routing.fallback} is incremented.
+ *
+ * The transaction's read-only flag is only known after the transaction
+ * manager has begun, so this must sit behind a LazyConnectionDataSourceProxy
+ * to delay the connection lookup until the first statement.
+ *
+ * @author TonyS-dev
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    public static final String PRIMARY = "primary";
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter fallbacks;
+
+    public ReplicaRoutingDataSource(DataSource primary, ReplicaLagMonitor lagMonitor, MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.fallbacks = Counter.builder("datasource.routing.fallback")
+                .description("Read-only transactions sent to the primary because no replica was within the lag threshold")
+                .register(meterRegistry);
+
+        Map<Object, Object> targets = new HashMap<>(lagMonitor.replicas());
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        List<String> available = lagMonitor.availableReplicas();
+        if (available.isEmpty()) {
+            fallbacks.increment();
+            return PRIMARY;
+        }
+        return available.get(Math.floorMod(next.getAndIncrement(), available.size()));
+    }
+
+}
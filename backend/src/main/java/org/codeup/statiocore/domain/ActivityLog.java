@@ -2,21 +2,26 @@ package org.codeup.statiocore.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.UuidGenerator;
+import org.codeup.statiocore.domain.id.UuidV7;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.OffsetDateTime;
 import java.util.UUID;
 
 @Entity
 @Table(name = "activity_logs")
+@NamedEntityGraph(name = ActivityLog.WITH_USER_GRAPH, attributeNodes = @NamedAttributeNode("user"))
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class ActivityLog {
+    // Admin audit log listing: the acting user's email
+    public static final String WITH_USER_GRAPH = "ActivityLog.withUser";
+
     @Id
-    @GeneratedValue
-    @UuidGenerator
+    @UuidV7
     private UUID id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
@@ -26,6 +31,10 @@ public class ActivityLog {
     @Column(name = "details")
     private String details;
 
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "payload")
+    private ActivityPayload payload;
+
     @Column(name = "created_at", nullable = false)
     private OffsetDateTime createdAt;
 
@@ -0,0 +1,35 @@
+package org.codeup.statiocore.domain;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Typed event payload stored as JSONB on {@link ActivityLog}.
+ *
+ * Only the fields relevant to an action are set; null fields are omitted
+ * from the stored document so containment lookups stay index friendly.
+ */
+@Data @NoArgsConstructor @AllArgsConstructor @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ActivityPayload {
+    private UUID spotId;
+    private String spotNumber;
+    private UUID sessionId;
+    private UUID reservationId;
+    private UUID paymentId;
+    private BigDecimal amount;
+    private String paymentMethod;
+    private String transactionRef;
+    private Long durationMinutes;
+    private OffsetDateTime startTime;
+    private OffsetDateTime endTime;
+    private UUID targetUserId;
+    private String targetEmail;
+    private String previousRole;
+    private String role;
+    private Boolean active;
+}
@@ -2,6 +2,8 @@ package org.codeup.statiocore.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.UuidGenerator;
 
 import java.time.OffsetDateTime;
@@ -9,6 +11,8 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "buildings")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "building")
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class Building {
     @Id
@@ -2,6 +2,8 @@ package org.codeup.statiocore.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.UuidGenerator;
 
 import java.time.OffsetDateTime;
@@ -11,6 +13,8 @@ import java.util.UUID;
 @Table(name = "floors", uniqueConstraints = {
     @UniqueConstraint(name = "uk_building_floor", columnNames = {"building_id", "floor_number"})
 })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "floor")
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class Floor {
     @Id
@@ -18,7 +22,8 @@ public class Floor {
     @UuidGenerator
     private UUID id;
 
-    @ManyToOne(optional = false, fetch = FetchType.EAGER)
+    // Loaded on access from the second-level cache unless an entity graph joins it
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(name = "building_id", nullable = false)
     private Building building;
 
@@ -2,8 +2,8 @@ package org.codeup.statiocore.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.UuidGenerator;
 import org.codeup.statiocore.domain.enums.SessionStatus;
+import org.codeup.statiocore.domain.id.UuidV7;
 
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
@@ -11,18 +11,29 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "parking_sessions")
+@NamedEntityGraph(name = ParkingSession.CHECKOUT_GRAPH, attributeNodes = @NamedAttributeNode("spot"))
+@NamedEntityGraph(name = ParkingSession.WITH_LOCATION_GRAPH,
+        attributeNodes = @NamedAttributeNode(value = "spot", subgraph = "spot"),
+        subgraphs = {
+            @NamedSubgraph(name = "spot", attributeNodes = @NamedAttributeNode(value = "floor", subgraph = "floor")),
+            @NamedSubgraph(name = "floor", attributeNodes = @NamedAttributeNode("building"))
+        })
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class ParkingSession {
+    // Check-out and fee quotes: the spot's type and status; its floor resolves from the second-level cache
+    public static final String CHECKOUT_GRAPH = "ParkingSession.checkout";
+    // Session lists and dashboards: spot, floor and building names for the response
+    public static final String WITH_LOCATION_GRAPH = "ParkingSession.withLocation";
+
     @Id
-    @GeneratedValue
-    @UuidGenerator
+    @UuidV7
     private UUID id;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "spot_id")
     private ParkingSpot spot;
 
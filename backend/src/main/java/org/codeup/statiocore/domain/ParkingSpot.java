@@ -13,14 +13,26 @@ import java.util.UUID;
 @Table(name = "parking_spots", uniqueConstraints = {
     @UniqueConstraint(name = "uk_floor_spot", columnNames = {"floor_id", "spot_number"})
 })
+@NamedEntityGraph(name = ParkingSpot.WITH_LOCATION_GRAPH,
+        attributeNodes = @NamedAttributeNode(value = "floor", subgraph = "floor"),
+        subgraphs = @NamedSubgraph(name = "floor", attributeNodes = @NamedAttributeNode("building")))
+@NamedEntityGraph(name = ParkingSpot.ADMIN_LISTING_GRAPH,
+        attributeNodes = {@NamedAttributeNode(value = "floor", subgraph = "floor"), @NamedAttributeNode("reservedBy")},
+        subgraphs = @NamedSubgraph(name = "floor", attributeNodes = @NamedAttributeNode("building")))
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class ParkingSpot {
+    // Availability lists (cached, mapped outside the session): floor and building
+    public static final String WITH_LOCATION_GRAPH = "ParkingSpot.withLocation";
+    // Admin spot listing and export: location plus the reserving user
+    public static final String ADMIN_LISTING_GRAPH = "ParkingSpot.adminListing";
+
     @Id
     @GeneratedValue
     @UuidGenerator
     private UUID id;
 
-    @ManyToOne(optional = false, fetch = FetchType.EAGER)
+    // Loaded on access from the second-level cache unless an entity graph joins it
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(name = "floor_id", nullable = false)
     private Floor floor;
 
@@ -35,7 +47,7 @@ public class ParkingSpot {
     @Column(name = "status", nullable = false, length = 20)
     private SpotStatus status;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "reserved_by_user_id")
     private User reservedBy;
 
@@ -2,9 +2,9 @@ package org.codeup.statiocore.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.UuidGenerator;
 import org.codeup.statiocore.domain.enums.PaymentMethod;
 import org.codeup.statiocore.domain.enums.PaymentStatus;
+import org.codeup.statiocore.domain.id.UuidV7;
 
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
@@ -15,12 +15,11 @@ import java.util.UUID;
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class Payment {
     @Id
-    @GeneratedValue
-    @UuidGenerator
+    @UuidV7
     private UUID id;
 
     @JoinColumn(name = "session_id", nullable = false)
-    @ManyToOne(optional = false)
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
     private ParkingSession session;
 
     @Column(name = "amount", nullable = false, precision = 10, scale = 2)
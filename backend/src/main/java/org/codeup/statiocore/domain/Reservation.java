@@ -10,18 +10,27 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "reservations")
+@NamedEntityGraph(name = Reservation.WITH_LOCATION_GRAPH,
+        attributeNodes = @NamedAttributeNode(value = "spot", subgraph = "spot"),
+        subgraphs = {
+            @NamedSubgraph(name = "spot", attributeNodes = @NamedAttributeNode(value = "floor", subgraph = "floor")),
+            @NamedSubgraph(name = "floor", attributeNodes = @NamedAttributeNode("building"))
+        })
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class Reservation {
+    // Reservation lists: spot, floor and building names for the response
+    public static final String WITH_LOCATION_GRAPH = "Reservation.withLocation";
+
     @Id
     @GeneratedValue
     @UuidGenerator
     private UUID id;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "spot_id")
     private ParkingSpot spot;
 
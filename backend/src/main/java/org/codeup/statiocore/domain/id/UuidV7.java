@@ -0,0 +1,23 @@
+package org.codeup.statiocore.domain.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Generates a time-ordered UUIDv7 (RFC 9562) identifier on insert.
+ *
+ * For high-volume insert tables: consecutive ids land next to each other in
+ * the primary key B-tree instead of at random leaf pages. Use in place of
+ * {@code @GeneratedValue @UuidGenerator}.
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface UuidV7 {
+}
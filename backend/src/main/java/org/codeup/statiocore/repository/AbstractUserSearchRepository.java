@@ -0,0 +1,111 @@
+package org.codeup.statiocore.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.codeup.statiocore.domain.User;
+import org.codeup.statiocore.domain.enums.Role;
+import org.codeup.statiocore.repository.projection.UserSearchCursor;
+import org.codeup.statiocore.repository.projection.UserSearchHit;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Shared query shape for user search: matches are ranked by the database,
+ * ordered by (rank DESC, id DESC) and paged by offset or keyset.
+ * Subclasses provide the dialect-specific score and match expressions.
+ */
+@RequiredArgsConstructor
+public abstract class AbstractUserSearchRepository implements IUserSearchRepository {
+
+    // Similarity scores are scaled to integers so keyset comparisons are exact
+    private static final int RANK_SCALE = 10_000;
+
+    private static final RowMapper<UserSearchHit> ROW_MAPPER = (rs, rowNum) -> new UserSearchHit(
+            User.builder()
+                    .id(rs.getObject("id", UUID.class))
+                    .email(rs.getString("email"))
+                    .fullName(rs.getString("full_name"))
+                    .role(Role.valueOf(rs.getString("role")))
+                    .isActive(rs.getBoolean("is_active"))
+                    .createdAt(rs.getObject("created_at", OffsetDateTime.class))
+                    .build(),
+            rs.getInt("relevance"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    // Relevance of a row for :term in [0, 1] (higher is better)
+    protected abstract String scoreExpression();
+
+    // Row filter for :term / :pattern
+    protected abstract String matchPredicate();
+
+    // Normalized search term bound to :term
+    protected String normalizeTerm(String term) {
+        return term.trim();
+    }
+
+    @Override
+    public List<UserSearchHit> search(String term, Role role, Boolean active,
+                                      UserSearchCursor after, long offset, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String rank = "CAST(ROUND(" + scoreExpression() + " * " + RANK_SCALE + ") AS INTEGER)";
+
+        // Single level, no window functions: the keyset filter and LIMIT apply to the
+        // scan itself, so the database keeps only the top rows instead of sorting every match
+        StringBuilder sql = new StringBuilder()
+                .append("SELECT u.id, u.email, u.full_name, u.role, u.is_active, u.created_at, ")
+                .append(rank).append(" AS relevance ")
+                .append("FROM users u WHERE ")
+                .append(filters(term, role, active, params));
+        if (after != null) {
+            sql.append(" AND (").append(rank).append(" < :lastRank OR (")
+                    .append(rank).append(" = :lastRank AND u.id < :lastId))");
+            params.addValue("lastRank", after.rank());
+            params.addValue("lastId", after.id());
+        }
+        sql.append(" ORDER BY relevance DESC, u.id DESC LIMIT :limit");
+        params.addValue("limit", limit);
+        if (after == null) {
+            sql.append(" OFFSET :offset");
+            params.addValue("offset", offset);
+        }
+
+        return jdbcTemplate.query(sql.toString(), params, ROW_MAPPER);
+    }
+
+    @Override
+    public long count(String term, Role role, Boolean active, int cap) {
+        MapSqlParameterSource params = new MapSqlParameterSource().addValue("cap", cap);
+        String sql = "SELECT COUNT(*) FROM (SELECT 1 FROM users u WHERE "
+                + filters(term, role, active, params) + " LIMIT :cap) m";
+        Long count = jdbcTemplate.queryForObject(sql, params, Long.class);
+        return count != null ? count : 0;
+    }
+
+    // Match and filter predicates shared by search and count; binds their parameters
+    private String filters(String term, Role role, Boolean active, MapSqlParameterSource params) {
+        String normalized = normalizeTerm(term);
+        params.addValue("term", normalized);
+        params.addValue("pattern", "%" + escapeLike(normalized) + "%");
+
+        StringBuilder where = new StringBuilder("u.deleted_at IS NULL AND (")
+                .append(matchPredicate()).append(")");
+        if (role != null) {
+            where.append(" AND u.role = :role");
+            params.addValue("role", role.name());
+        }
+        if (active != null) {
+            where.append(" AND u.is_active = :active");
+            params.addValue("active", active);
+        }
+        return where.toString();
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
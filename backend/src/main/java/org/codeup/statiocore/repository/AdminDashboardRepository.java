@@ -0,0 +1,55 @@
+package org.codeup.statiocore.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.codeup.statiocore.repository.projection.AdminDashboardStats;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Admin dashboard counters in one round-trip.
+ *
+ * Each table is scanned once; the individual metrics are filtered
+ * aggregates (COUNT(*) FILTER (WHERE ...)) over that scan.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AdminDashboardRepository {
+
+    private static final String STATS_SQL = """
+        SELECT u.total_users, u.total_admins, u.active_users,
+               s.total_spots, s.occupied_spots, s.available_spots,
+               ps.active_sessions, r.total_reservations,
+               p.total_payments, p.total_revenue
+        FROM (SELECT COUNT(*) AS total_users,
+                     COUNT(*) FILTER (WHERE role = 'ADMIN') AS total_admins,
+                     COUNT(*) FILTER (WHERE is_active = TRUE) AS active_users
+              FROM users) u
+        CROSS JOIN (SELECT COUNT(*) AS total_spots,
+                           COUNT(*) FILTER (WHERE status = 'OCCUPIED') AS occupied_spots,
+                           COUNT(*) FILTER (WHERE status = 'AVAILABLE' AND reserved_by_user_id IS NULL) AS available_spots
+                    FROM parking_spots) s
+        CROSS JOIN (SELECT COUNT(*) FILTER (WHERE status = 'ACTIVE') AS active_sessions
+                    FROM parking_sessions) ps
+        CROSS JOIN (SELECT COUNT(*) AS total_reservations
+                    FROM reservations) r
+        CROSS JOIN (SELECT COUNT(*) AS total_payments,
+                           COALESCE(SUM(amount) FILTER (WHERE status = 'SUCCESS'), 0) AS total_revenue
+                    FROM payments) p
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AdminDashboardStats loadStats() {
+        return jdbcTemplate.queryForObject(STATS_SQL, (rs, rowNum) -> new AdminDashboardStats(
+                rs.getLong("total_users"),
+                rs.getLong("total_admins"),
+                rs.getLong("active_users"),
+                rs.getLong("total_spots"),
+                rs.getLong("occupied_spots"),
+                rs.getLong("available_spots"),
+                rs.getLong("active_sessions"),
+                rs.getLong("total_reservations"),
+                rs.getLong("total_payments"),
+                rs.getBigDecimal("total_revenue")));
+    }
+}
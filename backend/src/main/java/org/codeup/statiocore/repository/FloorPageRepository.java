@@ -0,0 +1,94 @@
+package org.codeup.statiocore.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.codeup.statiocore.repository.projection.FloorCursor;
+import org.codeup.statiocore.repository.projection.FloorPageRow;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Floors admin page served by a single SQL statement.
+ *
+ * Ordering matches the admin screen: buildings by their most recent floor
+ * creation DESC, then floors by number ASC. Each building's latest creation
+ * time is one backward probe of idx_floors_building_created, so ranking costs
+ * one index lookup per building rather than a pass over every floor. Floors
+ * are then read building by building through the (building_id, floor_number)
+ * unique index, and only the rows of the requested page get their spot
+ * count, through a correlated subquery on idx_spots_floor_id. The total is
+ * not computed here; callers count separately when they need it.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FloorPageRepository {
+
+    private static final String RANKED = """
+        WITH latest AS (
+            SELECT b.id AS building_id, b.name AS building_name,
+                   (SELECT MAX(lf.created_at) FROM floors lf WHERE lf.building_id = b.id) AS building_latest
+            FROM buildings b
+        ), page AS (
+            SELECT f.id, f.building_id, l.building_name, f.floor_number, f.created_at, l.building_latest
+            FROM latest l
+            JOIN floors f ON f.building_id = l.building_id
+        """;
+
+    private static final String AFTER_CURSOR = """
+            WHERE l.building_latest < :latest
+               OR (l.building_latest = :latest AND (f.building_id > :buildingId
+                   OR (f.building_id = :buildingId AND f.floor_number > :floorNumber)))
+        """;
+
+    private static final String PAGE_ORDER = """
+            ORDER BY l.building_latest DESC, f.building_id, f.floor_number
+        """;
+
+    private static final String SELECT_PAGE = """
+        )
+        SELECT p.id, p.building_id, p.building_name, p.floor_number, p.created_at, p.building_latest,
+               (SELECT COUNT(*) FROM parking_spots s WHERE s.floor_id = p.id) AS spot_count
+        FROM page p
+        ORDER BY p.building_latest DESC, p.building_id, p.floor_number
+        """;
+
+    private static final String OFFSET_SQL =
+            RANKED + PAGE_ORDER + "    LIMIT :limit OFFSET :offset\n" + SELECT_PAGE;
+
+    private static final String KEYSET_SQL =
+            RANKED + AFTER_CURSOR + PAGE_ORDER + "    LIMIT :limit\n" + SELECT_PAGE;
+
+    private static final RowMapper<FloorPageRow> ROW_MAPPER = (rs, rowNum) -> new FloorPageRow(
+            rs.getObject("id", UUID.class),
+            rs.getObject("building_id", UUID.class),
+            rs.getString("building_name"),
+            rs.getInt("floor_number"),
+            rs.getObject("created_at", OffsetDateTime.class),
+            rs.getObject("building_latest", OffsetDateTime.class),
+            rs.getLong("spot_count"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    // Page by position; used for numbered pages in the admin UI (the skipped rows are still read)
+    public List<FloorPageRow> findPage(long offset, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("limit", limit)
+                .addValue("offset", offset);
+        return jdbcTemplate.query(OFFSET_SQL, params, ROW_MAPPER);
+    }
+
+    // Page by keyset; after ranking the buildings, reads only the floors of the page
+    public List<FloorPageRow> findPageAfter(FloorCursor cursor, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("latest", cursor.buildingLatestFloorAt())
+                .addValue("buildingId", cursor.buildingId())
+                .addValue("floorNumber", cursor.floorNumber())
+                .addValue("limit", limit);
+        return jdbcTemplate.query(KEYSET_SQL, params, ROW_MAPPER);
+    }
+}
@@ -1,6 +1,8 @@
 package org.codeup.statiocore.repository;
 
 import org.codeup.statiocore.domain.ActivityLog;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
@@ -20,6 +22,12 @@ public interface IActivityLogRepository extends JpaRepository<ActivityLog, UUID>
     // We use Pageable to limit to the last 10 or 20
     @Override
     @NonNull
+    @EntityGraph(ActivityLog.WITH_USER_GRAPH)
     Page<ActivityLog> findAll(@NonNull Pageable pageable);
-}
 
+    // Admin audit log browsing (ActivityLogSpecification filters); the response shows the user's email
+    @Override
+    @NonNull
+    @EntityGraph(ActivityLog.WITH_USER_GRAPH)
+    Page<ActivityLog> findAll(Specification<ActivityLog> spec, @NonNull Pageable pageable);
+}
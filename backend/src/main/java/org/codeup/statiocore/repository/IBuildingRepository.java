@@ -1,13 +1,28 @@
 package org.codeup.statiocore.repository;
 
+import jakarta.persistence.QueryHint;
 import org.codeup.statiocore.domain.Building;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface IBuildingRepository extends JpaRepository<Building, UUID> {
     // Validation when creating a building
     boolean existsByNameIgnoreCase(String name);
+
+    // Export: all buildings from a server-side cursor
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT b FROM Building b ORDER BY b.name")
+    Stream<Building> streamAll();
 }
@@ -0,0 +1,32 @@
+package org.codeup.statiocore.repository;
+
+import org.codeup.statiocore.domain.Building;
+import org.codeup.statiocore.repository.projection.BuildingStats;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface IBuildingStatsRepository extends Repository<Building, UUID> {
+
+    /**
+     * Floor and spot counts for a set of buildings in a single aggregate query.
+     * Conditional aggregation (COUNT over CASE) replaces the per-building count queries;
+     * buildings without floors or spots come back with zero counts.
+     */
+    @Query("SELECT new org.codeup.statiocore.repository.projection.BuildingStats(" +
+           "b.id, " +
+           "COUNT(DISTINCT f.id), " +
+           "COUNT(s.id), " +
+           "COUNT(CASE WHEN s.status = org.codeup.statiocore.domain.enums.SpotStatus.OCCUPIED THEN 1 END), " +
+           "COUNT(CASE WHEN s.status = org.codeup.statiocore.domain.enums.SpotStatus.AVAILABLE THEN 1 END)) " +
+           "FROM Building b " +
+           "LEFT JOIN Floor f ON f.building = b " +
+           "LEFT JOIN ParkingSpot s ON s.floor = f " +
+           "WHERE b.id IN :buildingIds " +
+           "GROUP BY b.id")
+    List<BuildingStats> findStatsByBuildingIds(@Param("buildingIds") Collection<UUID> buildingIds);
+}
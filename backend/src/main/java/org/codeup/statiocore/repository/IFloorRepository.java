@@ -1,20 +1,52 @@
 package org.codeup.statiocore.repository;
 
+import jakarta.persistence.QueryHint;
 import org.codeup.statiocore.domain.Floor;
+import org.codeup.statiocore.repository.projection.FloorLayoutRow;
+import org.codeup.statiocore.repository.projection.FloorStreamRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface IFloorRepository extends JpaRepository<Floor, UUID> {
-    // To get floors for a specific building (User Flow)
+    // To get floors for a specific building (User Flow); served from the query cache
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     List<Floor> findByBuildingIdOrderByFloorNumberAsc(UUID buildingId);
 
     // Validation: Prevent duplicate floor numbers in the same building
     boolean existsByBuildingIdAndFloorNumber(UUID buildingId, Integer floorNumber);
 
-    // Count methods for populating response DTOs
-    long countByBuildingId(UUID buildingId);
+    // Bulk provisioning: reuse the floor when it already exists
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    Optional<Floor> findByBuildingIdAndFloorNumber(UUID buildingId, Integer floorNumber);
+
+    // Reference data cache: floors of the given buildings with their spot layout, one row per spot
+    @Query("SELECT new org.codeup.statiocore.repository.projection.FloorLayoutRow(" +
+           "f.building.id, f.id, f.floorNumber, f.createdAt, s.id, s.spotNumber, s.type) " +
+           "FROM Floor f LEFT JOIN ParkingSpot s ON s.floor = f " +
+           "WHERE f.building.id IN :buildingIds " +
+           "ORDER BY f.building.id, f.floorNumber, s.spotNumber")
+    List<FloorLayoutRow> findLayoutByBuildingIds(@Param("buildingIds") Collection<UUID> buildingIds);
+
+    // Export: floors with spot counts as flat rows from a server-side cursor (no entities in the persistence context)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new org.codeup.statiocore.repository.projection.FloorStreamRow(" +
+           "f.id, b.id, b.name, f.floorNumber, " +
+           "(SELECT COUNT(s) FROM ParkingSpot s WHERE s.floor = f), " +
+           "f.createdAt) " +
+           "FROM Floor f JOIN f.building b " +
+           "ORDER BY b.name, f.floorNumber")
+    Stream<FloorStreamRow> streamAllWithSpotCounts();
 }
@@ -3,16 +3,28 @@ package org.codeup.statiocore.repository;
 import org.codeup.statiocore.domain.ParkingSpot;
 import org.codeup.statiocore.domain.enums.SpotStatus;
 import org.codeup.statiocore.domain.enums.SpotType;
+import org.codeup.statiocore.repository.projection.SpotKey;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import jakarta.persistence.QueryHint;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface IParkingSpotRepository extends JpaRepository<ParkingSpot, UUID>, JpaSpecificationExecutor<ParkingSpot> {
@@ -38,27 +50,55 @@ public interface IParkingSpotRepository extends JpaRepository<ParkingSpot, UUID>
      * A spot is available ONLY if: status=AVAILABLE AND reservedBy IS NULL
      * Reserved spots are excluded even if status is AVAILABLE.
      */
+    @EntityGraph(ParkingSpot.WITH_LOCATION_GRAPH)
     List<ParkingSpot> findByStatusAndReservedByIsNull(SpotStatus status);
     long countByStatusAndReservedByIsNull(SpotStatus status);
 
+    // Filtered availability (ParkingSpotSpecification); cached and mapped outside the session, so the location is joined
+    @Override
+    @EntityGraph(ParkingSpot.WITH_LOCATION_GRAPH)
+    List<ParkingSpot> findAll(Specification<ParkingSpot> spec);
+
+    // Reservation response names the floor and building; joined so it maps outside the session
+    @EntityGraph(ParkingSpot.WITH_LOCATION_GRAPH)
+    Optional<ParkingSpot> findWithLocationById(UUID id);
+
     /**
      * Eager fetch optimization: Prevents N+1 query problem by loading
      * Floor and Building relationships in a single query.
      * Use for admin dashboard where we need building/floor names.
      */
-    @Query("SELECT s FROM ParkingSpot s LEFT JOIN FETCH s.floor f LEFT JOIN FETCH f.building LEFT JOIN FETCH s.reservedBy")
+    @EntityGraph(ParkingSpot.ADMIN_LISTING_GRAPH)
+    @Query("SELECT s FROM ParkingSpot s")
     List<ParkingSpot> findAllWithFloorAndBuilding();
 
     /**
      * Paginated version of findAllWithFloorAndBuilding.
      * Returns paginated spots with eager loaded floor and building relationships.
      */
-    @Query("SELECT s FROM ParkingSpot s LEFT JOIN FETCH s.floor f LEFT JOIN FETCH f.building LEFT JOIN FETCH s.reservedBy")
+    @EntityGraph(ParkingSpot.ADMIN_LISTING_GRAPH)
+    @Query("SELECT s FROM ParkingSpot s")
     Page<ParkingSpot> findAllWithFloorAndBuilding(Pageable pageable);
 
+    /**
+     * Streaming version of findAllWithFloorAndBuilding for exports.
+     * Rows are fetched from a server-side cursor; must be consumed inside a transaction
+     * and the caller is expected to clear the persistence context as it goes.
+     */
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @EntityGraph(ParkingSpot.ADMIN_LISTING_GRAPH)
+    @Query("SELECT s FROM ParkingSpot s")
+    Stream<ParkingSpot> streamAllWithFloorAndBuilding();
+
+    // Bulk provisioning: every existing (floor, spot number) pair for the target floors in one query
+    @Query("SELECT s.floor.id AS floorId, s.spotNumber AS spotNumber FROM ParkingSpot s WHERE s.floor.id IN :floorIds")
+    List<SpotKey> findSpotKeysByFloorIds(@Param("floorIds") Collection<UUID> floorIds);
+
     // Count methods for populating response DTOs
     long countByFloorId(UUID floorId);
     long countByFloorIdAndStatus(UUID floorId, SpotStatus status);
-    long countByFloorBuildingId(UUID buildingId);
     long countByFloorBuildingIdAndStatus(UUID buildingId, SpotStatus status);
 }
@@ -12,5 +12,7 @@ import java.util.UUID;
 public interface IPaymentRepository extends JpaRepository<Payment, UUID> {
     @Query("SELECT COALESCE(SUM(p.amount), 0) FROM Payment p WHERE p.status = :status")
     BigDecimal sumTotalAmountByStatus(@Param("status") PaymentStatus status);
+
+    boolean existsBySessionIdAndStatus(UUID sessionId, PaymentStatus status);
 }
 
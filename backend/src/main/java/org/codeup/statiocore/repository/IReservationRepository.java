@@ -2,6 +2,7 @@ package org.codeup.statiocore.repository;
 
 import org.codeup.statiocore.domain.Reservation;
 import org.codeup.statiocore.domain.enums.ReservationStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -15,7 +16,8 @@ import java.util.UUID;
 @Repository
 public interface IReservationRepository extends JpaRepository<Reservation, UUID> {
 
-    // For the user to see "My Reservations"
+    // For the user to see "My Reservations", with spot, floor and building joined
+    @EntityGraph(Reservation.WITH_LOCATION_GRAPH)
     List<Reservation> findByUserIdOrderByStartTimeDesc(UUID userId);
 
     // To find active/pending reservations
@@ -2,10 +2,16 @@ package org.codeup.statiocore.repository;
 
 import org.codeup.statiocore.domain.User;
 import org.codeup.statiocore.domain.enums.Role;
+import org.codeup.statiocore.repository.projection.UserStatusRow;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -24,5 +30,20 @@ public interface IUserRepository extends JpaRepository<User, UUID>, JpaSpecifica
     
     // Count active users
     long countByIsActive(boolean isActive);
+
+    // Disabled-account set: full load at startup, then deltas by updated_at
+    @Query("SELECT u.id FROM User u WHERE u.isActive = false OR u.deletedAt IS NOT NULL")
+    List<UUID> findDisabledUserIds();
+
+    @Query("""
+            SELECT new org.codeup.statiocore.repository.projection.UserStatusRow(u.id, u.isActive, u.deletedAt, u.updatedAt)
+            FROM User u WHERE u.updatedAt > :since""")
+    List<UserStatusRow> findStatusChangedSince(@Param("since") OffsetDateTime since);
+
+    // Rehash on login: touch only the hash column, leaving the rest of the row untouched
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.passwordHash = :passwordHash, u.updatedAt = OFFSET DATETIME WHERE u.id = :id")
+    int updatePasswordHash(@Param("id") UUID id, @Param("passwordHash") String passwordHash);
 }
 
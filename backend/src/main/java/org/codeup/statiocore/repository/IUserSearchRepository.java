@@ -0,0 +1,28 @@
+package org.codeup.statiocore.repository;
+
+import org.codeup.statiocore.domain.enums.Role;
+import org.codeup.statiocore.repository.projection.UserSearchCursor;
+import org.codeup.statiocore.repository.projection.UserSearchHit;
+
+import java.util.List;
+
+/**
+ * Text search over user email and full name, most relevant first.
+ * Soft-deleted users are excluded.
+ */
+public interface IUserSearchRepository {
+    /**
+     * @param term   search text (partial email or name)
+     * @param role   optional role filter
+     * @param active optional active-status filter
+     * @param after  keyset position from a previous page; when null, {@code offset} is used
+     * @param offset rows to skip when no cursor is given
+     * @param limit  maximum rows to return
+     */
+    List<UserSearchHit> search(String term, Role role, Boolean active, UserSearchCursor after, long offset, int limit);
+
+    /**
+     * Number of users matching the same term and filters, counting at most {@code cap} rows.
+     */
+    long count(String term, Role role, Boolean active, int cap);
+}
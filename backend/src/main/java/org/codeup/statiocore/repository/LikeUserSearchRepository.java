@@ -0,0 +1,36 @@
+package org.codeup.statiocore.repository;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Locale;
+
+/**
+ * Fallback user search for the H2 test profile, which has no pg_trgm.
+ * Case-insensitive substring match; prefix matches rank above the rest.
+ */
+@Repository
+@Profile("test")
+public class LikeUserSearchRepository extends AbstractUserSearchRepository {
+
+    public LikeUserSearchRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        super(jdbcTemplate);
+    }
+
+    @Override
+    protected String normalizeTerm(String term) {
+        return term.trim().toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    protected String scoreExpression() {
+        return "CAST(CASE WHEN LOWER(u.email) LIKE CONCAT(:term, '%') " +
+               "OR LOWER(u.full_name) LIKE CONCAT(:term, '%') THEN 1 ELSE 0 END AS REAL)";
+    }
+
+    @Override
+    protected String matchPredicate() {
+        return "LOWER(u.email) LIKE :pattern OR LOWER(u.full_name) LIKE :pattern";
+    }
+}
@@ -0,0 +1,29 @@
+package org.codeup.statiocore.repository;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * PostgreSQL user search backed by the pg_trgm GIN indexes on email and full_name
+ * (see V4__user_search_trgm.sql). Rows match on trigram similarity or substring,
+ * and are ranked by the best similarity of either column.
+ */
+@Repository
+@Profile("!test")
+public class TrigramUserSearchRepository extends AbstractUserSearchRepository {
+
+    public TrigramUserSearchRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        super(jdbcTemplate);
+    }
+
+    @Override
+    protected String scoreExpression() {
+        return "GREATEST(similarity(u.email, :term), similarity(u.full_name, :term))";
+    }
+
+    @Override
+    protected String matchPredicate() {
+        return "u.email ILIKE :pattern OR u.full_name ILIKE :pattern OR u.email % :term OR u.full_name % :term";
+    }
+}
@@ -0,0 +1,94 @@
+package org.codeup.statiocore.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.codeup.statiocore.repository.projection.RecentActivityRow;
+import org.codeup.statiocore.repository.projection.UserDashboardStats;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * User dashboard read model.
+ *
+ * Counters and totals are computed by the database in one round-trip
+ * (filtered aggregates over the user's rows, served by the user_id indexes);
+ * the activity feed reads only the few most recent rows. Nothing proportional
+ * to the user's history is transferred or materialized as entities.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserDashboardRepository {
+
+    private static final String STATS_SQL = """
+        SELECT r.total_reservations, r.active_reservations,
+               ps.active_sessions, ps.completed_sessions, ps.total_amount_due
+        FROM (SELECT COUNT(*) AS total_reservations,
+                     COUNT(*) FILTER (WHERE status IN ('ACTIVE', 'PENDING')) AS active_reservations
+              FROM reservations
+              WHERE user_id = :userId) r
+        CROSS JOIN (SELECT COUNT(*) FILTER (WHERE status = 'ACTIVE') AS active_sessions,
+                           COUNT(*) FILTER (WHERE status = 'COMPLETED') AS completed_sessions,
+                           COALESCE(SUM(amount_due), 0) AS total_amount_due
+                    FROM parking_sessions
+                    WHERE user_id = :userId) ps
+        """;
+
+    private static final String RECENT_SESSIONS_SQL = """
+        SELECT ps.status, sp.spot_number, b.name AS building_name, ps.check_in_time AS ts
+        FROM parking_sessions ps
+        JOIN parking_spots sp ON sp.id = ps.spot_id
+        LEFT JOIN floors f ON f.id = sp.floor_id
+        LEFT JOIN buildings b ON b.id = f.building_id
+        WHERE ps.user_id = :userId
+        ORDER BY ps.check_in_time DESC
+        LIMIT :limit
+        """;
+
+    private static final String RECENT_RESERVATIONS_SQL = """
+        SELECT r.status, sp.spot_number, b.name AS building_name, r.created_at AS ts
+        FROM reservations r
+        JOIN parking_spots sp ON sp.id = r.spot_id
+        LEFT JOIN floors f ON f.id = sp.floor_id
+        LEFT JOIN buildings b ON b.id = f.building_id
+        WHERE r.user_id = :userId
+        ORDER BY r.start_time DESC
+        LIMIT :limit
+        """;
+
+    private static final RowMapper<RecentActivityRow> ACTIVITY_ROW_MAPPER = (rs, rowNum) -> new RecentActivityRow(
+            rs.getString("status"),
+            rs.getString("spot_number"),
+            rs.getString("building_name"),
+            rs.getObject("ts", OffsetDateTime.class));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public UserDashboardStats loadStats(UUID userId) {
+        return jdbcTemplate.queryForObject(STATS_SQL, new MapSqlParameterSource("userId", userId),
+                (rs, rowNum) -> new UserDashboardStats(
+                        rs.getLong("total_reservations"),
+                        rs.getLong("active_reservations"),
+                        rs.getLong("active_sessions"),
+                        rs.getLong("completed_sessions"),
+                        rs.getBigDecimal("total_amount_due")));
+    }
+
+    public List<RecentActivityRow> findRecentSessions(UUID userId, int limit) {
+        return jdbcTemplate.query(RECENT_SESSIONS_SQL, params(userId, limit), ACTIVITY_ROW_MAPPER);
+    }
+
+    public List<RecentActivityRow> findRecentReservations(UUID userId, int limit) {
+        return jdbcTemplate.query(RECENT_RESERVATIONS_SQL, params(userId, limit), ACTIVITY_ROW_MAPPER);
+    }
+
+    private static MapSqlParameterSource params(UUID userId, int limit) {
+        return new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("limit", limit);
+    }
+}
@@ -0,0 +1,19 @@
+package org.codeup.statiocore.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * System-wide counters shown on the admin dashboard.
+ */
+public record AdminDashboardStats(
+        long totalUsers,
+        long totalAdmins,
+        long activeUsers,
+        long totalSpots,
+        long occupiedSpots,
+        long availableSpots,
+        long activeSessions,
+        long totalReservations,
+        long totalPayments,
+        BigDecimal totalRevenue) {
+}
@@ -0,0 +1,18 @@
+package org.codeup.statiocore.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * Aggregated floor and spot counts for a single building.
+ */
+public record BuildingStats(
+        UUID buildingId,
+        Long totalFloors,
+        Long totalSpots,
+        Long occupiedSpots,
+        Long availableSpots) {
+
+    public static BuildingStats empty(UUID buildingId) {
+        return new BuildingStats(buildingId, 0L, 0L, 0L, 0L);
+    }
+}
@@ -0,0 +1,32 @@
+package org.codeup.statiocore.repository.projection;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position in the floors ordering:
+ * building's latest floor created_at DESC, building id ASC, floor number ASC.
+ * Encoded as an opaque URL-safe token for clients.
+ */
+public record FloorCursor(OffsetDateTime buildingLatestFloorAt, UUID buildingId, int floorNumber) {
+
+    public String encode() {
+        String raw = buildingLatestFloorAt + "|" + buildingId + "|" + floorNumber;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static FloorCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            return new FloorCursor(
+                    OffsetDateTime.parse(parts[0]),
+                    UUID.fromString(parts[1]),
+                    Integer.parseInt(parts[2]));
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Invalid floor cursor", ex);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package org.codeup.statiocore.repository.projection;
+
+import org.codeup.statiocore.domain.enums.SpotType;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * One spot of a floor layout; the spot columns are null for a floor without spots.
+ */
+public record FloorLayoutRow(
+        UUID buildingId,
+        UUID floorId,
+        Integer floorNumber,
+        OffsetDateTime floorCreatedAt,
+        UUID spotId,
+        String spotNumber,
+        SpotType spotType) {
+}
@@ -0,0 +1,21 @@
+package org.codeup.statiocore.repository.projection;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * One row of the floors admin page, including its ordering keys.
+ */
+public record FloorPageRow(
+        UUID id,
+        UUID buildingId,
+        String buildingName,
+        Integer floorNumber,
+        OffsetDateTime createdAt,
+        OffsetDateTime buildingLatestFloorAt,
+        long spotCount) {
+
+    public FloorCursor toCursor() {
+        return new FloorCursor(buildingLatestFloorAt, buildingId, floorNumber);
+    }
+}
@@ -0,0 +1,16 @@
+package org.codeup.statiocore.repository.projection;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Flat floor row with its spot count, read without materializing entities.
+ */
+public record FloorStreamRow(
+        UUID id,
+        UUID buildingId,
+        String buildingName,
+        Integer floorNumber,
+        Long spotCount,
+        OffsetDateTime createdAt) {
+}
@@ -0,0 +1,10 @@
+package org.codeup.statiocore.repository.projection;
+
+import java.time.OffsetDateTime;
+
+/**
+ * A recent session or reservation for the user dashboard activity feed.
+ * {@code status} is the session or reservation status as stored.
+ */
+public record RecentActivityRow(String status, String spotNumber, String buildingName, OffsetDateTime timestamp) {
+}
@@ -0,0 +1,34 @@
+package org.codeup.statiocore.repository.projection;
+
+import org.codeup.statiocore.domain.ParkingSession;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position in a user's session history, ordered by check_in_time DESC, id DESC.
+ * Encoded as an opaque URL-safe token for clients.
+ */
+public record SessionCursor(OffsetDateTime checkInTime, UUID id) {
+
+    public static SessionCursor of(ParkingSession session) {
+        return new SessionCursor(session.getCheckInTime(), session.getId());
+    }
+
+    public String encode() {
+        String raw = checkInTime + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SessionCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            return new SessionCursor(OffsetDateTime.parse(parts[0]), UUID.fromString(parts[1]));
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Invalid session cursor", ex);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package org.codeup.statiocore.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * (floor, spot number) pair as constrained by uk_floor_spot.
+ */
+public interface SpotKey {
+    UUID getFloorId();
+    String getSpotNumber();
+}
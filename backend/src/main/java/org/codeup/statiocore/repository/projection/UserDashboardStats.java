@@ -0,0 +1,15 @@
+package org.codeup.statiocore.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Per-user counters for the user dashboard. The system-wide spot counts shown alongside them
+ * come from the admin dashboard snapshot, so they are not cached per user.
+ */
+public record UserDashboardStats(
+        long totalReservations,
+        long activeReservations,
+        long activeSessions,
+        long completedSessions,
+        BigDecimal totalAmountDue) {
+}
@@ -0,0 +1,28 @@
+package org.codeup.statiocore.repository.projection;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position in search results ordered by rank DESC, id DESC.
+ * The rank is the integer relevance computed by the database, so the
+ * keyset comparison is exact. Encoded as an opaque URL-safe token for clients.
+ */
+public record UserSearchCursor(int rank, UUID id) {
+
+    public String encode() {
+        String raw = rank + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static UserSearchCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            return new UserSearchCursor(Integer.parseInt(parts[0]), UUID.fromString(parts[1]));
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Invalid search cursor", ex);
+        }
+    }
+}
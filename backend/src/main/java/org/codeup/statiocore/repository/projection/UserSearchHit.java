@@ -0,0 +1,13 @@
+package org.codeup.statiocore.repository.projection;
+
+import org.codeup.statiocore.domain.User;
+
+/**
+ * A user matching a search term, with its relevance rank (higher is better).
+ */
+public record UserSearchHit(User user, int rank) {
+
+    public UserSearchCursor toCursor() {
+        return new UserSearchCursor(rank, user.getId());
+    }
+}
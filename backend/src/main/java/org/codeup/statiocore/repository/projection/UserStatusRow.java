@@ -0,0 +1,14 @@
+package org.codeup.statiocore.repository.projection;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Account status of a user as seen by the delta sync of the disabled-account set.
+ */
+public record UserStatusRow(UUID id, Boolean isActive, OffsetDateTime deletedAt, OffsetDateTime updatedAt) {
+
+    public boolean disabled() {
+        return !Boolean.TRUE.equals(isActive) || deletedAt != null;
+    }
+}
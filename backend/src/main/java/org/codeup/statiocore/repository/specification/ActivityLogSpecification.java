@@ -17,7 +17,8 @@ public class ActivityLogSpecification {
             UUID userId, 
             String action, 
             LocalDate startDate, 
-            LocalDate endDate) {
+            LocalDate endDate,
+            UUID spotId) {
         
         return (root, query, criteriaBuilder) -> {
             List<Predicate> predicates = new ArrayList<>();
@@ -28,7 +29,7 @@ public class ActivityLogSpecification {
 	    }
             
             if (userId != null) {
-                predicates.add(criteriaBuilder.equal(root.get("userId"), userId));
+                predicates.add(criteriaBuilder.equal(root.get("user").get("id"), userId));
             }
             
             if (action != null && !action.isEmpty()) {
@@ -45,6 +46,13 @@ public class ActivityLogSpecification {
                 predicates.add(criteriaBuilder.lessThan(root.get("createdAt"), endDateTime));
             }
             
+            // All events touching a spot; JSONB containment is served by the GIN index on payload
+            if (spotId != null) {
+                predicates.add(criteriaBuilder.isTrue(criteriaBuilder.function(
+                        JsonbFunctionContributor.JSONB_FIELD_EQUALS, Boolean.class, root.get("payload"),
+                        criteriaBuilder.literal("spotId"), criteriaBuilder.literal(spotId.toString()))));
+            }
+            
             // Default ordering by createdAt descending
             query.orderBy(criteriaBuilder.desc(root.get("createdAt")));
             
@@ -0,0 +1,34 @@
+package org.codeup.statiocore.repository.specification;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers {@code jsonb_field_equals(json, key, value)} for criteria queries:
+ * true when the JSON object has {@code key} set to the string {@code value}.
+ *
+ * On PostgreSQL it renders as JSONB containment ({@code @>}), so the GIN index
+ * on activity_logs.payload serves it. Other databases (H2 in tests) compare
+ * against the serialized document instead.
+ *
+ * Registered through META-INF/services.
+ *
+ * @author TonyS-dev
+ */
+public class JsonbFunctionContributor implements FunctionContributor {
+    public static final String JSONB_FIELD_EQUALS = "jsonb_field_equals";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicType<Boolean> booleanType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.BOOLEAN);
+        String pattern = functionContributions.getDialect() instanceof PostgreSQLDialect
+                ? "(?1 @> jsonb_build_object(cast(?2 as text), cast(?3 as text)))"
+                : "(cast(?1 as varchar) like ('%\"' || ?2 || '\":\"' || ?3 || '\"%'))";
+        functionContributions.getFunctionRegistry().registerPattern(JSONB_FIELD_EQUALS, pattern, booleanType);
+    }
+}
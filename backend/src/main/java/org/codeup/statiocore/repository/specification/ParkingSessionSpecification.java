@@ -0,0 +1,59 @@
+package org.codeup.statiocore.repository.specification;
+
+import jakarta.persistence.criteria.Fetch;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import org.codeup.statiocore.domain.ParkingSession;
+import org.codeup.statiocore.domain.ParkingSpot;
+import org.codeup.statiocore.repository.projection.SessionCursor;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public class ParkingSessionSpecification {
+
+    // A user's sessions, optionally limited to check-ins within [startDate, endDate] (UTC days)
+    public static Specification<ParkingSession> forUser(UUID userId, LocalDate startDate, LocalDate endDate) {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(criteriaBuilder.equal(root.get("user").get("id"), userId));
+
+            if (startDate != null) {
+                OffsetDateTime startDateTime = startDate.atStartOfDay().atOffset(ZoneOffset.UTC);
+                predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("checkInTime"), startDateTime));
+            }
+
+            if (endDate != null) {
+                OffsetDateTime endDateTime = endDate.plusDays(1).atStartOfDay().atOffset(ZoneOffset.UTC);
+                predicates.add(criteriaBuilder.lessThan(root.get("checkInTime"), endDateTime));
+            }
+
+            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    // Rows strictly after the cursor in (check_in_time DESC, id DESC) order
+    public static Specification<ParkingSession> after(SessionCursor cursor) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.or(
+                criteriaBuilder.lessThan(root.get("checkInTime"), cursor.checkInTime()),
+                criteriaBuilder.and(
+                        criteriaBuilder.equal(root.get("checkInTime"), cursor.checkInTime()),
+                        criteriaBuilder.lessThan(root.get("id"), cursor.id())));
+    }
+
+    // Spot, floor and building in the same select; skipped for count queries
+    public static Specification<ParkingSession> fetchSpotGraph() {
+        return (root, query, criteriaBuilder) -> {
+            if (query != null && query.getResultType() != Long.class && query.getResultType() != long.class) {
+                Fetch<ParkingSession, ParkingSpot> spot = root.fetch("spot", JoinType.LEFT);
+                spot.fetch("floor", JoinType.LEFT).fetch("building", JoinType.LEFT);
+            }
+            return null;
+        };
+    }
+}
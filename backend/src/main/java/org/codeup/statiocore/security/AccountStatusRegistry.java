@@ -0,0 +1,50 @@
+package org.codeup.statiocore.security;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory set of user ids whose accounts are deactivated or deleted.
+ *
+ * Consulted by {@link JwtAuthenticationFilter} on every authenticated request,
+ * so a token issued before deactivation stops working without a database
+ * round trip. Only disabled accounts are stored, which keeps the set small.
+ * Contents are maintained by {@link AccountStatusSynchronizer}.
+ *
+ * @author TonyS-dev
+ */
+@Component
+public class AccountStatusRegistry {
+    private final Set<UUID> disabledUserIds = ConcurrentHashMap.newKeySet();
+
+    public boolean isDisabled(UUID userId) {
+        return userId != null && disabledUserIds.contains(userId);
+    }
+
+    public void update(UUID userId, boolean disabled) {
+        if (disabled) {
+            disabledUserIds.add(userId);
+        } else {
+            disabledUserIds.remove(userId);
+        }
+    }
+
+    /**
+     * Replace the whole set, e.g. after a full reload. Ids missing from
+     * {@code userIds} are re-enabled.
+     */
+    public void replaceAll(Collection<UUID> userIds) {
+        Set<UUID> latest = new HashSet<>(userIds);
+        disabledUserIds.retainAll(latest);
+        disabledUserIds.addAll(latest);
+    }
+
+    public int size() {
+        return disabledUserIds.size();
+    }
+}
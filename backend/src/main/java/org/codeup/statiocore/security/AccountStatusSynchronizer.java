@@ -0,0 +1,90 @@
+package org.codeup.statiocore.security;
+
+import lombok.RequiredArgsConstructor;
+import org.codeup.statiocore.repository.IUserRepository;
+import org.codeup.statiocore.repository.projection.UserStatusRow;
+import org.codeup.statiocore.service.event.UserStatusChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Keeps {@link AccountStatusRegistry} in line with users.is_active / deleted_at.
+ *
+ * The set is loaded in full once the application is ready. Status changes made
+ * on this node are applied after commit from {@link UserStatusChangedEvent};
+ * changes made on other nodes arrive through a periodic delta sync over
+ * users.updated_at. Each sync re-reads a small overlap window so rows committed
+ * late, or stamped by a slightly skewed clock, are not missed.
+ *
+ * @author TonyS-dev
+ */
+@Component
+@RequiredArgsConstructor
+public class AccountStatusSynchronizer {
+    private static final Logger logger = LoggerFactory.getLogger(AccountStatusSynchronizer.class);
+
+    private final IUserRepository userRepository;
+    private final AccountStatusRegistry registry;
+
+    @Value("${security.account-status.sync-overlap-ms:10000}")
+    private long syncOverlapMs;
+
+    // High-water mark of updated_at seen so far; null until the first full load succeeds
+    private volatile OffsetDateTime syncedUpTo;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserStatusChanged(UserStatusChangedEvent event) {
+        registry.update(event.userId(), !event.active());
+    }
+
+    public synchronized void reload() {
+        try {
+            OffsetDateTime startedAt = OffsetDateTime.now();
+            registry.replaceAll(userRepository.findDisabledUserIds());
+            syncedUpTo = startedAt;
+            logger.info("Loaded {} disabled accounts", registry.size());
+        } catch (RuntimeException ex) {
+            // Retried by the next scheduled sync
+            logger.warn("Loading disabled accounts failed: {}", ex.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${security.account-status.sync-interval-ms:30000}",
+               initialDelayString = "${security.account-status.sync-interval-ms:30000}")
+    public synchronized void syncChanges() {
+        OffsetDateTime since = syncedUpTo;
+        if (since == null) {
+            reload();
+            return;
+        }
+        try {
+            List<UserStatusRow> changed = userRepository.findStatusChangedSince(
+                    since.minus(Duration.ofMillis(syncOverlapMs)));
+            OffsetDateTime newest = since;
+            for (UserStatusRow row : changed) {
+                registry.update(row.id(), row.disabled());
+                if (row.updatedAt() != null && row.updatedAt().isAfter(newest)) {
+                    newest = row.updatedAt();
+                }
+            }
+            syncedUpTo = newest;
+        } catch (RuntimeException ex) {
+            logger.warn("Disabled account sync failed: {}", ex.getMessage());
+        }
+    }
+}
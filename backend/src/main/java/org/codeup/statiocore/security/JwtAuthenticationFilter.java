@@ -1,56 +1,60 @@
 package org.codeup.statiocore.security;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import javax.crypto.SecretKey;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.util.Collections;
-import java.util.UUID;
 
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    private final JwtTokenVerifier tokenVerifier;
+    private final AccountStatusRegistry accountStatusRegistry;
+
+    public JwtAuthenticationFilter(@Value("${jwt.secret}") String jwtSecret,
+                                   @Value("${jwt.verified-token-cache-size:10000}") long verifiedTokenCacheSize,
+                                   AccountStatusRegistry accountStatusRegistry) {
+        // Key and parser are built once; verified tokens are cached until they expire
+        this.tokenVerifier = new JwtTokenVerifier(jwtSecret, verifiedTokenCacheSize);
+        this.accountStatusRegistry = accountStatusRegistry;
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
-        try {
-            String jwt = getJwtFromRequest(request);
+        String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && validateToken(jwt)) {
-                Claims claims = getClaimsFromToken(jwt);
-                String userId = claims.getSubject();
-                String role = claims.get("role", String.class);
+        if (StringUtils.hasText(jwt)) {
+            try {
+                JwtTokenVerifier.VerifiedToken token = tokenVerifier.verify(jwt);
+                if (accountStatusRegistry.isDisabled(token.userId())) {
+                    // Valid signature, but the account was deactivated after the token was issued
+                    logger.debug("Rejected JWT of disabled user " + token.userId());
+                    filterChain.doFilter(request, response);
+                    return;
+                }
 
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                        UUID.fromString(userId),
+                        token.userId(),
                         null,
-                        Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role)));
+                        token.authorities());
 
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authentication);
+            } catch (JwtException | IllegalArgumentException ex) {
+                // Expected for expired or forged tokens; the entry point answers 401 without a stack trace
+                logger.debug("Rejected JWT: " + ex.getMessage());
             }
-        } catch (Exception ex) {
-            logger.error("Could not set user authentication in security context", ex);
         }
 
         filterChain.doFilter(request, response);
@@ -63,27 +67,4 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         return null;
     }
-
-    private boolean validateToken(String token) {
-        try {
-            SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (Exception ex) {
-            logger.error("Invalid JWT token", ex);
-        }
-        return false;
-    }
-
-    private Claims getClaimsFromToken(String token) {
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
 }
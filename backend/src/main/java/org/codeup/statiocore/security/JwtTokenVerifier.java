@@ -0,0 +1,130 @@
+package org.codeup.statiocore.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Verifies JWTs with a signing key and parser built once, and remembers
+ * tokens that already passed verification.
+ *
+ * Verified tokens are cached by their SHA-256 digest (the raw token is never
+ * kept) until the token's own expiry, so repeated requests with the same
+ * token skip the HMAC check and claims parsing. The cache is bounded; an
+ * evicted token is simply verified again.
+ *
+ * @author TonyS-dev
+ */
+public class JwtTokenVerifier {
+
+    private final JwtParser parser;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+    private final Clock clock;
+
+    public JwtTokenVerifier(String secret, long maximumCachedTokens) {
+        this(secret, maximumCachedTokens, Clock.systemUTC());
+    }
+
+    // Clock shared by the expiry checks of the parser and the cache, replaceable in tests
+    JwtTokenVerifier(String secret, long maximumCachedTokens, Clock clock) {
+        this.clock = clock;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+                .setClock(() -> Date.from(clock.instant()))
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maximumCachedTokens)
+                .expireAfter(new UntilTokenExpiry(clock))
+                .build();
+    }
+
+    /**
+     * Principal and authorities for a valid token.
+     *
+     * @throws JwtException if the token is malformed, tampered with or expired
+     */
+    public VerifiedToken verify(String token) {
+        String digest = digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null && cached.expiresAt().isAfter(clock.instant())) {
+            return cached;
+        }
+
+        VerifiedToken verified = parse(token);
+        verifiedTokens.put(digest, verified);
+        return verified;
+    }
+
+    // Full signature check and claims parsing, bypassing the cache
+    VerifiedToken parse(String token) {
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        String role = claims.get("role", String.class);
+        if (claims.getSubject() == null || role == null) {
+            throw new JwtException("Token is missing subject or role");
+        }
+        Date expiration = claims.getExpiration();
+        return new VerifiedToken(
+                UUID.fromString(claims.getSubject()),
+                List.of(new SimpleGrantedAuthority("ROLE_" + role)),
+                expiration != null ? expiration.toInstant() : Instant.MAX);
+    }
+
+    public void invalidateAll() {
+        verifiedTokens.invalidateAll();
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    /**
+     * Outcome of a successful verification.
+     */
+    public record VerifiedToken(UUID userId, List<GrantedAuthority> authorities, Instant expiresAt) {
+    }
+
+    // Each entry lives exactly until its token expires
+    private record UntilTokenExpiry(Clock clock) implements Expiry<String, VerifiedToken> {
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            if (value.expiresAt().equals(Instant.MAX)) {
+                return Long.MAX_VALUE;
+            }
+            long millis = value.expiresAt().toEpochMilli() - clock.millis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, millis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
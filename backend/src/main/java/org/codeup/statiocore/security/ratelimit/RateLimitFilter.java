@@ -0,0 +1,152 @@
+package org.codeup.statiocore.security.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throttles clients per route group and sheds load when the database pool is saturated.
+ *
+ * Runs right after JwtAuthenticationFilter: authenticated requests are
+ * budgeted per user id, anonymous ones per client IP. Each (group, client)
+ * pair has its own {@link TokenBucket}; buckets live in a bounded Caffeine
+ * cache so a flood of distinct clients cannot exhaust memory. Exhausted
+ * buckets answer 429, a saturated Hikari pool answers 503 for sheddable
+ * groups; both carry Retry-After. Paths outside every group are not limited.
+ *
+ * @author TonyS-dev
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final long SHED_RETRY_AFTER_SECONDS = 1;
+
+    private final RateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final HikariDataSource hikariDataSource;
+    private final MeterRegistry meterRegistry;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Cache<String, TokenBucket> buckets;
+
+    public RateLimitFilter(RateLimitProperties properties, ObjectMapper objectMapper,
+                           DataSource dataSource, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.hikariDataSource = unwrapHikari(dataSource);
+        this.meterRegistry = meterRegistry;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxTrackedClients())
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RateLimitProperties.Group group = matchGroup(request.getRequestURI());
+        if (group == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (group.isShedUnderLoad() && poolSaturated()) {
+            reject(response, request, group, HttpStatus.SERVICE_UNAVAILABLE, SHED_RETRY_AFTER_SECONDS,
+                    "The service is under heavy load. Please retry shortly.");
+            return;
+        }
+
+        String key = group.getName() + '|' + clientKey(request);
+        TokenBucket bucket = buckets.get(key, k -> new TokenBucket(group.getCapacity(), group.getRefillPerSecond()));
+        long waitNanos = bucket.tryConsume();
+        if (waitNanos > 0) {
+            long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+            reject(response, request, group, HttpStatus.TOO_MANY_REQUESTS, retryAfter,
+                    "Too many requests. Please slow down.");
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private RateLimitProperties.Group matchGroup(String path) {
+        for (RateLimitProperties.Group group : properties.getGroups()) {
+            for (String pattern : group.getPatterns()) {
+                if (pathMatcher.match(pattern, path)) {
+                    return group;
+                }
+            }
+        }
+        return null;
+    }
+
+    // Authenticated principal (user id) when present, client address otherwise
+    private static String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !"anonymousUser".equals(authentication.getPrincipal())) {
+            return "user:" + authentication.getPrincipal();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private boolean poolSaturated() {
+        if (hikariDataSource == null) {
+            return false;
+        }
+        HikariPoolMXBean pool = hikariDataSource.getHikariPoolMXBean();
+        return pool != null && pool.getThreadsAwaitingConnection() >= properties.getShedWhenThreadsAwaitingConnection();
+    }
+
+    private void reject(HttpServletResponse response, HttpServletRequest request, RateLimitProperties.Group group,
+                        HttpStatus status, long retryAfterSeconds, String detail) throws IOException {
+        meterRegistry.counter("http.server.requests.rejected",
+                "group", group.getName(), "status", String.valueOf(status.value())).increment();
+
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType("application/problem+json");
+
+        ProblemDetail pd = ProblemDetail.forStatusAndDetail(status, detail);
+        pd.setTitle(status.getReasonPhrase());
+        pd.setProperty("timestamp", Instant.now());
+        pd.setProperty("path", request.getRequestURI());
+
+        response.getWriter().write(objectMapper.writeValueAsString(pd));
+    }
+
+    private static HikariDataSource unwrapHikari(DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource hikari) {
+            return hikari;
+        }
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package org.codeup.statiocore.security.ratelimit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-route-group request budgets, bound from {@code rate-limit.*}.
+ * Groups are matched in order; the first group whose pattern matches the path applies.
+ */
+@Data
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+
+    // Upper bound on tracked buckets (clients x groups); idle buckets are dropped first
+    private long maxTrackedClients = 100_000;
+
+    // Shed sheddable groups with 503 once this many threads are waiting for a database connection
+    private int shedWhenThreadsAwaitingConnection = 5;
+
+    private List<Group> groups = new ArrayList<>();
+
+    @Data
+    public static class Group {
+        private String name;
+        private List<String> patterns = new ArrayList<>();
+        // Burst size
+        private long capacity = 60;
+        // Sustained requests per second
+        private double refillPerSecond = 10;
+        // Whether requests in this group are rejected first when the connection pool is saturated
+        private boolean shedUnderLoad = true;
+    }
+}
@@ -0,0 +1,56 @@
+package org.codeup.statiocore.security.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token bucket.
+ *
+ * The bucket state (available tokens, last refill time) is an immutable
+ * snapshot swapped with compare-and-set, so concurrent requests from the same
+ * client never block each other. Tokens refill continuously at a fixed rate
+ * up to the capacity.
+ */
+public final class TokenBucket {
+
+    private final double capacity;
+    private final double refillPerNano;
+    private final LongSupplier nanoTime;
+    private final AtomicReference<State> state;
+
+    public TokenBucket(long capacity, double refillPerSecond) {
+        this(capacity, refillPerSecond, System::nanoTime);
+    }
+
+    // Time source replaceable in tests
+    TokenBucket(long capacity, double refillPerSecond, LongSupplier nanoTime) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.nanoTime = nanoTime;
+        this.state = new AtomicReference<>(new State(capacity, nanoTime.getAsLong()));
+    }
+
+    /**
+     * Take one token.
+     *
+     * @return 0 if a token was taken, otherwise the nanoseconds until one becomes available
+     */
+    public long tryConsume() {
+        while (true) {
+            State current = state.get();
+            long now = nanoTime.getAsLong();
+            double tokens = Math.min(capacity, current.tokens() + (now - current.timestamp()) * refillPerNano);
+
+            if (tokens < 1) {
+                return refillPerNano > 0 ? (long) Math.ceil((1 - tokens) / refillPerNano) : Long.MAX_VALUE;
+            }
+            if (state.compareAndSet(current, new State(tokens - 1, now))) {
+                return 0;
+            }
+        }
+    }
+
+    private record State(double tokens, long timestamp) {
+    }
+}
@@ -0,0 +1,19 @@
+package org.codeup.statiocore.service;
+
+import java.util.List;
+
+/**
+ * One slice of a keyset-paginated listing, independent of the web layer.
+ *
+ * nextCursor is the opaque position after the last item and is null on the
+ * last slice. totalElements is null when the listing did not count its rows
+ * for this slice; controllers map it to their response type.
+ *
+ * @author TonyS-dev
+ */
+public record CursorSlice<T>(List<T> items, String nextCursor, Long totalElements) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
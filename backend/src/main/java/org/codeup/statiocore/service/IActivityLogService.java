@@ -1,13 +1,14 @@
 package org.codeup.statiocore.service;
 
 import org.codeup.statiocore.domain.ActivityLog;
+import org.codeup.statiocore.domain.ActivityPayload;
 import org.codeup.statiocore.domain.User;
 
 import java.util.List;
 import java.util.UUID;
 
 public interface IActivityLogService {
-    void log(User user, String action, String details);
+    void log(User user, String action, ActivityPayload payload);
     List<ActivityLog> getUserLogs(UUID userId);
 }
 
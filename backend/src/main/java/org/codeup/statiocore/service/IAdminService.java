@@ -8,6 +8,7 @@ import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface IAdminService {
     AdminDashboardResponse getDashboard();
@@ -27,7 +28,7 @@ public interface IAdminService {
     FloorResponse createFloor(FloorRequest request);
     FloorResponse updateFloor(UUID floorId, FloorRequest request);
     void deleteFloor(UUID floorId);
-    Page<FloorResponse> getFloorsPaginated(Pageable pageable);
+    CursorSlice<FloorResponse> getFloorsPaginated(String cursor, Pageable pageable);
     
     // Spot CRUD
     List<SpotResponse> getAllSpots();
@@ -35,5 +36,10 @@ public interface IAdminService {
     SpotResponse updateSpot(UUID spotId, SpotRequest request);
     void deleteSpot(UUID spotId);
     Page<SpotResponse> getSpotsPaginated(Pageable pageable);
+
+    // Streaming exports: each element is handed to the sink as it is read
+    void streamAllSpots(Consumer<SpotResponse> sink);
+    void streamAllFloors(Consumer<FloorResponse> sink);
+    void streamAllBuildings(Consumer<BuildingResponse> sink);
 }
 
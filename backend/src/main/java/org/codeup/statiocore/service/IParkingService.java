@@ -6,9 +6,11 @@ import org.codeup.statiocore.domain.User;
 import org.codeup.statiocore.domain.enums.PaymentMethod;
 import org.codeup.statiocore.domain.enums.SpotStatus;
 import org.codeup.statiocore.domain.enums.SpotType;
+import org.codeup.statiocore.repository.projection.SessionCursor;
 import org.codeup.statiocore.web.dto.user.CheckOutResponse;
 import org.codeup.statiocore.web.dto.user.FeeCalculationResponse;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -26,5 +28,18 @@ public interface IParkingService {
     List<ParkingSession> getActiveSessions(UUID userId);
 
     List<ParkingSession> getUserSessions(UUID userId);
+
+    /**
+     * One page of a user's session history, newest check-in first.
+     *
+     * @param after     keyset position from the previous page, or null for the first page
+     * @param startDate optional first check-in day (UTC, inclusive)
+     * @param endDate   optional last check-in day (UTC, inclusive)
+     * @param limit     maximum sessions to return
+     * @return the sessions and the cursor after them; the total matching the date
+     *         filters is only counted for the first page (null afterwards)
+     */
+    CursorSlice<ParkingSession> getUserSessionHistory(UUID userId, SessionCursor after,
+                                                      LocalDate startDate, LocalDate endDate, int limit);
 }
 
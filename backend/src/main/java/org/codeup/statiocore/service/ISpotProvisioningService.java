@@ -0,0 +1,20 @@
+package org.codeup.statiocore.service;
+
+import org.codeup.statiocore.web.dto.admin.BulkSpotRangeRequest;
+import org.codeup.statiocore.web.dto.admin.BulkSpotResult;
+
+import java.io.InputStream;
+
+public interface ISpotProvisioningService {
+    /**
+     * Create (or reuse) a floor and fill it with a numbered range of spots.
+     * Spot numbers that already exist on the floor are reported as row errors.
+     */
+    BulkSpotResult provisionRange(BulkSpotRangeRequest request);
+
+    /**
+     * Import spots from CSV with header {@code floor_id,spot_number,type[,status]}.
+     * Valid rows are inserted; invalid rows are skipped and reported by line number.
+     */
+    BulkSpotResult importCsv(InputStream csv);
+}
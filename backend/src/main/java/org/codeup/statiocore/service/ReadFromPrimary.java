@@ -0,0 +1,29 @@
+package org.codeup.statiocore.service;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * A read that must see the caller's own, just-committed writes.
+ *
+ * ReplicaRoutingDataSource sends read-only transactions to a replica, which
+ * may be up to {@code datasource.routing.max-lag-ms} behind. Reads marked
+ * with this run as a plain (read-write) transaction instead, so they are
+ * routed to the primary. Use it for cache loaders, which run right after a
+ * write evicted their entry, and for reads that follow a write in the same
+ * client flow. Callers that wrap such a read must not open a read-only
+ * transaction around it, since the inner method would join that one.
+ *
+ * @author TonyS-dev
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Transactional
+public @interface ReadFromPrimary {
+}
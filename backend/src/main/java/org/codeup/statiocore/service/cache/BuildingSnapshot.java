@@ -0,0 +1,16 @@
+package org.codeup.statiocore.service.cache;
+
+import org.codeup.statiocore.domain.Building;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Immutable copy of a building held in the long-term "buildings" cache.
+ */
+public record BuildingSnapshot(UUID id, String name, String address, OffsetDateTime createdAt) {
+
+    public static BuildingSnapshot of(Building building) {
+        return new BuildingSnapshot(building.getId(), building.getName(), building.getAddress(), building.getCreatedAt());
+    }
+}
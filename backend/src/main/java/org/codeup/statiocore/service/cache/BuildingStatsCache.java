@@ -0,0 +1,87 @@
+package org.codeup.statiocore.service.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.codeup.statiocore.repository.IBuildingStatsRepository;
+import org.codeup.statiocore.repository.projection.BuildingStats;
+import org.codeup.statiocore.service.event.BuildingInventoryChangedEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Per-building stats backed by the "buildingStats" cache.
+ *
+ * Lookups are bulk: cached entries are served directly and all misses are
+ * resolved with a single aggregate query. Entries are evicted after commit
+ * whenever a {@link BuildingInventoryChangedEvent} is published, on this node
+ * and, through {@link CacheInvalidationBus}, on its peers.
+ *
+ * @author TonyS-dev
+ */
+@Component
+@RequiredArgsConstructor
+public class BuildingStatsCache {
+    static final String CACHE_NAME = "buildingStats";
+
+    private final IBuildingStatsRepository buildingStatsRepository;
+    private final CacheManager cacheManager;
+    private final CacheInvalidationBus invalidationBus;
+
+    public Map<UUID, BuildingStats> getStats(Collection<UUID> buildingIds) {
+        Cache cache = cache();
+        Map<UUID, BuildingStats> result = new HashMap<>();
+        List<UUID> misses = new ArrayList<>();
+
+        for (UUID id : buildingIds) {
+            BuildingStats cached = cache.get(id, BuildingStats.class);
+            if (cached != null) {
+                result.put(id, cached);
+            } else {
+                misses.add(id);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            // A read-only transaction may be served by a replica that has not replayed the
+            // write behind this miss yet; its stats are returned but not cached
+            boolean cacheable = !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+            for (BuildingStats stats : buildingStatsRepository.findStatsByBuildingIds(misses)) {
+                if (cacheable) {
+                    cache.put(stats.buildingId(), stats);
+                }
+                result.put(stats.buildingId(), stats);
+            }
+        }
+        return result;
+    }
+
+    public BuildingStats getStats(UUID buildingId) {
+        return getStats(List.of(buildingId)).getOrDefault(buildingId, BuildingStats.empty(buildingId));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInventoryChanged(BuildingInventoryChangedEvent event) {
+        if (event.buildingId() == null) {
+            invalidationBus.clear(CACHE_NAME);
+        } else {
+            invalidationBus.evict(CACHE_NAME, event.buildingId());
+        }
+    }
+
+    private Cache cache() {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            throw new IllegalStateException("Cache '" + CACHE_NAME + "' is not configured");
+        }
+        return cache;
+    }
+}
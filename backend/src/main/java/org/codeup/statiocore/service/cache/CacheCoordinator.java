@@ -0,0 +1,75 @@
+package org.codeup.statiocore.service.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.codeup.statiocore.service.dashboard.AdminDashboardAggregator;
+import org.codeup.statiocore.service.event.BuildingInventoryChangedEvent;
+import org.codeup.statiocore.service.event.PaymentSucceededEvent;
+import org.codeup.statiocore.service.event.ReservationCancelledEvent;
+import org.codeup.statiocore.service.event.ReservationCreatedEvent;
+import org.codeup.statiocore.service.event.SessionCompletedEvent;
+import org.codeup.statiocore.service.event.SessionStartedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+
+/**
+ * Translates domain events into cache invalidation.
+ *
+ * Listeners run after the publishing transaction commits, so a reader can
+ * never re-populate an entry from data that is about to be rolled back or is
+ * not yet visible. Only the affected user's dashboard entry is evicted; the
+ * admin dashboard snapshot, which also supplies the spot counts shown on every
+ * user's dashboard, is recomputed in the background. Evictions go
+ * through {@link CacheInvalidationBus} so peer nodes drop the same entries.
+ *
+ * @author TonyS-dev
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheCoordinator {
+    static final String USER_DASHBOARD = "userDashboard";
+    static final String AVAILABLE_SPOTS = "availableSpots";
+
+    private final CacheInvalidationBus invalidationBus;
+    private final AdminDashboardAggregator dashboardAggregator;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSessionStarted(SessionStartedEvent event) {
+        userChanged(event.userId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSessionCompleted(SessionCompletedEvent event) {
+        userChanged(event.userId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationCreated(ReservationCreatedEvent event) {
+        userChanged(event.userId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationCancelled(ReservationCancelledEvent event) {
+        userChanged(event.userId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPaymentSucceeded(PaymentSucceededEvent event) {
+        userChanged(event.userId());
+    }
+
+    // Spot availability listings are keyed by filters, not by building, so any inventory change clears them
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInventoryChanged(BuildingInventoryChangedEvent event) {
+        invalidationBus.clear(AVAILABLE_SPOTS);
+        dashboardAggregator.scheduleRefresh();
+    }
+
+    private void userChanged(UUID userId) {
+        if (userId != null) {
+            invalidationBus.evict(USER_DASHBOARD, userId);
+        }
+        dashboardAggregator.scheduleRefresh();
+    }
+}
@@ -0,0 +1,149 @@
+package org.codeup.statiocore.service.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.EntityType;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Evicts cache entries on this node and on every peer.
+ *
+ * Callers invoke the bus after their transaction commits (from
+ * {@code @TransactionalEventListener}s), so a peer never evicts before the
+ * change is visible to it. Messages from this node are ignored on receipt;
+ * the local eviction has already happened. Cache names are unique across
+ * the cache managers, so a message names its cache without its manager.
+ *
+ * Hibernate second-level regions (Building, Floor) are node-local too:
+ * Hibernate keeps this node's regions in step with its own writes, and
+ * {@link #evictEntity}/{@link #clearEntity} make peers drop theirs, along with
+ * their query results, whose update timestamps never see another node's writes.
+ *
+ * @author TonyS-dev
+ */
+@Component
+public class CacheInvalidationBus {
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    private final List<CacheManager> cacheManagers;
+    private final CacheInvalidationTransport transport;
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public CacheInvalidationBus(List<CacheManager> cacheManagers, CacheInvalidationTransport transport,
+                                ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        this.cacheManagers = cacheManagers;
+        this.transport = transport;
+        this.entityManagerFactory = entityManagerFactory;
+        transport.subscribe(this::onMessage);
+    }
+
+    public void evict(String cacheName, UUID key) {
+        cache(cacheName).evict(key);
+        publish(new CacheInvalidationMessage(nodeId, cacheName, key));
+    }
+
+    public void clear(String cacheName) {
+        cache(cacheName).clear();
+        publish(new CacheInvalidationMessage(nodeId, cacheName, null));
+    }
+
+    /**
+     * Drop one entity from the second-level cache of every peer.
+     */
+    public void evictEntity(Class<?> entityType, UUID id) {
+        publish(new CacheInvalidationMessage(nodeId, CacheInvalidationMessage.ENTITY_PREFIX + entityType.getName(), id));
+    }
+
+    /**
+     * Drop a whole entity region from the second-level cache of every peer.
+     */
+    public void clearEntity(Class<?> entityType) {
+        publish(new CacheInvalidationMessage(nodeId, CacheInvalidationMessage.ENTITY_PREFIX + entityType.getName(), null));
+    }
+
+    private void publish(CacheInvalidationMessage message) {
+        try {
+            transport.publish(message);
+        } catch (RuntimeException ex) {
+            // The local eviction stands; peers fall back to the cache TTL
+            logger.warn("Publishing cache invalidation for '{}' failed: {}", message.cacheName(), ex.getMessage());
+        }
+    }
+
+    void onMessage(CacheInvalidationMessage message) {
+        if (nodeId.equals(message.origin())) {
+            return;
+        }
+        if (CacheInvalidationMessage.ALL_CACHES.equals(message.cacheName())) {
+            cacheManagers.forEach(manager -> manager.getCacheNames().forEach(name -> manager.getCache(name).clear()));
+            EntityManagerFactory emf = entityManagerFactory.getIfAvailable();
+            if (emf != null) {
+                emf.getCache().evictAll();
+            }
+            return;
+        }
+        if (message.cacheName().startsWith(CacheInvalidationMessage.ENTITY_PREFIX)) {
+            evictSecondLevel(message);
+            return;
+        }
+        Cache cache = find(message.cacheName());
+        if (cache == null) {
+            logger.debug("Ignoring invalidation for unknown cache '{}'", message.cacheName());
+        } else if (message.key() == null) {
+            cache.clear();
+        } else {
+            cache.evict(message.key());
+        }
+    }
+
+    private void evictSecondLevel(CacheInvalidationMessage message) {
+        EntityManagerFactory emf = entityManagerFactory.getIfAvailable();
+        if (emf == null) {
+            return;
+        }
+        String typeName = message.cacheName().substring(CacheInvalidationMessage.ENTITY_PREFIX.length());
+        // Resolved against the mapped entities only; the name comes from the wire
+        Class<?> entityType = emf.getMetamodel().getEntities().stream()
+                .map(EntityType::getJavaType)
+                .filter(type -> type.getName().equals(typeName))
+                .findFirst()
+                .orElse(null);
+        if (entityType == null) {
+            logger.debug("Ignoring invalidation for unknown entity '{}'", typeName);
+            return;
+        }
+        if (message.key() == null) {
+            emf.getCache().evict(entityType);
+        } else {
+            emf.getCache().evict(entityType, message.key());
+        }
+        emf.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+    }
+
+    private Cache find(String name) {
+        for (CacheManager manager : cacheManagers) {
+            Cache cache = manager.getCache(name);
+            if (cache != null) {
+                return cache;
+            }
+        }
+        return null;
+    }
+
+    private Cache cache(String name) {
+        Cache cache = find(name);
+        if (cache == null) {
+            throw new IllegalStateException("Cache '" + name + "' is not configured");
+        }
+        return cache;
+    }
+}
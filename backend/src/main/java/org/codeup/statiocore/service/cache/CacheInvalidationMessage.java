@@ -0,0 +1,36 @@
+package org.codeup.statiocore.service.cache;
+
+import java.util.UUID;
+
+/**
+ * Eviction broadcast to peer nodes.
+ *
+ * A null {@code key} clears the whole cache; the cache name {@link #ALL_CACHES}
+ * clears every cache (sent locally when the transport may have missed messages).
+ * Names starting with {@link #ENTITY_PREFIX} address a Hibernate second-level
+ * entity region by entity class name.
+ * All precisely evicted caches are keyed by UUID, so keys travel as UUID text.
+ * Wire format: {@code origin|cacheName|key} with {@code *} for a null key.
+ */
+public record CacheInvalidationMessage(String origin, String cacheName, UUID key) {
+    public static final String ALL_CACHES = "*";
+    public static final String ENTITY_PREFIX = "entity:";
+    private static final String NO_KEY = "*";
+
+    public static CacheInvalidationMessage clearAll() {
+        return new CacheInvalidationMessage(null, ALL_CACHES, null);
+    }
+
+    public String encode() {
+        return origin + "|" + cacheName + "|" + (key != null ? key : NO_KEY);
+    }
+
+    public static CacheInvalidationMessage decode(String payload) {
+        String[] parts = payload.split("\\|", 3);
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Malformed cache invalidation message: " + payload);
+        }
+        UUID key = NO_KEY.equals(parts[2]) ? null : UUID.fromString(parts[2]);
+        return new CacheInvalidationMessage(parts[0], parts[1], key);
+    }
+}
@@ -0,0 +1,17 @@
+package org.codeup.statiocore.service.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries {@link CacheInvalidationMessage}s between application nodes.
+ * Delivery is best effort; cache TTLs bound the staleness of a lost message.
+ */
+public interface CacheInvalidationTransport {
+
+    void publish(CacheInvalidationMessage message);
+
+    /**
+     * Register the receiver for messages from any node, including this one.
+     */
+    void subscribe(Consumer<CacheInvalidationMessage> listener);
+}
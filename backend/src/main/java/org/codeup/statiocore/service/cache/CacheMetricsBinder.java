@@ -0,0 +1,57 @@
+package org.codeup.statiocore.service.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Binds the Caffeine statistics of every cache in every cache manager to Micrometer.
+ *
+ * Meters are tagged {@code cache} and {@code cache.manager} with the same values
+ * Spring Boot's own cache metrics use, so a cache Boot already bound resolves
+ * to the same meters instead of producing a second series.
+ *
+ * @author TonyS-dev
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheMetricsBinder implements SmartInitializingSingleton {
+    private static final String CACHE_MANAGER_SUFFIX = "cacheManager";
+
+    private final Map<String, CacheManager> cacheManagers;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        cacheManagers.forEach((beanName, cacheManager) -> {
+            Tags tags = Tags.of("cache.manager", managerName(beanName));
+            for (String cacheName : cacheManager.getCacheNames()) {
+                Cache cache = cacheManager.getCache(cacheName);
+                if (cache instanceof CaffeineCache caffeineCache) {
+                    CaffeineCacheMetrics.monitor(meterRegistry, caffeineCache.getNativeCache(), cacheName, tags);
+                }
+            }
+        });
+    }
+
+    /**
+     * Manager tag for a cache manager bean: the bean name without a trailing
+     * "CacheManager" ("longTermCacheManager" becomes "longTerm").
+     */
+    public static String managerName(String beanName) {
+        if (beanName.length() > CACHE_MANAGER_SUFFIX.length()
+                && beanName.regionMatches(true, beanName.length() - CACHE_MANAGER_SUFFIX.length(),
+                        CACHE_MANAGER_SUFFIX, 0, CACHE_MANAGER_SUFFIX.length())) {
+            return beanName.substring(0, beanName.length() - CACHE_MANAGER_SUFFIX.length());
+        }
+        return beanName;
+    }
+}
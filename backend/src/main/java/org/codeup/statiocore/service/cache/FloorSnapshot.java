@@ -0,0 +1,26 @@
+package org.codeup.statiocore.service.cache;
+
+import org.codeup.statiocore.domain.enums.SpotType;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Immutable floor with its spot layout, held per building in the long-term
+ * "floors" cache. Spot status is deliberately absent: it changes on every
+ * check-in and is served by the short-lived caches instead.
+ */
+public record FloorSnapshot(UUID id, UUID buildingId, int floorNumber, OffsetDateTime createdAt, List<SpotLayout> spots) {
+
+    public FloorSnapshot {
+        spots = List.copyOf(spots);
+    }
+
+    public int spotCount() {
+        return spots.size();
+    }
+
+    public record SpotLayout(UUID id, String spotNumber, SpotType type) {
+    }
+}
@@ -0,0 +1,40 @@
+package org.codeup.statiocore.service.cache;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Delivers invalidation messages to every application context in the same JVM.
+ * Stands in for LISTEN/NOTIFY under the H2-backed test profile, so several
+ * contexts in one test behave like separate nodes.
+ *
+ * @author TonyS-dev
+ */
+@Component
+@Profile("test")
+public class InProcessCacheInvalidationTransport implements CacheInvalidationTransport, DisposableBean {
+    private static final List<Consumer<CacheInvalidationMessage>> LISTENERS = new CopyOnWriteArrayList<>();
+
+    private final List<Consumer<CacheInvalidationMessage>> ownListeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(CacheInvalidationMessage message) {
+        LISTENERS.forEach(listener -> listener.accept(message));
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidationMessage> listener) {
+        ownListeners.add(listener);
+        LISTENERS.add(listener);
+    }
+
+    @Override
+    public void destroy() {
+        LISTENERS.removeAll(ownListeners);
+    }
+}
@@ -0,0 +1,47 @@
+package org.codeup.statiocore.service.cache;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Expire-after-write with a random spread, so entries written together
+ * (e.g. after a cache clear) do not all expire in the same instant.
+ */
+public class JitteredExpiry implements Expiry<Object, Object> {
+    private final long baseNanos;
+    private final long spreadNanos;
+
+    /**
+     * @param ttl    mean time to live
+     * @param jitter fraction of {@code ttl} added or subtracted at random, e.g. 0.1 for ±10%
+     */
+    public JitteredExpiry(Duration ttl, double jitter) {
+        this.baseNanos = ttl.toNanos();
+        this.spreadNanos = (long) (baseNanos * jitter);
+    }
+
+    @Override
+    public long expireAfterCreate(Object key, Object value, long currentTime) {
+        return nextTtl();
+    }
+
+    @Override
+    public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+        // A refresh replaces the value and starts a new lifetime
+        return nextTtl();
+    }
+
+    @Override
+    public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+
+    private long nextTtl() {
+        if (spreadNanos == 0) {
+            return baseNanos;
+        }
+        return baseNanos + ThreadLocalRandom.current().nextLong(-spreadNanos, spreadNanos + 1);
+    }
+}
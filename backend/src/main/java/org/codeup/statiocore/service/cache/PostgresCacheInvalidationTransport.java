@@ -0,0 +1,153 @@
+package org.codeup.statiocore.service.cache;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Cache invalidation over Postgres LISTEN/NOTIFY.
+ *
+ * Messages are sent with pg_notify on a pooled connection. Receiving uses one
+ * dedicated connection opened outside the Hikari pool, because a LISTEN
+ * session has to stay open for the life of the node. Notifications sent while
+ * that connection is down are lost, so every reconnect clears all local caches.
+ *
+ * @author TonyS-dev
+ */
+@Component
+@Profile("!test")
+public class PostgresCacheInvalidationTransport implements CacheInvalidationTransport, SmartLifecycle {
+    private static final Logger logger = LoggerFactory.getLogger(PostgresCacheInvalidationTransport.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final List<Consumer<CacheInvalidationMessage>> listeners = new CopyOnWriteArrayList<>();
+
+    @Value("${cache.invalidation.channel:cache_invalidation}")
+    private String channel;
+
+    @Value("${cache.invalidation.poll-timeout-ms:500}")
+    private int pollTimeoutMs;
+
+    @Value("${cache.invalidation.reconnect-delay-ms:5000}")
+    private long reconnectDelayMs;
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    public PostgresCacheInvalidationTransport(JdbcTemplate jdbcTemplate, DataSourceProperties dataSourceProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSourceProperties = dataSourceProperties;
+    }
+
+    @Override
+    public void publish(CacheInvalidationMessage message) {
+        // Callers publish from AFTER_COMMIT listeners: the change is already committed and the connection is
+        // back in auto-commit, so the notification is sent right away, after the change it describes
+        jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", channel, message.encode());
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidationMessage> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        listenerThread = new Thread(this::listen, "cache-invalidation-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection connection = openListenerConnection()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                if (reconnecting) {
+                    dispatch(CacheInvalidationMessage.clearAll());
+                }
+                reconnecting = true;
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMs);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            receive(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException ex) {
+                if (!running) {
+                    return;
+                }
+                logger.warn("Cache invalidation listener lost its connection: {}", ex.getMessage());
+                reconnecting = true;
+                try {
+                    Thread.sleep(reconnectDelayMs);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    // Outside the pool: the LISTEN session lives as long as the node
+    Connection openListenerConnection() throws SQLException {
+        return DriverManager.getConnection(
+                dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(),
+                dataSourceProperties.determinePassword());
+    }
+
+    private void receive(String payload) {
+        try {
+            dispatch(CacheInvalidationMessage.decode(payload));
+        } catch (IllegalArgumentException ex) {
+            logger.warn("Ignoring cache invalidation message: {}", ex.getMessage());
+        }
+    }
+
+    private void dispatch(CacheInvalidationMessage message) {
+        for (Consumer<CacheInvalidationMessage> listener : listeners) {
+            try {
+                listener.accept(message);
+            } catch (RuntimeException ex) {
+                logger.warn("Applying cache invalidation for '{}' failed: {}", message.cacheName(), ex.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package org.codeup.statiocore.service.cache;
+
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.codeup.statiocore.domain.Building;
+import org.codeup.statiocore.domain.Floor;
+import org.codeup.statiocore.service.event.BuildingChangedEvent;
+import org.codeup.statiocore.service.event.BuildingInventoryChangedEvent;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Buildings and their floor/spot layouts served from the long-term cache manager.
+ *
+ * Both caches are Caffeine loading caches (see CacheConfig): a miss loads
+ * through {@link ReferenceDataLoader}, and entries older than the refresh
+ * interval are reloaded in the background while callers keep getting the
+ * current snapshot. Admin changes evict precisely after commit: a building
+ * change drops the building list and that building's floors, a layout change
+ * drops only the floors of the affected building. Occupancy changes leave
+ * both caches alone. The same changes evict the Building and Floor
+ * second-level regions on peer nodes.
+ *
+ * @author TonyS-dev
+ */
+@Component
+public class ReferenceDataCache {
+    static final String BUILDINGS = "buildings";
+    static final String FLOORS = "floors";
+    private static final String ALL_BUILDINGS = "all";
+
+    private final CacheManager longTermCacheManager;
+    private final CacheInvalidationBus invalidationBus;
+
+    public ReferenceDataCache(@Qualifier("longTermCacheManager") CacheManager longTermCacheManager,
+                              CacheInvalidationBus invalidationBus) {
+        this.longTermCacheManager = longTermCacheManager;
+        this.invalidationBus = invalidationBus;
+    }
+
+    /**
+     * All buildings ordered by name.
+     */
+    @SuppressWarnings("unchecked")
+    public List<BuildingSnapshot> buildings() {
+        return (List<BuildingSnapshot>) cache(BUILDINGS).get(ALL_BUILDINGS, List.class);
+    }
+
+    /**
+     * Floors of a building ordered by floor number, each with its spot layout.
+     */
+    @SuppressWarnings("unchecked")
+    public List<FloorSnapshot> floors(UUID buildingId) {
+        return (List<FloorSnapshot>) cache(FLOORS).get(buildingId, List.class);
+    }
+
+    /**
+     * Floors of several buildings; missing entries are loaded together in one query.
+     */
+    @SuppressWarnings("unchecked")
+    public Map<UUID, List<FloorSnapshot>> floors(Collection<UUID> buildingIds) {
+        if (cache(FLOORS).getNativeCache() instanceof LoadingCache<?, ?> loading) {
+            return (Map<UUID, List<FloorSnapshot>>) (Map<?, ?>) ((LoadingCache<Object, Object>) loading).getAll(buildingIds);
+        }
+        Map<UUID, List<FloorSnapshot>> floors = new HashMap<>();
+        buildingIds.forEach(id -> floors.put(id, floors(id)));
+        return floors;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBuildingChanged(BuildingChangedEvent event) {
+        invalidationBus.clear(BUILDINGS);
+        invalidationBus.evict(FLOORS, event.buildingId());
+        invalidationBus.evictEntity(Building.class, event.buildingId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInventoryChanged(BuildingInventoryChangedEvent event) {
+        if (!event.layoutChanged()) {
+            return;
+        }
+        // Floor ids are not on the event; layout changes are rare, so peers drop the whole region
+        invalidationBus.clearEntity(Floor.class);
+        if (event.buildingId() == null) {
+            invalidationBus.clear(FLOORS);
+        } else {
+            invalidationBus.evict(FLOORS, event.buildingId());
+        }
+    }
+
+    private Cache cache(String name) {
+        Cache cache = longTermCacheManager.getCache(name);
+        if (cache == null) {
+            throw new IllegalStateException("Cache '" + name + "' is not configured");
+        }
+        return cache;
+    }
+}
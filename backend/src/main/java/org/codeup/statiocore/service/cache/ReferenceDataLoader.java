@@ -0,0 +1,68 @@
+package org.codeup.statiocore.service.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.codeup.statiocore.repository.IBuildingRepository;
+import org.codeup.statiocore.repository.IFloorRepository;
+import org.codeup.statiocore.repository.projection.FloorLayoutRow;
+import org.codeup.statiocore.service.ReadFromPrimary;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Loads the building → floor → spot layout hierarchy for the long-term caches.
+ * Called by Caffeine on a miss and in the background on refreshAfterWrite;
+ * reads the primary, since a miss is usually caused by an admin edit.
+ *
+ * @author TonyS-dev
+ */
+@Component
+@RequiredArgsConstructor
+@ReadFromPrimary
+public class ReferenceDataLoader {
+    private final IBuildingRepository buildingRepository;
+    private final IFloorRepository floorRepository;
+
+    public List<BuildingSnapshot> loadBuildings() {
+        return buildingRepository.findAll(Sort.by("name")).stream()
+                .map(BuildingSnapshot::of)
+                .toList();
+    }
+
+    public List<FloorSnapshot> loadFloors(UUID buildingId) {
+        return loadFloors(List.of(buildingId)).get(buildingId);
+    }
+
+    /**
+     * Layouts of several buildings in one query (cold-cache bulk load);
+     * every requested building is in the result, with an empty list if it has no floors.
+     */
+    public Map<UUID, List<FloorSnapshot>> loadFloors(Collection<UUID> buildingIds) {
+        // Rows arrive ordered by building, floor number, then spot number; group them without re-sorting
+        Map<UUID, FloorLayoutRow> floors = new LinkedHashMap<>();
+        Map<UUID, List<FloorSnapshot.SpotLayout>> spots = new LinkedHashMap<>();
+        for (FloorLayoutRow row : floorRepository.findLayoutByBuildingIds(buildingIds)) {
+            floors.putIfAbsent(row.floorId(), row);
+            List<FloorSnapshot.SpotLayout> floorSpots = spots.computeIfAbsent(row.floorId(), id -> new ArrayList<>());
+            if (row.spotId() != null) {
+                floorSpots.add(new FloorSnapshot.SpotLayout(row.spotId(), row.spotNumber(), row.spotType()));
+            }
+        }
+
+        Map<UUID, List<FloorSnapshot>> byBuilding = new HashMap<>();
+        buildingIds.forEach(id -> byBuilding.put(id, new ArrayList<>()));
+        for (FloorLayoutRow row : floors.values()) {
+            byBuilding.get(row.buildingId()).add(new FloorSnapshot(row.floorId(), row.buildingId(),
+                    row.floorNumber(), row.floorCreatedAt(), spots.get(row.floorId())));
+        }
+        byBuilding.replaceAll((id, list) -> List.copyOf(list));
+        return byBuilding;
+    }
+}
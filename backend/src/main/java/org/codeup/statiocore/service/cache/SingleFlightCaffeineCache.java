@@ -0,0 +1,65 @@
+package org.codeup.statiocore.service.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Spring cache over a Caffeine {@link AsyncCache}.
+ *
+ * Caffeine keeps one in-flight future per key, so concurrent misses wait for
+ * a single load instead of each running the query. Requests that joined a load
+ * already in progress are counted in {@code cache.requests.coalesced}.
+ * Loads through a {@code @Cacheable(sync = true)} value loader are timed in
+ * {@code cache.loads}, the same timer CacheConfig records loader refreshes in.
+ *
+ * @author TonyS-dev
+ */
+public class SingleFlightCaffeineCache extends CaffeineCache {
+    private final Counter coalesced;
+    private final Timer loads;
+
+    public SingleFlightCaffeineCache(String name, AsyncCache<Object, Object> cache, MeterRegistry meterRegistry) {
+        super(name, cache, true);
+        this.coalesced = Counter.builder("cache.requests.coalesced")
+                .description("Cache requests that waited on a load already in flight")
+                .tag("cache", name)
+                .register(meterRegistry);
+        this.loads = loadTimer(name, meterRegistry);
+    }
+
+    /**
+     * Time spent loading entries of a cache, whether through its CacheLoader or a value loader.
+     */
+    public static Timer loadTimer(String cacheName, MeterRegistry meterRegistry) {
+        return Timer.builder("cache.loads")
+                .description("Time spent loading or refreshing a cache entry")
+                .tag("cache", cacheName)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        countIfLoading(key);
+        return super.lookup(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        countIfLoading(key);
+        // Only runs on a miss; requests joining an in-flight load are not timed again
+        return super.get(key, () -> loads.recordCallable(valueLoader));
+    }
+
+    private void countIfLoading(Object key) {
+        CompletableFuture<Object> pending = getAsyncCache().getIfPresent(key);
+        if (pending != null && !pending.isDone()) {
+            coalesced.increment();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package org.codeup.statiocore.service.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.codeup.statiocore.domain.ParkingSpot;
+import org.codeup.statiocore.domain.enums.SpotStatus;
+import org.codeup.statiocore.domain.enums.SpotType;
+import org.codeup.statiocore.repository.IParkingSpotRepository;
+import org.codeup.statiocore.repository.specification.ParkingSpotSpecification;
+import org.codeup.statiocore.service.ReadFromPrimary;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spot availability queries behind the "availableSpots" cache.
+ *
+ * {@link #load(Object)} rebuilds an entry from its cache key, which lets
+ * Caffeine refresh entries in the background without going through the
+ * {@code @Cacheable} service methods. A load usually follows a write that
+ * evicted the entry, so loads read from the primary rather than a replica
+ * that may not have replayed that write yet.
+ *
+ * @author TonyS-dev
+ */
+@Component
+@RequiredArgsConstructor
+@ReadFromPrimary
+public class SpotAvailabilityLoader {
+    // Cache key of ParkingServiceImpl.getAvailableSpots()
+    public static final String ALL_UNRESERVED = "all";
+
+    private final IParkingSpotRepository spotRepository;
+
+    public List<ParkingSpot> loadUnreserved() {
+        return spotRepository.findByStatusAndReservedByIsNull(SpotStatus.AVAILABLE);
+    }
+
+    public List<ParkingSpot> load(UUID buildingId, UUID floorId, SpotType type, SpotStatus status) {
+        SpotStatus filterStatus = status != null ? status : SpotStatus.AVAILABLE;
+        return spotRepository.findAll(
+            ParkingSpotSpecification.withFilters(buildingId, floorId, type, filterStatus)
+        );
+    }
+
+    /**
+     * Load by cache key: {@link #ALL_UNRESERVED}, or the filter list
+     * {@code [buildingId, floorId, type, status]} built by the {@code @Cacheable} key expression.
+     */
+    public List<ParkingSpot> load(Object key) {
+        if (key instanceof List<?> filters && filters.size() == 4) {
+            return load((UUID) filters.get(0), (UUID) filters.get(1),
+                    (SpotType) filters.get(2), (SpotStatus) filters.get(3));
+        }
+        if (ALL_UNRESERVED.equals(key)) {
+            return loadUnreserved();
+        }
+        throw new IllegalArgumentException("Unsupported availableSpots key: " + key);
+    }
+}
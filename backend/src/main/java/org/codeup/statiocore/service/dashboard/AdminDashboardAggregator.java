@@ -0,0 +1,139 @@
+package org.codeup.statiocore.service.dashboard;
+
+import lombok.RequiredArgsConstructor;
+import org.codeup.statiocore.exception.ServiceUnavailableException;
+import org.codeup.statiocore.repository.AdminDashboardRepository;
+import org.codeup.statiocore.repository.projection.AdminDashboardStats;
+import org.codeup.statiocore.web.dto.admin.AdminDashboardResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps the admin dashboard as an immutable snapshot.
+ *
+ * The snapshot is recomputed in the background (fixed delay, or on demand
+ * after data changes) and swapped atomically; once the first snapshot exists,
+ * readers only dereference it and never wait for the aggregate query.
+ *
+ * @author TonyS-dev
+ */
+@Component
+@RequiredArgsConstructor
+public class AdminDashboardAggregator {
+    private static final Logger logger = LoggerFactory.getLogger(AdminDashboardAggregator.class);
+    private static final long FIRST_SNAPSHOT_RETRY_SECONDS = 5;
+
+    private final AdminDashboardRepository dashboardRepository;
+    private final TaskScheduler taskScheduler;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final AtomicBoolean refreshQueued = new AtomicBoolean(false);
+
+    /**
+     * Current dashboard, annotated with when it was computed and how stale it is.
+     * Before the first successful refresh the snapshot is computed on the caller's
+     * thread; if that fails too, the dashboard is reported as unavailable (503).
+     */
+    public AdminDashboardResponse current() {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            current = loadFirstSnapshot();
+        }
+        return toResponse(current.stats(), current.computedAt());
+    }
+
+    // Concurrent cold readers wait for one computation instead of each running the query
+    private synchronized Snapshot loadFirstSnapshot() {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            refresh();
+            current = snapshot.get();
+        }
+        if (current == null) {
+            throw new ServiceUnavailableException(
+                    "The dashboard is not available yet. Please retry shortly.", FIRST_SNAPSHOT_RETRY_SECONDS);
+        }
+        return current;
+    }
+
+    /**
+     * Schedule an asynchronous refresh. Inside a transaction the refresh waits for
+     * the commit; concurrent requests collapse into a single recomputation.
+     */
+    public void requestRefresh() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    scheduleRefresh();
+                }
+            });
+        } else {
+            scheduleRefresh();
+        }
+    }
+
+    /**
+     * Schedule an asynchronous refresh right away, without deferring to a transaction.
+     * Meant for callers that already run after commit (e.g. transactional event listeners),
+     * where synchronizations registered late would never fire.
+     */
+    public void scheduleRefresh() {
+        if (refreshQueued.compareAndSet(false, true)) {
+            taskScheduler.schedule(() -> {
+                refreshQueued.set(false);
+                refresh();
+            }, Instant.now());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${dashboard.refresh-interval-ms:15000}",
+               initialDelayString = "${dashboard.refresh-interval-ms:15000}")
+    public void refresh() {
+        try {
+            AdminDashboardStats stats = dashboardRepository.loadStats();
+            snapshot.set(new Snapshot(stats, OffsetDateTime.now()));
+        } catch (RuntimeException ex) {
+            // Keep serving the previous snapshot; staleness tells the client how old it is
+            logger.warn("Admin dashboard refresh failed: {}", ex.getMessage());
+        }
+    }
+
+    private AdminDashboardResponse toResponse(AdminDashboardStats stats, OffsetDateTime computedAt) {
+        return AdminDashboardResponse.builder()
+                .totalUsers(stats.totalUsers())
+                .totalAdmins(stats.totalAdmins())
+                .activeUsers(stats.activeUsers())
+                .totalSpots(stats.totalSpots())
+                .occupiedSpots(stats.occupiedSpots())
+                .availableSpots(stats.availableSpots())
+                .activeSessions(stats.activeSessions())
+                .totalReservations(stats.totalReservations())
+                .totalPayments(stats.totalPayments())
+                .totalRevenue(stats.totalRevenue())
+                .generatedAt(computedAt)
+                .stalenessSeconds(Duration.between(computedAt, OffsetDateTime.now()).toSeconds())
+                .build();
+    }
+
+    private record Snapshot(AdminDashboardStats stats, OffsetDateTime computedAt) {
+    }
+}
@@ -0,0 +1,93 @@
+package org.codeup.statiocore.service.dashboard;
+
+import lombok.RequiredArgsConstructor;
+import org.codeup.statiocore.domain.enums.SessionStatus;
+import org.codeup.statiocore.repository.UserDashboardRepository;
+import org.codeup.statiocore.repository.projection.RecentActivityRow;
+import org.codeup.statiocore.repository.projection.UserDashboardStats;
+import org.codeup.statiocore.service.ReadFromPrimary;
+import org.codeup.statiocore.web.dto.user.DashboardResponse;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Builds the user's own part of the dashboard from the aggregate queries of
+ * UserDashboardRepository. The system-wide spot counts are left empty: they
+ * change with every other user's check-in, so UserServiceImpl adds them from
+ * the admin dashboard snapshot on each request instead of caching them per user.
+ *
+ * Used as the loader of the "userDashboard" cache, so it runs on a miss and
+ * again in the background when an entry is due for refresh. Reads the primary:
+ * a miss usually follows the user's own check-in or reservation.
+ *
+ * @author TonyS-dev
+ */
+@Component
+@RequiredArgsConstructor
+@ReadFromPrimary
+public class UserDashboardAssembler {
+    private static final int RECENT_SESSIONS = 3;
+    private static final int RECENT_RESERVATIONS = 2;
+    private static final int RECENT_ACTIVITY = 5;
+
+    private final UserDashboardRepository dashboardRepository;
+
+    public DashboardResponse assemble(UUID userId) {
+        // Counts and totals are aggregated in the database; cost no longer grows with the user's history
+        UserDashboardStats stats = dashboardRepository.loadStats(userId);
+
+        BigDecimal totalEarnings = stats.totalAmountDue();
+        BigDecimal averageSessionFee = stats.completedSessions() > 0
+                ? totalEarnings.divide(BigDecimal.valueOf(stats.completedSessions()), 2, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO;
+
+        return DashboardResponse.builder()
+                .activeReservations(stats.activeReservations())
+                .activeSessions(stats.activeSessions())
+                .totalReservations(stats.totalReservations())
+                .totalCompletedSessions(stats.completedSessions())
+                .totalEarnings(totalEarnings)
+                .outstandingFees(BigDecimal.ZERO)
+                .averageSessionFee(averageSessionFee)
+                .recentActivity(buildRecentActivity(userId))
+                .build();
+    }
+
+    private List<DashboardResponse.ActivityRecord> buildRecentActivity(UUID userId) {
+        List<Entry> entries = new ArrayList<>(RECENT_SESSIONS + RECENT_RESERVATIONS);
+        for (RecentActivityRow session : dashboardRepository.findRecentSessions(userId, RECENT_SESSIONS)) {
+            String action = SessionStatus.ACTIVE.name().equals(session.status()) ? "Checked In" : "Checked Out";
+            entries.add(toEntry(action, session));
+        }
+        for (RecentActivityRow reservation : dashboardRepository.findRecentReservations(userId, RECENT_RESERVATIONS)) {
+            entries.add(toEntry("Reserved", reservation));
+        }
+
+        // Most recent first
+        entries.sort(Comparator.comparing(Entry::at, Comparator.nullsLast(Comparator.reverseOrder())));
+        return entries.stream()
+                .limit(RECENT_ACTIVITY)
+                .map(Entry::record)
+                .toList();
+    }
+
+    private static Entry toEntry(String action, RecentActivityRow row) {
+        String buildingName = row.buildingName() != null ? row.buildingName() : "Unknown Location";
+        return new Entry(row.timestamp(), DashboardResponse.ActivityRecord.builder()
+                .action(action)
+                .details("Spot " + row.spotNumber() + " at " + buildingName)
+                .timestamp(row.timestamp() != null ? row.timestamp().format(DateTimeFormatter.ISO_DATE_TIME) : null)
+                .build());
+    }
+
+    private record Entry(OffsetDateTime at, DashboardResponse.ActivityRecord record) {
+    }
+}
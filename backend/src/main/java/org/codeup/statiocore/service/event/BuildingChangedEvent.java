@@ -0,0 +1,9 @@
+package org.codeup.statiocore.service.event;
+
+import java.util.UUID;
+
+/**
+ * Published when a building is created, renamed or deleted.
+ */
+public record BuildingChangedEvent(UUID buildingId) {
+}
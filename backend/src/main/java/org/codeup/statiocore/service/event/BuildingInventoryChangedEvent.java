@@ -0,0 +1,24 @@
+package org.codeup.statiocore.service.event;
+
+import java.util.UUID;
+
+/**
+ * Published when floors or spots of a building change (CRUD, check-in, check-out).
+ * A null building id means the affected building is unknown and all entries are stale.
+ * {@code layoutChanged} is false when only spot occupancy changed, so the cached
+ * floor/spot layout of the building stays valid.
+ */
+public record BuildingInventoryChangedEvent(UUID buildingId, boolean layoutChanged) {
+
+    public BuildingInventoryChangedEvent(UUID buildingId) {
+        this(buildingId, true);
+    }
+
+    public static BuildingInventoryChangedEvent occupancy(UUID buildingId) {
+        return new BuildingInventoryChangedEvent(buildingId, false);
+    }
+
+    public static BuildingInventoryChangedEvent all() {
+        return new BuildingInventoryChangedEvent(null);
+    }
+}
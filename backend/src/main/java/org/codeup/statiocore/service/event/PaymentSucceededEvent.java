@@ -0,0 +1,9 @@
+package org.codeup.statiocore.service.event;
+
+import java.util.UUID;
+
+/**
+ * Published when a payment for a parking session is recorded as successful.
+ */
+public record PaymentSucceededEvent(UUID userId, UUID paymentId, UUID sessionId) {
+}
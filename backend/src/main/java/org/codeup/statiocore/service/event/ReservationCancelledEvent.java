@@ -0,0 +1,9 @@
+package org.codeup.statiocore.service.event;
+
+import java.util.UUID;
+
+/**
+ * Published when a reservation is cancelled.
+ */
+public record ReservationCancelledEvent(UUID userId, UUID reservationId) {
+}
@@ -0,0 +1,9 @@
+package org.codeup.statiocore.service.event;
+
+import java.util.UUID;
+
+/**
+ * Published when a user creates a reservation.
+ */
+public record ReservationCreatedEvent(UUID userId, UUID reservationId, UUID spotId) {
+}
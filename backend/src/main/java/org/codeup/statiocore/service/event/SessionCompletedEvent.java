@@ -0,0 +1,9 @@
+package org.codeup.statiocore.service.event;
+
+import java.util.UUID;
+
+/**
+ * Published when a user checks out and the session's amount due is settled.
+ */
+public record SessionCompletedEvent(UUID userId, UUID sessionId, UUID spotId) {
+}
@@ -0,0 +1,9 @@
+package org.codeup.statiocore.service.event;
+
+import java.util.UUID;
+
+/**
+ * Published when a user checks in to a spot.
+ */
+public record SessionStartedEvent(UUID userId, UUID sessionId, UUID spotId) {
+}
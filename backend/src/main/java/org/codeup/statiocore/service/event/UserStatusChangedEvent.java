@@ -0,0 +1,10 @@
+package org.codeup.statiocore.service.event;
+
+import java.util.UUID;
+
+/**
+ * Published when an admin activates, deactivates or soft deletes a user.
+ * {@code active} is false for any state in which the account must not be used.
+ */
+public record UserStatusChangedEvent(UUID userId, boolean active) {
+}
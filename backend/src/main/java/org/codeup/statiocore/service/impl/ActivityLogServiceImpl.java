@@ -2,6 +2,7 @@ package org.codeup.statiocore.service.impl;
 
 import lombok.RequiredArgsConstructor;
 import org.codeup.statiocore.domain.ActivityLog;
+import org.codeup.statiocore.domain.ActivityPayload;
 import org.codeup.statiocore.domain.User;
 import org.codeup.statiocore.repository.IActivityLogRepository;
 import org.codeup.statiocore.service.IActivityLogService;
@@ -19,11 +20,11 @@ public class ActivityLogServiceImpl implements IActivityLogService {
     private final IActivityLogRepository repository;
 
     @Override
-    public void log(User user, String action, String details) {
+    public void log(User user, String action, ActivityPayload payload) {
         ActivityLog log = ActivityLog.builder()
                 .user(user)
                 .action(action)
-                .details(details)
+                .payload(payload)
                 .createdAt(OffsetDateTime.now())
                 .build();
         repository.save(log);
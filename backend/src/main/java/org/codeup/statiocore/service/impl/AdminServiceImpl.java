@@ -1,32 +1,44 @@
 package org.codeup.statiocore.service.impl;
 
 import java.time.OffsetDateTime;
-import java.util.Comparator;
-import java.util.LinkedHashMap;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.codeup.statiocore.domain.ActivityPayload;
 import org.codeup.statiocore.domain.Building;
 import org.codeup.statiocore.domain.Floor;
 import org.codeup.statiocore.domain.ParkingSpot;
 import org.codeup.statiocore.domain.User;
-import org.codeup.statiocore.domain.enums.PaymentStatus;
 import org.codeup.statiocore.domain.enums.Role;
 import org.codeup.statiocore.domain.enums.SpotStatus;
 import org.codeup.statiocore.domain.enums.SpotType;
-import org.codeup.statiocore.domain.enums.SessionStatus;
 import org.codeup.statiocore.exception.BadRequestException;
+import org.codeup.statiocore.repository.FloorPageRepository;
 import org.codeup.statiocore.repository.IBuildingRepository;
 import org.codeup.statiocore.repository.IFloorRepository;
 import org.codeup.statiocore.repository.IParkingSpotRepository;
 import org.codeup.statiocore.repository.IUserRepository;
-import org.codeup.statiocore.repository.IPaymentRepository;
-import org.codeup.statiocore.repository.IParkingSessionRepository;
-import org.codeup.statiocore.repository.IReservationRepository;
+import org.codeup.statiocore.repository.projection.BuildingStats;
+import org.codeup.statiocore.repository.projection.FloorCursor;
+import org.codeup.statiocore.repository.projection.FloorPageRow;
+import org.codeup.statiocore.repository.projection.FloorStreamRow;
+import org.codeup.statiocore.service.CursorSlice;
 import org.codeup.statiocore.service.IActivityLogService;
 import org.codeup.statiocore.service.IAdminService;
+import org.codeup.statiocore.service.ReadFromPrimary;
+import org.codeup.statiocore.service.cache.BuildingSnapshot;
+import org.codeup.statiocore.service.cache.BuildingStatsCache;
+import org.codeup.statiocore.service.cache.FloorSnapshot;
+import org.codeup.statiocore.service.cache.ReferenceDataCache;
+import org.codeup.statiocore.service.dashboard.AdminDashboardAggregator;
+import org.codeup.statiocore.service.event.BuildingChangedEvent;
+import org.codeup.statiocore.service.event.BuildingInventoryChangedEvent;
+import org.codeup.statiocore.service.event.UserStatusChangedEvent;
 import org.codeup.statiocore.web.dto.admin.AdminDashboardResponse;
 import org.codeup.statiocore.web.dto.admin.BuildingRequest;
 import org.codeup.statiocore.web.dto.admin.BuildingResponse;
@@ -35,15 +47,12 @@ import org.codeup.statiocore.web.dto.admin.FloorResponse;
 import org.codeup.statiocore.web.dto.admin.SpotRequest;
 import org.codeup.statiocore.web.dto.admin.SpotResponse;
 import org.codeup.statiocore.web.mapper.BuildingMapper;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import jakarta.transaction.Transactional;
-
-import java.math.BigDecimal;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -52,55 +61,33 @@ public class AdminServiceImpl implements IAdminService {
     private final IUserRepository userRepository;
     private final IBuildingRepository buildingRepository;
     private final IFloorRepository floorRepository;
+    private final FloorPageRepository floorPageRepository;
     private final IParkingSpotRepository parkingSpotRepository;
-    private final IParkingSessionRepository parkingSessionRepository;
-    private final IPaymentRepository paymentRepository;
-    private final IReservationRepository reservationRepository;
     private final BuildingMapper buildingMapper;
     private final IActivityLogService activityLogService;
+    private final BuildingStatsCache buildingStatsCache;
+    private final ReferenceDataCache referenceDataCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AdminDashboardAggregator dashboardAggregator;
+    private final EntityManager entityManager;
+
+    // Rows kept in the persistence context between clears while streaming exports
+    private static final int STREAM_CHUNK_SIZE = 500;
 
     @Override
-    @Cacheable(value = "adminDashboard")
+    @Transactional(readOnly = true)
     public AdminDashboardResponse getDashboard() {
-        long totalUsers = userRepository.count();
-        long admins = userRepository.findByRole(Role.ADMIN).size();
-        long activeUsers = userRepository.countByIsActive(true);
-        long totalSpots = parkingSpotRepository.count();
-        long occupiedSpots = parkingSpotRepository.countByStatus(SpotStatus.OCCUPIED);
-        long availableSpots = parkingSpotRepository.countByStatusAndReservedByIsNull(SpotStatus.AVAILABLE);
-
-        // Count active sessions and reservations
-        long activeSessions = parkingSessionRepository.countByStatus(SessionStatus.ACTIVE);
-        long totalReservations = reservationRepository.count();
-        long totalPayments = paymentRepository.count();
-
-        // Calculate total revenue from successful payments
-        BigDecimal totalRevenue = paymentRepository.sumTotalAmountByStatus(PaymentStatus.SUCCESS);
-        if (totalRevenue == null) {
-            totalRevenue = BigDecimal.ZERO;
-        }
-
-        return AdminDashboardResponse.builder()
-                .totalUsers(totalUsers)
-                .totalAdmins(admins)
-                .activeUsers(activeUsers)
-                .totalSpots(totalSpots)
-                .occupiedSpots(occupiedSpots)
-                .availableSpots(availableSpots)
-                .totalRevenue(totalRevenue)
-                .activeSessions(activeSessions)
-                .totalReservations(totalReservations)
-                .totalPayments(totalPayments)
-                .build();
+        // Served from the background snapshot; never waits on the aggregate query
+        return dashboardAggregator.current();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<User> getAllUsers() {
         return userRepository.findAll();
     }
 
     @Override
-    @CacheEvict(value = "adminDashboard", allEntries = true)
     public User updateUserRole(UUID userId, Role role) {
         User user = userRepository.findById(userId).orElseThrow();
         Role oldRole = user.getRole();
@@ -108,8 +95,13 @@ public class AdminServiceImpl implements IAdminService {
         user = userRepository.save(user);
         
         // Log role update
-        activityLogService.log(user, "USER_ROLE_UPDATED", 
-            String.format("Admin updated user role for %s from %s to %s", user.getEmail(), oldRole, role));
+        activityLogService.log(user, "USER_ROLE_UPDATED", ActivityPayload.builder()
+                .targetUserId(user.getId())
+                .targetEmail(user.getEmail())
+                .previousRole(oldRole.name())
+                .role(role.name())
+                .build());
+        dashboardAggregator.requestRefresh();
         
         return user;
     }
@@ -123,27 +115,36 @@ public class AdminServiceImpl implements IAdminService {
                 .orElseThrow(() -> new BadRequestException("User not found"));
         user.setIsActive(false);
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserStatusChangedEvent(user.getId(), false));
 
-        activityLogService.log(currentUser, "USER_DEACTIVATED",
-                String.format("Admin %s deactivated user %s", currentUser.getEmail(), user.getEmail()));
+        activityLogService.log(currentUser, "USER_DEACTIVATED", ActivityPayload.builder()
+                .targetUserId(user.getId())
+                .targetEmail(user.getEmail())
+                .active(false)
+                .build());
     }
 
     @Override
+    @ReadFromPrimary
     public List<BuildingResponse> getAllBuildings() {
-        return buildingRepository.findAll().stream()
-            .map(building -> {
-                long floorCount = floorRepository.countByBuildingId(building.getId());
-                long spotCount = parkingSpotRepository.countByFloorBuildingId(building.getId());
-                long occupiedCount = parkingSpotRepository.countByFloorBuildingIdAndStatus(building.getId(), SpotStatus.OCCUPIED);
-                long availableCount = parkingSpotRepository.countByFloorBuildingIdAndStatus(building.getId(), SpotStatus.AVAILABLE);
-
-                BuildingResponse response = buildingMapper.toResponse(building);
-                response.setTotalFloors((int) floorCount);
-                response.setTotalSpots((int) spotCount);
-                response.setOccupiedSpots((int) occupiedCount);
-                response.setAvailableSpots((int) availableCount);
-                return response;
-            })
+        List<BuildingSnapshot> buildings = referenceDataCache.buildings();
+        Map<UUID, BuildingStats> stats = buildingStatsCache.getStats(
+            buildings.stream().map(BuildingSnapshot::id).toList());
+
+        return buildings.stream()
+            .map(building -> buildingMapper.toResponse(building,
+                stats.getOrDefault(building.id(), BuildingStats.empty(building.id()))))
+            .toList();
+    }
+
+    // Stats for the whole batch come from the buildingStats cache or one aggregate query
+    private List<BuildingResponse> toBuildingResponses(List<Building> buildings) {
+        Map<UUID, BuildingStats> stats = buildingStatsCache.getStats(
+            buildings.stream().map(Building::getId).toList());
+
+        return buildings.stream()
+            .map(building -> buildingMapper.toResponse(building,
+                stats.getOrDefault(building.getId(), BuildingStats.empty(building.getId()))))
             .toList();
     }
 
@@ -157,7 +158,8 @@ public class AdminServiceImpl implements IAdminService {
             .build();
         
         building = buildingRepository.save(building);
-        return buildingMapper.toResponse(building);
+        eventPublisher.publishEvent(new BuildingChangedEvent(building.getId()));
+        return buildingMapper.toResponse(building, buildingStatsCache.getStats(building.getId()));
     }
 
     @Override
@@ -169,8 +171,9 @@ public class AdminServiceImpl implements IAdminService {
         building.setAddress(request.getAddress());
         building.setUpdatedAt(OffsetDateTime.now());
         building = buildingRepository.save(building);
+        eventPublisher.publishEvent(new BuildingChangedEvent(building.getId()));
         
-        return buildingMapper.toResponse(building);
+        return buildingMapper.toResponse(building, buildingStatsCache.getStats(building.getId()));
     }
 
     @Override
@@ -178,46 +181,42 @@ public class AdminServiceImpl implements IAdminService {
         Building building = buildingRepository.findById(buildingId)
             .orElseThrow(() -> new BadRequestException("Building not found"));
         buildingRepository.delete(building);
+        eventPublisher.publishEvent(new BuildingChangedEvent(buildingId));
+        eventPublisher.publishEvent(new BuildingInventoryChangedEvent(buildingId));
     }
 
     @Override
+    @ReadFromPrimary
     public Page<BuildingResponse> getBuildingsPaginated(Pageable pageable) {
         Page<Building> buildingsPage = buildingRepository.findAll(pageable);
         
-        List<BuildingResponse> content = buildingsPage.getContent().stream()
-            .map(building -> {
-                long floorCount = floorRepository.countByBuildingId(building.getId());
-                long spotCount = parkingSpotRepository.countByFloorBuildingId(building.getId());
-                long occupiedCount = parkingSpotRepository.countByFloorBuildingIdAndStatus(building.getId(), SpotStatus.OCCUPIED);
-                long availableCount = parkingSpotRepository.countByFloorBuildingIdAndStatus(building.getId(), SpotStatus.AVAILABLE);
-
-                BuildingResponse response = buildingMapper.toResponse(building);
-                response.setTotalFloors((int) floorCount);
-                response.setTotalSpots((int) spotCount);
-                response.setOccupiedSpots((int) occupiedCount);
-                response.setAvailableSpots((int) availableCount);
-                return response;
-            })
-            .toList();
-        
+        List<BuildingResponse> content = toBuildingResponses(buildingsPage.getContent());
+
         return new PageImpl<>(content, pageable, buildingsPage.getTotalElements());
     }
 
     @Override
+    @ReadFromPrimary
     public List<FloorResponse> getAllFloors() {
-        return floorRepository.findAll().stream()
-            .map(floor -> {
-                long spotCount = parkingSpotRepository.countByFloorId(floor.getId());
-                return FloorResponse.builder()
-                    .id(floor.getId())
-                    .buildingId(floor.getBuilding().getId())
-                    .buildingName(floor.getBuilding().getName())
-                    .floorNumber(floor.getFloorNumber())
-                    .spotCount((int) spotCount)
-                    .createdAt(floor.getCreatedAt())
-                    .build();
-            })
-            .toList();
+        // Served from the reference data cache: building list plus the cached layouts,
+        // with every missing layout loaded by a single query
+        List<BuildingSnapshot> buildings = referenceDataCache.buildings();
+        Map<UUID, List<FloorSnapshot>> layouts = referenceDataCache.floors(
+            buildings.stream().map(BuildingSnapshot::id).toList());
+        List<FloorResponse> floors = new ArrayList<>();
+        for (BuildingSnapshot building : buildings) {
+            for (FloorSnapshot floor : layouts.get(building.id())) {
+                floors.add(FloorResponse.builder()
+                    .id(floor.id())
+                    .buildingId(building.id())
+                    .buildingName(building.name())
+                    .floorNumber(floor.floorNumber())
+                    .spotCount(floor.spotCount())
+                    .createdAt(floor.createdAt())
+                    .build());
+            }
+        }
+        return floors;
     }
 
     @Override
@@ -234,6 +233,7 @@ public class AdminServiceImpl implements IAdminService {
             .build();
         
         floor = floorRepository.save(floor);
+        eventPublisher.publishEvent(new BuildingInventoryChangedEvent(building.getId()));
         
         return FloorResponse.builder()
             .id(floor.getId())
@@ -253,6 +253,9 @@ public class AdminServiceImpl implements IAdminService {
         Building building = buildingRepository.findById(request.getBuildingId())
             .orElseThrow(() -> new BadRequestException("Building not found"));
         
+        // A floor moved between buildings changes the stats of both
+        eventPublisher.publishEvent(new BuildingInventoryChangedEvent(floor.getBuilding().getId()));
+        eventPublisher.publishEvent(new BuildingInventoryChangedEvent(building.getId()));
         floor.setBuilding(building);
         floor.setFloorNumber(request.getFloorNumber());
         floor.setUpdatedAt(OffsetDateTime.now());
@@ -275,81 +278,105 @@ public class AdminServiceImpl implements IAdminService {
         Floor floor = floorRepository.findById(floorId)
             .orElseThrow(() -> new BadRequestException("Floor not found"));
         floorRepository.delete(floor);
+        eventPublisher.publishEvent(new BuildingInventoryChangedEvent(floor.getBuilding().getId()));
     }
 
     @Override
-    public Page<FloorResponse> getFloorsPaginated(Pageable pageable) {
-        // Get all floors with eager loading
-        List<Floor> allFloors = floorRepository.findAll();
-        
-        // Convert to FloorResponse and group by building
-        Map<String, List<FloorResponse>> floorsByBuilding = allFloors.stream()
-            .map(floor -> {
-                long spotCount = parkingSpotRepository.countByFloorId(floor.getId());
-                return FloorResponse.builder()
-                    .id(floor.getId())
-                    .buildingId(floor.getBuilding().getId())
-                    .buildingName(floor.getBuilding().getName())
-                    .floorNumber(floor.getFloorNumber())
-                    .spotCount((int) spotCount)
-                    .createdAt(floor.getCreatedAt())
-                    .build();
-            })
-            .collect(Collectors.groupingBy(
-                FloorResponse::getBuildingName,
-                LinkedHashMap::new,
-                Collectors.toList()
-            ));
-        
-        // Sort buildings by their most recent floor creation date (DESC)
-        List<String> buildingNamesOrdered = floorsByBuilding.entrySet().stream()
-            .sorted((a, b) -> {
-                OffsetDateTime maxA = a.getValue().stream()
-                    .map(FloorResponse::getCreatedAt)
-                    .max(OffsetDateTime::compareTo)
-                    .orElse(OffsetDateTime.now());
-                OffsetDateTime maxB = b.getValue().stream()
-                    .map(FloorResponse::getCreatedAt)
-                    .max(OffsetDateTime::compareTo)
-                    .orElse(OffsetDateTime.now());
-                return maxB.compareTo(maxA); // DESC
-            })
-            .map(Map.Entry::getKey)
-            .collect(Collectors.toList());
-        
-        // Flatten: for each building (in order), add its floors sorted by floor number
-        List<FloorResponse> sortedFloors = buildingNamesOrdered.stream()
-            .flatMap(buildingName -> floorsByBuilding.get(buildingName).stream()
-                .sorted(Comparator.comparingInt(FloorResponse::getFloorNumber)))
-            .collect(Collectors.toList());
-        
-        // Apply pagination
-        int start = (int) pageable.getOffset();
-        int end = Math.min(start + pageable.getPageSize(), sortedFloors.size());
-        
-        List<FloorResponse> pageContent = sortedFloors.subList(start, Math.max(start, end));
-        return new PageImpl<>(pageContent, pageable, sortedFloors.size());
+    @Transactional(readOnly = true)
+    public CursorSlice<FloorResponse> getFloorsPaginated(String cursor, Pageable pageable) {
+        int size = pageable.getPageSize();
+        boolean byCursor = cursor != null && !cursor.isBlank();
+        // Fetch one extra row to know whether another page follows
+        List<FloorPageRow> rows;
+        if (byCursor) {
+            FloorCursor after;
+            try {
+                after = FloorCursor.decode(cursor);
+            } catch (IllegalArgumentException ex) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            rows = floorPageRepository.findPageAfter(after, size + 1);
+        } else {
+            rows = floorPageRepository.findPage(pageable.getOffset(), size + 1);
+        }
+
+        boolean hasMore = rows.size() > size;
+        List<FloorPageRow> pageRows = hasMore ? rows.subList(0, size) : rows;
+
+        // Counted for numbered pages only; a cursor page does not repeat the count
+        Long total = byCursor ? null : floorRepository.count();
+
+        List<FloorResponse> items = pageRows.stream()
+            .map(row -> FloorResponse.builder()
+                .id(row.id())
+                .buildingId(row.buildingId())
+                .buildingName(row.buildingName())
+                .floorNumber(row.floorNumber())
+                .spotCount((int) row.spotCount())
+                .createdAt(row.createdAt())
+                .build())
+            .toList();
+
+        return new CursorSlice<>(items,
+            hasMore ? pageRows.get(pageRows.size() - 1).toCursor().encode() : null,
+            total);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<SpotResponse> getAllSpots() {
         return parkingSpotRepository.findAllWithFloorAndBuilding().stream()
-            .map(spot -> SpotResponse.builder()
-                .id(spot.getId())
-                .floorId(spot.getFloor().getId())
-                .floorNumber(spot.getFloor().getFloorNumber())
-                .buildingName(spot.getFloor().getBuilding().getName())
-                .spotNumber(spot.getSpotNumber())
-                .type(spot.getType().name())
-                .status(spot.getStatus().name())
-                .reservedByUserId(spot.getReservedBy() != null ? spot.getReservedBy().getId() : null)
-                .reservedByUserName(spot.getReservedBy() != null ? spot.getReservedBy().getFullName() : null)
-                .createdAt(spot.getCreatedAt())
-                .updatedAt(spot.getUpdatedAt())
-                .build())
+            .map(this::toSpotResponse)
             .toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllSpots(Consumer<SpotResponse> sink) {
+        try (Stream<ParkingSpot> spots = parkingSpotRepository.streamAllWithFloorAndBuilding()) {
+            int count = 0;
+            for (ParkingSpot spot : (Iterable<ParkingSpot>) spots::iterator) {
+                sink.accept(toSpotResponse(spot));
+                // Drop written rows from the persistence context so heap stays flat
+                if (++count % STREAM_CHUNK_SIZE == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllFloors(Consumer<FloorResponse> sink) {
+        try (Stream<FloorStreamRow> rows = floorRepository.streamAllWithSpotCounts()) {
+            rows.forEach(row -> sink.accept(FloorResponse.builder()
+                .id(row.id())
+                .buildingId(row.buildingId())
+                .buildingName(row.buildingName())
+                .floorNumber(row.floorNumber())
+                .spotCount(row.spotCount().intValue())
+                .createdAt(row.createdAt())
+                .build()));
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllBuildings(Consumer<BuildingResponse> sink) {
+        try (Stream<Building> buildings = buildingRepository.streamAll()) {
+            List<Building> chunk = new ArrayList<>(STREAM_CHUNK_SIZE);
+            for (Building building : (Iterable<Building>) buildings::iterator) {
+                chunk.add(building);
+                if (chunk.size() == STREAM_CHUNK_SIZE) {
+                    toBuildingResponses(chunk).forEach(sink);
+                    chunk.clear();
+                    entityManager.clear();
+                }
+            }
+            toBuildingResponses(chunk).forEach(sink);
+        }
+    }
+
     @Override
     public SpotResponse createSpot(SpotRequest request) {
         // Validate RESERVED status requires a user
@@ -377,20 +404,9 @@ public class AdminServiceImpl implements IAdminService {
             .build();
         
         spot = parkingSpotRepository.save(spot);
+        eventPublisher.publishEvent(new BuildingInventoryChangedEvent(floor.getBuilding().getId()));
         
-        return SpotResponse.builder()
-            .id(spot.getId())
-            .floorId(spot.getFloor().getId())
-            .floorNumber(spot.getFloor().getFloorNumber())
-            .buildingName(spot.getFloor().getBuilding().getName())
-            .spotNumber(spot.getSpotNumber())
-            .type(spot.getType().name())
-            .status(spot.getStatus().name())
-            .reservedByUserId(spot.getReservedBy() != null ? spot.getReservedBy().getId() : null)
-            .reservedByUserName(spot.getReservedBy() != null ? spot.getReservedBy().getFullName() : null)
-            .createdAt(spot.getCreatedAt())
-            .updatedAt(spot.getUpdatedAt())
-            .build();
+        return toSpotResponse(spot);
     }
 
     @Override
@@ -411,6 +427,8 @@ public class AdminServiceImpl implements IAdminService {
                 .orElseThrow(() -> new BadRequestException("User not found"));
         }
         
+        eventPublisher.publishEvent(new BuildingInventoryChangedEvent(spot.getFloor().getBuilding().getId()));
+        eventPublisher.publishEvent(new BuildingInventoryChangedEvent(floor.getBuilding().getId()));
         spot.setFloor(floor);
         spot.setSpotNumber(request.getSpotNumber());
         spot.setType(SpotType.valueOf(request.getType()));
@@ -419,19 +437,7 @@ public class AdminServiceImpl implements IAdminService {
         spot.setUpdatedAt(OffsetDateTime.now());
         spot = parkingSpotRepository.save(spot);
         
-        return SpotResponse.builder()
-            .id(spot.getId())
-            .floorId(spot.getFloor().getId())
-            .floorNumber(spot.getFloor().getFloorNumber())
-            .buildingName(spot.getFloor().getBuilding().getName())
-            .spotNumber(spot.getSpotNumber())
-            .type(spot.getType().name())
-            .status(spot.getStatus().name())
-            .reservedByUserId(spot.getReservedBy() != null ? spot.getReservedBy().getId() : null)
-            .reservedByUserName(spot.getReservedBy() != null ? spot.getReservedBy().getFullName() : null)
-            .createdAt(spot.getCreatedAt())
-            .updatedAt(spot.getUpdatedAt())
-            .build();
+        return toSpotResponse(spot);
     }
 
     @Override
@@ -439,28 +445,34 @@ public class AdminServiceImpl implements IAdminService {
         ParkingSpot spot = parkingSpotRepository.findById(spotId)
             .orElseThrow(() -> new BadRequestException("Parking spot not found"));
         parkingSpotRepository.delete(spot);
+        eventPublisher.publishEvent(new BuildingInventoryChangedEvent(spot.getFloor().getBuilding().getId()));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<SpotResponse> getSpotsPaginated(Pageable pageable) {
         Page<ParkingSpot> spotsPage = parkingSpotRepository.findAllWithFloorAndBuilding(pageable);
         
         List<SpotResponse> content = spotsPage.getContent().stream()
-            .map(spot -> SpotResponse.builder()
-                .id(spot.getId())
-                .floorId(spot.getFloor().getId())
-                .floorNumber(spot.getFloor().getFloorNumber())
-                .buildingName(spot.getFloor().getBuilding().getName())
-                .spotNumber(spot.getSpotNumber())
-                .type(spot.getType().name())
-                .status(spot.getStatus().name())
-                .reservedByUserId(spot.getReservedBy() != null ? spot.getReservedBy().getId() : null)
-                .reservedByUserName(spot.getReservedBy() != null ? spot.getReservedBy().getFullName() : null)
-                .createdAt(spot.getCreatedAt())
-                .updatedAt(spot.getUpdatedAt())
-                .build())
+            .map(this::toSpotResponse)
             .toList();
         
         return new PageImpl<>(content, pageable, spotsPage.getTotalElements());
     }
+
+    private SpotResponse toSpotResponse(ParkingSpot spot) {
+        return SpotResponse.builder()
+            .id(spot.getId())
+            .floorId(spot.getFloor().getId())
+            .floorNumber(spot.getFloor().getFloorNumber())
+            .buildingName(spot.getFloor().getBuilding().getName())
+            .spotNumber(spot.getSpotNumber())
+            .type(spot.getType().name())
+            .status(spot.getStatus().name())
+            .reservedByUserId(spot.getReservedBy() != null ? spot.getReservedBy().getId() : null)
+            .reservedByUserName(spot.getReservedBy() != null ? spot.getReservedBy().getFullName() : null)
+            .createdAt(spot.getCreatedAt())
+            .updatedAt(spot.getUpdatedAt())
+            .build();
+    }
 }
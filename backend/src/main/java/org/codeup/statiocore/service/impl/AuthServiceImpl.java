@@ -1,11 +1,14 @@
 package org.codeup.statiocore.service.impl;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.codeup.statiocore.domain.ActivityPayload;
 import org.codeup.statiocore.domain.User;
 import org.codeup.statiocore.domain.enums.Role;
 import org.codeup.statiocore.exception.BadRequestException;
 import org.codeup.statiocore.exception.UnauthorizedException;
 import org.codeup.statiocore.repository.IUserRepository;
+import org.codeup.statiocore.security.PasswordHashingExecutor;
 import org.codeup.statiocore.security.TokenProvider;
 import org.codeup.statiocore.service.IActivityLogService;
 import org.codeup.statiocore.service.IAuthService;
@@ -13,18 +16,19 @@ import org.codeup.statiocore.web.dto.auth.AuthResponse;
 import org.codeup.statiocore.web.dto.auth.LoginRequest;
 import org.codeup.statiocore.web.dto.auth.RegisterRequest;
 import org.codeup.statiocore.web.mapper.UserMapper;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import jakarta.transaction.Transactional;
 
 import java.time.OffsetDateTime;
+import java.util.Optional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class AuthServiceImpl implements IAuthService {
     private final IUserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHasher;
     private final TokenProvider tokenProvider;
     private final UserMapper userMapper;
     private final IActivityLogService activityLogService;
@@ -47,7 +51,7 @@ public class AuthServiceImpl implements IAuthService {
         // Create new user
         User user = User.builder()
                 .email(request.getEmail())
-                .passwordHash(passwordEncoder.encode(request.getPassword()))
+                .passwordHash(passwordHasher.encode(request.getPassword()))
                 .fullName(request.getFullName())
                 .role(Role.USER)
                 .isActive(true)
@@ -57,7 +61,10 @@ public class AuthServiceImpl implements IAuthService {
         user = userRepository.save(user);
 
         // Log user registration
-        activityLogService.log(user, "USER_REGISTERED", "New user account created");
+        activityLogService.log(user, "USER_REGISTERED", ActivityPayload.builder()
+                .targetUserId(user.getId())
+                .targetEmail(user.getEmail())
+                .build());
 
         // Generate JWT token
         String token = tokenProvider.generateToken(user);
@@ -68,7 +75,9 @@ public class AuthServiceImpl implements IAuthService {
                 .build();
     }
 
+    // Not transactional: no database connection is held while the password is being hashed
     @Override
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
     public AuthResponse login(LoginRequest request) {
         // Validate input
         if (request.getEmail() == null || request.getEmail().isBlank()) {
@@ -78,12 +87,16 @@ public class AuthServiceImpl implements IAuthService {
             throw new BadRequestException("Password is required");
         }
 
-        // Find user by email
-        User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new UnauthorizedException("Invalid credentials"));
+        // Find user by email; unknown emails still pay for one hash so timing does not reveal them
+        Optional<User> found = userRepository.findByEmail(request.getEmail());
+        if (found.isEmpty()) {
+            passwordHasher.matchesUnknownAccount(request.getPassword());
+            throw new UnauthorizedException("Invalid credentials");
+        }
+        User user = found.get();
 
-        // Verify password
-        if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
+        // Verify password on the bounded hashing pool
+        if (!passwordHasher.matches(request.getPassword(), user.getPasswordHash())) {
             throw new UnauthorizedException("Invalid credentials");
         }
 
@@ -92,6 +105,8 @@ public class AuthServiceImpl implements IAuthService {
             throw new UnauthorizedException("Account is disabled");
         }
 
+        upgradePasswordHash(user, request.getPassword());
+
         // Generate JWT token
         String token = tokenProvider.generateToken(user);
 
@@ -100,5 +115,17 @@ public class AuthServiceImpl implements IAuthService {
                 .user(userMapper.toDTO(user))
                 .build();
     }
-}
 
+    // Rehash with the configured encoder (algorithm or cost changed) after a successful login
+    private void upgradePasswordHash(User user, String rawPassword) {
+        if (!passwordHasher.needsUpgrade(user.getPasswordHash())) {
+            return;
+        }
+        try {
+            userRepository.updatePasswordHash(user.getId(), passwordHasher.encode(rawPassword));
+        } catch (RuntimeException ex) {
+            // The old hash keeps working; try again on the next login
+            log.warn("Could not upgrade password hash for user {}: {}", user.getId(), ex.getMessage());
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package org.codeup.statiocore.service.impl;
 
 import lombok.RequiredArgsConstructor;
+import org.codeup.statiocore.domain.ActivityPayload;
 import org.codeup.statiocore.domain.ParkingSession;
 import org.codeup.statiocore.domain.ParkingSpot;
 import org.codeup.statiocore.domain.User;
@@ -13,29 +14,41 @@ import org.codeup.statiocore.exception.ResourceNotFoundException;
 import org.codeup.statiocore.repository.IParkingSessionRepository;
 import org.codeup.statiocore.repository.IParkingSpotRepository;
 import org.codeup.statiocore.repository.IUserRepository;
-import org.codeup.statiocore.repository.specification.ParkingSpotSpecification;
+import org.codeup.statiocore.repository.projection.SessionCursor;
+import org.codeup.statiocore.repository.specification.ParkingSessionSpecification;
 import org.codeup.statiocore.domain.enums.SessionStatus;
 
+import org.codeup.statiocore.service.CursorSlice;
 import org.codeup.statiocore.service.IActivityLogService;
 import org.codeup.statiocore.service.IParkingService;
 import org.codeup.statiocore.service.IPaymentService;
+import org.codeup.statiocore.service.ReadFromPrimary;
+import org.codeup.statiocore.service.cache.SpotAvailabilityLoader;
+import org.codeup.statiocore.service.event.BuildingInventoryChangedEvent;
+import org.codeup.statiocore.service.event.SessionCompletedEvent;
+import org.codeup.statiocore.service.event.SessionStartedEvent;
 import org.codeup.statiocore.service.strategy.FeeCalculatorFactory;
 import org.codeup.statiocore.service.strategy.IFeeCalculationStrategy;
 import org.codeup.statiocore.web.dto.user.CheckOutResponse;
 import org.codeup.statiocore.web.dto.user.FeeCalculationResponse;
 import org.codeup.statiocore.web.dto.user.PaymentResponse;
+import org.hibernate.Hibernate;
+import org.hibernate.exception.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
-import jakarta.transaction.Transactional;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.Duration;
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -54,6 +67,8 @@ import java.util.UUID;
 @Transactional
 public class ParkingServiceImpl implements IParkingService {
     private static final Logger logger = LoggerFactory.getLogger(ParkingServiceImpl.class);
+    // Partial unique index on parking_sessions(user_id) WHERE status = 'ACTIVE' (V6)
+    private static final String ACTIVE_SESSION_CONSTRAINT = "uk_sessions_user_active";
 
     private final IParkingSpotRepository spotRepository;
     private final IParkingSessionRepository sessionRepository;
@@ -61,25 +76,22 @@ public class ParkingServiceImpl implements IParkingService {
     private final IActivityLogService logService;
     private final IPaymentService paymentService;
     private final FeeCalculatorFactory feeCalculatorFactory;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SpotAvailabilityLoader spotAvailabilityLoader;
 
     @Override
-    @CacheEvict(value = "availableSpots", allEntries = true)
     public ParkingSession checkIn(UUID userId, UUID spotId, String vehicleNumber) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        
-        // Prevent multiple active sessions for the same user
-        Optional<ParkingSession> existingSession = sessionRepository.findByUserIdAndStatus(userId, SessionStatus.ACTIVE);
-        if (existingSession.isPresent()) {
-            throw new ConflictException("You already have an active parking session. Please check out first.");
-        }
-        
+
         ParkingSpot spot = spotRepository.findById(spotId)
                 .orElseThrow(() -> new ResourceNotFoundException("Spot not found"));
 
         if (spot.getStatus() != SpotStatus.AVAILABLE) {
             throw new ConflictException("Spot not available");
         }
+        // The check-in response names the building; both resolve from the second-level cache when warm
+        Hibernate.initialize(spot.getFloor().getBuilding());
 
         spot.setStatus(SpotStatus.OCCUPIED);
         spotRepository.save(spot);
@@ -92,17 +104,33 @@ public class ParkingServiceImpl implements IParkingService {
                 .status(SessionStatus.ACTIVE)
                 .build();
 
-        session = sessionRepository.save(session);
-        logService.log(user, "CHECK_IN", "Spot: " + spot.getSpotNumber());
+        // One active session per user is enforced by uk_sessions_user_active; flushing here
+        // surfaces a violation (e.g. two concurrent check-ins) before any event is published
+        try {
+            session = sessionRepository.saveAndFlush(session);
+        } catch (DataIntegrityViolationException ex) {
+            if (isActiveSessionViolation(ex)) {
+                throw new ConflictException("You already have an active parking session. Please check out first.");
+            }
+            throw ex;
+        }
+        eventPublisher.publishEvent(BuildingInventoryChangedEvent.occupancy(spot.getFloor().getBuilding().getId()));
+        eventPublisher.publishEvent(new SessionStartedEvent(userId, session.getId(), spot.getId()));
+        logService.log(user, "CHECK_IN", ActivityPayload.builder()
+                .sessionId(session.getId())
+                .spotId(spot.getId())
+                .spotNumber(spot.getSpotNumber())
+                .build());
 
         return session;
     }
 
     @Override
+    @ReadFromPrimary
     public FeeCalculationResponse calculateFee(UUID sessionId) {
         logger.info("Calculating fee for session: {}", sessionId);
 
-        ParkingSession session = sessionRepository.findById(sessionId)
+        ParkingSession session = sessionRepository.findWithSpotById(sessionId)
             .orElseThrow(() -> new ResourceNotFoundException("Session not found for ID: " + sessionId));
 
         if (session.getCheckOutTime() != null) {
@@ -149,11 +177,10 @@ public class ParkingServiceImpl implements IParkingService {
     }
 
     @Override
-    @CacheEvict(value = "availableSpots", allEntries = true)
     public CheckOutResponse checkOut(UUID sessionId, PaymentMethod paymentMethod) {
         logger.info("Processing checkout for session: {} with method: {}", sessionId, paymentMethod);
 
-        ParkingSession session = sessionRepository.findById(sessionId)
+        ParkingSession session = sessionRepository.findWithSpotById(sessionId)
             .orElseThrow(() -> new ResourceNotFoundException("Session not found"));
 
         // Prevent double checkout (idempotency protection)
@@ -191,14 +218,24 @@ public class ParkingServiceImpl implements IParkingService {
             spot.setStatus(SpotStatus.AVAILABLE);
             spotRepository.save(spot);
             sessionRepository.save(session);
+            eventPublisher.publishEvent(BuildingInventoryChangedEvent.occupancy(spot.getFloor().getBuilding().getId()));
+            eventPublisher.publishEvent(new SessionCompletedEvent(
+                    session.getUser() != null ? session.getUser().getId() : null, session.getId(), spot.getId()));
 
             // Process payment
             PaymentResponse paymentResponse = paymentService.processPayment(sessionId, fee, paymentMethod);
 
             // Log activity with audit trail
-            logService.log(session.getUser(), "CHECK_OUT",
-                String.format("Checked out from spot %s. Duration: %d minutes. Amount: $%s. Payment method: %s. Transaction: %s",
-                    spot.getSpotNumber(), duration.toMinutes(), fee, paymentMethod.name(), paymentResponse.getTransactionId()));
+            logService.log(session.getUser(), "CHECK_OUT", ActivityPayload.builder()
+                .sessionId(session.getId())
+                .spotId(spot.getId())
+                .spotNumber(spot.getSpotNumber())
+                .paymentId(paymentResponse.getPaymentId())
+                .amount(fee)
+                .paymentMethod(paymentMethod.name())
+                .transactionRef(paymentResponse.getTransactionId())
+                .durationMinutes(durationMinutes)
+                .build());
 
             logger.info("Checkout completed successfully for session: {} - Transaction: {}", sessionId, paymentResponse.getTransactionId());
 
@@ -224,33 +261,61 @@ public class ParkingServiceImpl implements IParkingService {
         }
     }
 
+    // Keys must stay in the shape SpotAvailabilityLoader.load(Object) understands; it refreshes entries in the background
     @Override
-    @Cacheable(value = "availableSpots", key = "'all'")
+    @Cacheable(value = "availableSpots", key = "'all'", sync = true)
+    @ReadFromPrimary
     public List<ParkingSpot> getAvailableSpots() {
-        return spotRepository.findByStatusAndReservedByIsNull(SpotStatus.AVAILABLE);
+        return spotAvailabilityLoader.loadUnreserved();
     }
 
     @Override
-    @Cacheable(value = "availableSpots", key = "{#buildingId, #floorId, #type, #status}")
+    @Cacheable(value = "availableSpots", key = "{#buildingId, #floorId, #type, #status}", sync = true)
+    @ReadFromPrimary
     public List<ParkingSpot> getAvailableSpots(UUID buildingId, UUID floorId, SpotType type, SpotStatus status) {
-        SpotStatus filterStatus = status != null ? status : SpotStatus.AVAILABLE;
-        return spotRepository.findAll(
-            ParkingSpotSpecification.withFilters(buildingId, floorId, type, filterStatus)
-        );
+        return spotAvailabilityLoader.load(buildingId, floorId, type, status);
     }
 
     @Override
+    @ReadFromPrimary
     public List<ParkingSession> getActiveSessions(UUID userId) {
         logger.info("Fetching active sessions for user: {}", userId);
         return sessionRepository.findAllByUserIdAndStatusOrderByCheckInTimeDesc(userId, SessionStatus.ACTIVE);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ParkingSession> getUserSessions(UUID userId) {
         logger.info("Fetching all sessions for user: {}", userId);
         return sessionRepository.findAllByUserIdOrderByCheckInTimeDesc(userId);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSlice<ParkingSession> getUserSessionHistory(UUID userId, SessionCursor after,
+                                                             LocalDate startDate, LocalDate endDate, int limit) {
+        // Keyset on (check_in_time DESC, id DESC), served by idx_sessions_user_checkin
+        Specification<ParkingSession> filters = ParkingSessionSpecification.forUser(userId, startDate, endDate);
+        Specification<ParkingSession> pageSpec = filters.and(ParkingSessionSpecification.fetchSpotGraph());
+        if (after != null) {
+            pageSpec = pageSpec.and(ParkingSessionSpecification.after(after));
+        }
+
+        // Fetch one extra row to know whether another page follows
+        List<ParkingSession> rows = sessionRepository.findBy(pageSpec, query -> query
+                .sortBy(Sort.by(Sort.Direction.DESC, "checkInTime").and(Sort.by(Sort.Direction.DESC, "id")))
+                .limit(limit + 1)
+                .all());
+        boolean hasMore = rows.size() > limit;
+        List<ParkingSession> sessions = hasMore ? rows.subList(0, limit) : rows;
+
+        // Only the first page is counted; later pages keep the cursor walk to one query
+        Long total = after == null ? sessionRepository.count(filters) : null;
+        return new CursorSlice<>(sessions,
+                hasMore ? SessionCursor.of(sessions.get(sessions.size() - 1)).encode() : null,
+                total);
+    }
+
     /**
      * Maps spot type to fee strategy key.
      */
@@ -263,4 +328,16 @@ public class ParkingServiceImpl implements IParkingService {
             default -> "STANDARD";
         };
     }
+
+    /**
+     * True when the violation comes from the one-active-session-per-user index.
+     */
+    private static boolean isActiveSessionViolation(DataIntegrityViolationException ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return ACTIVE_SESSION_CONSTRAINT.equalsIgnoreCase(violation.getConstraintName());
+            }
+        }
+        return false;
+    }
 }
@@ -2,6 +2,7 @@ package org.codeup.statiocore.service.impl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.codeup.statiocore.domain.ActivityPayload;
 import org.codeup.statiocore.domain.Payment;
 import org.codeup.statiocore.domain.ParkingSession;
 import org.codeup.statiocore.domain.enums.PaymentMethod;
@@ -13,7 +14,9 @@ import org.codeup.statiocore.repository.IPaymentRepository;
 import org.codeup.statiocore.repository.IParkingSessionRepository;
 import org.codeup.statiocore.service.IActivityLogService;
 import org.codeup.statiocore.service.IPaymentService;
+import org.codeup.statiocore.service.event.PaymentSucceededEvent;
 import org.codeup.statiocore.web.dto.user.PaymentResponse;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,6 +41,7 @@ public class PaymentServiceImpl implements IPaymentService {
     private final IPaymentRepository paymentRepository;
     private final IParkingSessionRepository parkingSessionRepository;
     private final IActivityLogService activityLogService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // Pricing configuration (future: move to database/config)
     private static final BigDecimal HOURLY_RATE = new BigDecimal("5.00");
@@ -65,9 +69,7 @@ public class PaymentServiceImpl implements IPaymentService {
         }
 
         // Prevent duplicate payment (idempotency check)
-        if (paymentRepository.findAll().stream()
-                .anyMatch(p -> p.getSession().getId().equals(sessionId)
-                        && p.getStatus() == PaymentStatus.SUCCESS)) {
+        if (paymentRepository.existsBySessionIdAndStatus(sessionId, PaymentStatus.SUCCESS)) {
             throw new PaymentException("Session already paid");
         }
 
@@ -84,11 +86,18 @@ public class PaymentServiceImpl implements IPaymentService {
                 .build();
 
         payment = paymentRepository.save(payment);
+        eventPublisher.publishEvent(new PaymentSucceededEvent(
+                session.getUser() != null ? session.getUser().getId() : null, payment.getId(), sessionId));
 
         // Log payment activity
-        activityLogService.log(session.getUser(), "PAYMENT_PROCESSED", 
-            String.format("Payment processed successfully. Amount: $%s, Method: %s, Transaction: %s", 
-                payment.getAmount(), method.name(), payment.getTransactionReference()));
+        activityLogService.log(session.getUser(), "PAYMENT_PROCESSED", ActivityPayload.builder()
+                .sessionId(sessionId)
+                .spotId(session.getSpot().getId())
+                .paymentId(payment.getId())
+                .amount(payment.getAmount())
+                .paymentMethod(method.name())
+                .transactionRef(payment.getTransactionReference())
+                .build());
 
         log.info("Payment processed successfully: {} for session: {}", payment.getTransactionReference(), sessionId);
 
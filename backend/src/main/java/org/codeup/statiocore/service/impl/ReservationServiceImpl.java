@@ -1,6 +1,7 @@
 package org.codeup.statiocore.service.impl;
 
 import lombok.RequiredArgsConstructor;
+import org.codeup.statiocore.domain.ActivityPayload;
 import org.codeup.statiocore.domain.Reservation;
 import org.codeup.statiocore.domain.ParkingSpot;
 import org.codeup.statiocore.domain.User;
@@ -13,6 +14,9 @@ import org.codeup.statiocore.repository.IParkingSpotRepository;
 import org.codeup.statiocore.repository.IUserRepository;
 import org.codeup.statiocore.service.IActivityLogService;
 import org.codeup.statiocore.service.IReservationService;
+import org.codeup.statiocore.service.event.ReservationCancelledEvent;
+import org.codeup.statiocore.service.event.ReservationCreatedEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import jakarta.transaction.Transactional;
 
@@ -28,13 +32,14 @@ public class ReservationServiceImpl implements IReservationService {
     private final IParkingSpotRepository spotRepository;
     private final IUserRepository userRepository;
     private final IActivityLogService activityLogService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Reservation createReservation(UUID userId, UUID spotId, OffsetDateTime startTime, Integer durationMinutes) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
         
-        ParkingSpot spot = spotRepository.findById(spotId)
+        ParkingSpot spot = spotRepository.findWithLocationById(spotId)
                 .orElseThrow(() -> new ResourceNotFoundException("Spot not found"));
         if (spot.getStatus() != SpotStatus.AVAILABLE) {
             throw new BadRequestException("Spot is not available for reservation");
@@ -68,11 +73,16 @@ public class ReservationServiceImpl implements IReservationService {
                 .createdAt(OffsetDateTime.now())
                 .build();
         reservation = reservationRepository.save(reservation);
+        eventPublisher.publishEvent(new ReservationCreatedEvent(userId, reservation.getId(), spot.getId()));
         
         // Log reservation creation
-        activityLogService.log(user, "RESERVATION_CREATED", 
-            String.format("User created a new reservation for spot %s from %s to %s", 
-                spot.getSpotNumber(), startTime, endTime));
+        activityLogService.log(user, "RESERVATION_CREATED", ActivityPayload.builder()
+                .reservationId(reservation.getId())
+                .spotId(spot.getId())
+                .spotNumber(spot.getSpotNumber())
+                .startTime(startTime)
+                .endTime(endTime)
+                .build());
         
         return reservation;
     }
@@ -84,6 +94,8 @@ public class ReservationServiceImpl implements IReservationService {
         reservation.setStatus(ReservationStatus.CANCELLED);
         reservation.setUpdatedAt(OffsetDateTime.now());
         reservationRepository.save(reservation);
+        eventPublisher.publishEvent(new ReservationCancelledEvent(
+                reservation.getUser() != null ? reservation.getUser().getId() : null, reservation.getId()));
     }
 
     @Override
@@ -0,0 +1,308 @@
+package org.codeup.statiocore.service.impl;
+
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.codeup.statiocore.domain.Building;
+import org.codeup.statiocore.domain.Floor;
+import org.codeup.statiocore.domain.ParkingSpot;
+import org.codeup.statiocore.domain.enums.SpotStatus;
+import org.codeup.statiocore.domain.enums.SpotType;
+import org.codeup.statiocore.exception.BadRequestException;
+import org.codeup.statiocore.repository.IBuildingRepository;
+import org.codeup.statiocore.repository.IFloorRepository;
+import org.codeup.statiocore.repository.IParkingSpotRepository;
+import org.codeup.statiocore.repository.projection.SpotKey;
+import org.codeup.statiocore.service.ISpotProvisioningService;
+import org.codeup.statiocore.service.event.BuildingInventoryChangedEvent;
+import org.codeup.statiocore.web.dto.admin.BulkSpotRangeRequest;
+import org.codeup.statiocore.web.dto.admin.BulkSpotResult;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk spot provisioning (numbered ranges and CSV imports).
+ *
+ * CSV uploads are parsed with Commons CSV (quoted fields, a leading byte order
+ * mark and trailing empty columns are accepted); rows with the wrong number of
+ * columns are reported with their line number instead of being guessed at.
+ *
+ * Uniqueness against uk_floor_spot is checked up front with one query per
+ * import; rows are then persisted in chunks that Hibernate sends as JDBC
+ * batches (hibernate.jdbc.batch_size / order_inserts). The persistence
+ * context is flushed and cleared after every chunk to keep memory flat.
+ *
+ * @author TonyS-dev
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class SpotProvisioningServiceImpl implements ISpotProvisioningService {
+    // Keep in sync with spring.jpa.properties.hibernate.jdbc.batch_size
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_ROWS = 10_000;
+    private static final int SPOT_NUMBER_MAX_LENGTH = 20;
+    private static final int BYTE_ORDER_MARK = '\uFEFF';
+    // RFC 4180 quoting; blank lines are kept as records so row numbers match the file
+    private static final CSVFormat CSV_FORMAT = CSVFormat.DEFAULT.builder()
+            .setIgnoreEmptyLines(false)
+            .setTrim(true)
+            .get();
+    private static final Set<String> ALLOWED_STATUSES = Set.of(
+            SpotStatus.AVAILABLE.name(), SpotStatus.UNDER_MAINTENANCE.name());
+
+    private final IBuildingRepository buildingRepository;
+    private final IFloorRepository floorRepository;
+    private final IParkingSpotRepository parkingSpotRepository;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public BulkSpotResult provisionRange(BulkSpotRangeRequest request) {
+        if (request.getEnd() < request.getStart()) {
+            throw new BadRequestException("Range end must be greater than or equal to range start");
+        }
+        int requested = request.getEnd() - request.getStart() + 1;
+        if (requested > MAX_ROWS) {
+            throw new BadRequestException("A single request can provision at most " + MAX_ROWS + " spots");
+        }
+
+        Building building = buildingRepository.findById(request.getBuildingId())
+                .orElseThrow(() -> new BadRequestException("Building not found"));
+
+        Floor floor = floorRepository.findByBuildingIdAndFloorNumber(building.getId(), request.getFloorNumber())
+                .orElseGet(() -> floorRepository.save(Floor.builder()
+                        .building(building)
+                        .floorNumber(request.getFloorNumber())
+                        .capacity(0)
+                        .createdAt(OffsetDateTime.now())
+                        .updatedAt(OffsetDateTime.now())
+                        .build()));
+
+        SpotType type = SpotType.valueOf(request.getType());
+        SpotStatus status = SpotStatus.valueOf(request.getStatus() != null ? request.getStatus() : "AVAILABLE");
+        int padding = request.getPadding() != null ? request.getPadding() : 3;
+
+        List<BulkSpotResult.RowError> errors = new ArrayList<>();
+        List<Candidate> candidates = new ArrayList<>(requested);
+        for (int n = request.getStart(), row = 1; n <= request.getEnd(); n++, row++) {
+            String spotNumber = request.getPrefix() + zeroPad(n, padding);
+            if (spotNumber.length() > SPOT_NUMBER_MAX_LENGTH) {
+                errors.add(error(row, spotNumber, "Spot number must not exceed 20 characters"));
+                continue;
+            }
+            candidates.add(new Candidate(row, floor, spotNumber, type, status));
+        }
+
+        return insert(requested, candidates, errors);
+    }
+
+    @Override
+    public BulkSpotResult importCsv(InputStream csv) {
+        List<CSVRecord> rows = new ArrayList<>();
+        try (CSVParser parser = CSV_FORMAT.parse(withoutByteOrderMark(csv))) {
+            for (CSVRecord record : parser) {
+                if (isBlank(record) || (record.getRecordNumber() == 1 && isHeader(record))) {
+                    continue;
+                }
+                if (rows.size() == MAX_ROWS) {
+                    throw new BadRequestException("A single import can contain at most " + MAX_ROWS + " spots");
+                }
+                rows.add(record);
+            }
+        } catch (IOException | UncheckedIOException ex) {
+            // Unterminated quotes and similar syntax errors; the message names the offending line
+            throw new BadRequestException("Could not read CSV file: " + ex.getMessage());
+        }
+
+        // Resolve every referenced floor in one query
+        Set<UUID> floorIds = new HashSet<>();
+        for (CSVRecord record : rows) {
+            UUID floorId = parseUuid(record.get(0));
+            if (floorId != null) {
+                floorIds.add(floorId);
+            }
+        }
+        Map<UUID, Floor> floors = floorRepository.findAllById(floorIds).stream()
+                .collect(Collectors.toMap(Floor::getId, Function.identity()));
+
+        List<BulkSpotResult.RowError> errors = new ArrayList<>();
+        List<Candidate> candidates = new ArrayList<>(rows.size());
+        for (CSVRecord record : rows) {
+            int row = (int) record.getRecordNumber();
+            int columns = columnCount(record);
+            String spotNumber = columns > 1 ? record.get(1) : null;
+
+            if (columns < 3 || columns > 4) {
+                errors.add(error(row, spotNumber,
+                        "Expected 3 or 4 columns (floor_id,spot_number,type[,status]) but found " + columns));
+                continue;
+            }
+            Floor floor = floors.get(parseUuid(record.get(0)));
+            if (floor == null) {
+                errors.add(error(row, spotNumber, "Floor not found"));
+                continue;
+            }
+            if (spotNumber.isEmpty() || spotNumber.length() > SPOT_NUMBER_MAX_LENGTH) {
+                errors.add(error(row, spotNumber, "Spot number is required and must not exceed 20 characters"));
+                continue;
+            }
+            SpotType type = parseType(record.get(2));
+            if (type == null) {
+                errors.add(error(row, spotNumber, "Invalid spot type"));
+                continue;
+            }
+            String status = columns > 3 && !record.get(3).isEmpty() ? record.get(3) : SpotStatus.AVAILABLE.name();
+            if (!ALLOWED_STATUSES.contains(status)) {
+                errors.add(error(row, spotNumber, "Invalid spot status"));
+                continue;
+            }
+            candidates.add(new Candidate(row, floor, spotNumber, type, SpotStatus.valueOf(status)));
+        }
+
+        return insert(rows.size(), candidates, errors);
+    }
+
+    private BulkSpotResult insert(int requested, List<Candidate> candidates, List<BulkSpotResult.RowError> errors) {
+        // One query for all existing (floor, spot number) pairs; duplicates inside the upload are caught by the same set
+        Set<UUID> floorIds = candidates.stream().map(c -> c.floor().getId()).collect(Collectors.toSet());
+        Set<String> taken = new HashSet<>();
+        if (!floorIds.isEmpty()) {
+            for (SpotKey key : parkingSpotRepository.findSpotKeysByFloorIds(floorIds)) {
+                taken.add(key(key.getFloorId(), key.getSpotNumber()));
+            }
+        }
+
+        Set<UUID> buildingIds = new HashSet<>();
+        List<ParkingSpot> batch = new ArrayList<>(BATCH_SIZE);
+        OffsetDateTime now = OffsetDateTime.now();
+        int created = 0;
+
+        for (Candidate candidate : candidates) {
+            if (!taken.add(key(candidate.floor().getId(), candidate.spotNumber()))) {
+                errors.add(error(candidate.row(), candidate.spotNumber(), "Spot number already exists on this floor"));
+                continue;
+            }
+            batch.add(ParkingSpot.builder()
+                    .floor(candidate.floor())
+                    .spotNumber(candidate.spotNumber())
+                    .type(candidate.type())
+                    .status(candidate.status())
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+            buildingIds.add(candidate.floor().getBuilding().getId());
+
+            if (batch.size() == BATCH_SIZE) {
+                created += flushBatch(batch);
+            }
+        }
+        created += flushBatch(batch);
+
+        buildingIds.forEach(id -> eventPublisher.publishEvent(new BuildingInventoryChangedEvent(id)));
+
+        errors.sort(Comparator.comparingInt(BulkSpotResult.RowError::getRow));
+        return BulkSpotResult.builder()
+                .requested(requested)
+                .created(created)
+                .errors(errors)
+                .build();
+    }
+
+    private int flushBatch(List<ParkingSpot> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        int size = batch.size();
+        parkingSpotRepository.saveAll(batch);
+        entityManager.flush();
+        entityManager.clear();
+        batch.clear();
+        return size;
+    }
+
+    // Excel and other spreadsheet exports prefix UTF-8 files with a byte order mark
+    private static Reader withoutByteOrderMark(InputStream csv) throws IOException {
+        PushbackReader reader = new PushbackReader(new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8)));
+        int first = reader.read();
+        if (first != -1 && first != BYTE_ORDER_MARK) {
+            reader.unread(first);
+        }
+        return reader;
+    }
+
+    private static boolean isBlank(CSVRecord record) {
+        return record.size() == 1 && record.get(0).isEmpty();
+    }
+
+    private static boolean isHeader(CSVRecord record) {
+        return record.get(0).equalsIgnoreCase("floor_id");
+    }
+
+    // Trailing empty fields (e.g. "floor,A-01,STANDARD,,") do not count as columns
+    private static int columnCount(CSVRecord record) {
+        int count = record.size();
+        while (count > 0 && record.get(count - 1).isEmpty()) {
+            count--;
+        }
+        return count;
+    }
+
+    private static String zeroPad(int value, int width) {
+        String digits = Integer.toString(value);
+        return digits.length() >= width ? digits : "0".repeat(width - digits.length()) + digits;
+    }
+
+    private static String key(UUID floorId, String spotNumber) {
+        return floorId + "|" + spotNumber;
+    }
+
+    private static UUID parseUuid(String value) {
+        try {
+            return UUID.fromString(value.trim());
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    private static SpotType parseType(String value) {
+        try {
+            return SpotType.valueOf(value);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    private static BulkSpotResult.RowError error(int row, String spotNumber, String message) {
+        return BulkSpotResult.RowError.builder()
+                .row(row)
+                .spotNumber(spotNumber)
+                .message(message)
+                .build();
+    }
+
+    private record Candidate(int row, Floor floor, String spotNumber, SpotType type, SpotStatus status) {
+    }
+}
@@ -0,0 +1,163 @@
+package org.codeup.statiocore.service.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.codeup.statiocore.domain.ParkingSpot;
+import org.codeup.statiocore.service.IAdminService;
+import org.codeup.statiocore.service.IParkingService;
+import org.codeup.statiocore.service.dashboard.AdminDashboardAggregator;
+import org.codeup.statiocore.service.strategy.IFeeCalculationStrategy;
+import org.codeup.statiocore.web.dto.admin.BuildingResponse;
+import org.codeup.statiocore.web.mapper.ParkingSpotMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Warms caches, query plans and hot code paths after startup.
+ *
+ * Runs on its own thread once the application is ready. Until it finishes,
+ * {@link WarmUpHealthIndicator} keeps the readiness group OUT_OF_SERVICE, so
+ * the load balancer only sends traffic to a warm node. The budget is a hard
+ * cap: steps still pending when it runs out are skipped, and readiness flips
+ * to UP at the deadline even if a step is still running.
+ *
+ * @author TonyS-dev
+ */
+@Component
+@RequiredArgsConstructor
+public class StartupWarmUp {
+    private static final Logger logger = LoggerFactory.getLogger(StartupWarmUp.class);
+
+    public enum State { PENDING, RUNNING, COMPLETED, BUDGET_EXCEEDED, DISABLED }
+
+    private final IAdminService adminService;
+    private final IParkingService parkingService;
+    private final AdminDashboardAggregator dashboardAggregator;
+    private final List<IFeeCalculationStrategy> feeStrategies;
+    private final ParkingSpotMapper parkingSpotMapper;
+
+    @Value("${warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${warmup.budget-ms:30000}")
+    private long budgetMs;
+
+    @Value("${warmup.jit-iterations:10000}")
+    private int jitIterations;
+
+    private volatile State state = State.PENDING;
+    private volatile long startedAt;
+    private final Map<String, Long> stepMillis = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            state = State.DISABLED;
+            return;
+        }
+        startedAt = System.nanoTime();
+        state = State.RUNNING;
+        Thread thread = new Thread(this::run, "startup-warm-up");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * True once warm-up has completed, was disabled, or has used up its budget.
+     */
+    public boolean isFinished() {
+        State current = state;
+        return current == State.COMPLETED || current == State.BUDGET_EXCEEDED || current == State.DISABLED
+                || (current == State.RUNNING && elapsedMillis() >= budgetMs);
+    }
+
+    public State getState() {
+        return state == State.RUNNING && elapsedMillis() >= budgetMs ? State.BUDGET_EXCEEDED : state;
+    }
+
+    public long elapsedMillis() {
+        return state == State.PENDING || state == State.DISABLED ? 0 : Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+    }
+
+    public long getBudgetMs() {
+        return budgetMs;
+    }
+
+    public Map<String, Long> getStepMillis() {
+        synchronized (stepMillis) {
+            return Map.copyOf(stepMillis);
+        }
+    }
+
+    private void run() {
+        // Reference data and the per-building availability lists the apps request first
+        List<BuildingResponse> buildings = step("buildings", adminService::getAllBuildings);
+        step("availability", () -> {
+            for (BuildingResponse building : buildings != null ? buildings : List.<BuildingResponse>of()) {
+                if (budgetExhausted()) {
+                    break;
+                }
+                parkingService.getAvailableSpots(building.getId(), null, null, null);
+            }
+            return null;
+        });
+        step("adminDashboard", () -> {
+            dashboardAggregator.refresh();
+            return null;
+        });
+
+        // Drive the hot pure-Java paths past the JIT compile thresholds
+        step("feeStrategies", () -> {
+            for (int i = 0; i < jitIterations; i++) {
+                Duration duration = Duration.ofMinutes(1 + i % 720);
+                for (IFeeCalculationStrategy strategy : feeStrategies) {
+                    strategy.calculateFee(duration);
+                }
+            }
+            return null;
+        });
+        step("spotMapper", () -> {
+            List<ParkingSpot> spots = parkingService.getAvailableSpots();
+            int rounds = Math.max(1, jitIterations / Math.max(1, spots.size()));
+            for (int i = 0; i < rounds && !budgetExhausted(); i++) {
+                parkingSpotMapper.toUserResponses(spots);
+            }
+            return null;
+        });
+
+        state = budgetExhausted() ? State.BUDGET_EXCEEDED : State.COMPLETED;
+        logger.info("Startup warm-up {} in {} ms: {}", state == State.COMPLETED ? "completed" : "stopped at budget",
+                elapsedMillis(), getStepMillis());
+    }
+
+    private <T> T step(String name, Supplier<T> work) {
+        if (budgetExhausted()) {
+            logger.warn("Warm-up step '{}' skipped: budget of {} ms used up", name, budgetMs);
+            return null;
+        }
+        long start = System.nanoTime();
+        try {
+            return work.get();
+        } catch (RuntimeException ex) {
+            // Warm-up is an optimisation; a failing step must not keep the node out of rotation
+            logger.warn("Warm-up step '{}' failed: {}", name, ex.getMessage());
+            return null;
+        } finally {
+            stepMillis.put(name, Duration.ofNanos(System.nanoTime() - start).toMillis());
+        }
+    }
+
+    private boolean budgetExhausted() {
+        return elapsedMillis() >= budgetMs;
+    }
+}
@@ -0,0 +1,30 @@
+package org.codeup.statiocore.service.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Health contributor "warmUp": OUT_OF_SERVICE while {@link StartupWarmUp} is
+ * running, UP once it has finished or its time budget has run out. Part of the
+ * readiness group (management.endpoint.health.group.readiness).
+ *
+ * @author TonyS-dev
+ */
+@Component
+@RequiredArgsConstructor
+public class WarmUpHealthIndicator implements HealthIndicator {
+    private final StartupWarmUp warmUp;
+
+    @Override
+    public Health health() {
+        Health.Builder builder = warmUp.isFinished() ? Health.up() : Health.outOfService();
+        return builder
+                .withDetail("state", warmUp.getState())
+                .withDetail("elapsedMs", warmUp.elapsedMillis())
+                .withDetail("budgetMs", warmUp.getBudgetMs())
+                .withDetail("steps", warmUp.getStepMillis())
+                .build();
+    }
+}
@@ -0,0 +1,89 @@
+package org.codeup.statiocore.web.actuator;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.RequiredArgsConstructor;
+import org.codeup.statiocore.service.cache.CacheMetricsBinder;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * {@code /actuator/cachestats}: live size, hit ratio, evictions and hottest keys
+ * of every Caffeine cache, for sizing caches and choosing TTLs.
+ * {@code /actuator/cachestats/{name}} returns a single cache.
+ *
+ * @author TonyS-dev
+ */
+@Component
+@Endpoint(id = "cachestats")
+@RequiredArgsConstructor
+public class CacheStatsEndpoint {
+    private static final int TOP_KEYS = 10;
+
+    private final Map<String, CacheManager> cacheManagers;
+
+    @ReadOperation
+    public List<CacheStatsDescriptor> caches() {
+        List<CacheStatsDescriptor> caches = new ArrayList<>();
+        cacheManagers.forEach((beanName, cacheManager) -> cacheManager.getCacheNames().stream()
+                .map(name -> describe(beanName, cacheManager.getCache(name)))
+                .filter(Objects::nonNull)
+                .forEach(caches::add));
+        return caches;
+    }
+
+    @ReadOperation
+    public CacheStatsDescriptor cache(@Selector String name) {
+        // Null answers 404
+        return caches().stream()
+                .filter(descriptor -> descriptor.name().equals(name))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static CacheStatsDescriptor describe(String beanName, Cache cache) {
+        if (!(cache instanceof CaffeineCache caffeineCache)) {
+            return null;
+        }
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = caffeineCache.getNativeCache();
+        CacheStats stats = nativeCache.stats();
+        List<String> topKeys = nativeCache.policy().eviction()
+                .map(eviction -> eviction.hottest(TOP_KEYS).keySet().stream().map(String::valueOf).toList())
+                .orElse(List.of());
+
+        return new CacheStatsDescriptor(
+                cache.getName(),
+                CacheMetricsBinder.managerName(beanName),
+                nativeCache.estimatedSize(),
+                stats.hitRate(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.evictionCount(),
+                stats.loadCount(),
+                Duration.ofNanos((long) stats.averageLoadPenalty()).toMillis(),
+                topKeys);
+    }
+
+    public record CacheStatsDescriptor(
+            String name,
+            String cacheManager,
+            long size,
+            double hitRatio,
+            long hitCount,
+            long missCount,
+            long evictionCount,
+            long loadCount,
+            long averageLoadMillis,
+            List<String> topKeys) {
+    }
+}
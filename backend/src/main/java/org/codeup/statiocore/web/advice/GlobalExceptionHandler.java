@@ -5,14 +5,19 @@ import org.codeup.statiocore.exception.BadRequestException;
 import org.codeup.statiocore.exception.ConflictException;
 import org.codeup.statiocore.exception.PaymentException;
 import org.codeup.statiocore.exception.ResourceNotFoundException;
+import org.codeup.statiocore.exception.ServiceUnavailableException;
 import org.codeup.statiocore.exception.UnauthorizedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -54,6 +59,13 @@ public class GlobalExceptionHandler {
         return pd;
     }
 
+    // Error 409: A database constraint rejected the write (e.g. a concurrent duplicate)
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ProblemDetail handleDataIntegrityViolation(DataIntegrityViolationException ex, HttpServletRequest req) {
+        log.warn("Constraint violation at {}: {}", req.getRequestURI(), ex.getMostSpecificCause().getMessage());
+        return handleConflict(new ConflictException("The request conflicts with the current state of the data."), req);
+    }
+
     // Error 400: Bad request
     @ExceptionHandler(BadRequestException.class)
     public ProblemDetail handleBadRequest(BadRequestException ex, HttpServletRequest req) {
@@ -168,6 +180,28 @@ public class GlobalExceptionHandler {
         return pd;
     }
 
+    // Error 503: Temporarily saturated (e.g. password hashing pool); clients should retry later
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ProblemDetail> handleServiceUnavailable(ServiceUnavailableException ex, HttpServletRequest req) {
+        ProblemDetail pd = ProblemDetail.forStatus(HttpStatus.SERVICE_UNAVAILABLE);
+        pd.setType(URI.create("/errors/service-unavailable"));
+        pd.setTitle("Service Unavailable");
+        pd.setDetail(ex.getMessage());
+        pd.setProperty("timestamp", Instant.now());
+        pd.setProperty("instance", req.getRequestURI());
+        log.warn("Service unavailable: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(pd);
+    }
+
+    // Error 503: No database connection could be obtained in time (pool exhausted)
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<ProblemDetail> handlePoolExhausted(CannotCreateTransactionException ex, HttpServletRequest req) {
+        return handleServiceUnavailable(
+                new ServiceUnavailableException("The service is under heavy load. Please retry shortly.", 1), req);
+    }
+
     // Error 500: Null pointer exception handler (data integrity issues)
     @ExceptionHandler(NullPointerException.class)
     public ProblemDetail handleNullPointer(NullPointerException ex, HttpServletRequest req) {
@@ -1,5 +1,7 @@
 package org.codeup.statiocore.web.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,16 +13,24 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.codeup.statiocore.domain.ActivityLog;
+import org.codeup.statiocore.domain.ActivityPayload;
 import org.codeup.statiocore.domain.User;
 import org.codeup.statiocore.domain.enums.Role;
 import org.codeup.statiocore.exception.BadRequestException;
 import org.codeup.statiocore.repository.IActivityLogRepository;
 import org.codeup.statiocore.repository.IUserRepository;
+import org.codeup.statiocore.repository.IUserSearchRepository;
+import org.codeup.statiocore.repository.projection.UserSearchCursor;
+import org.codeup.statiocore.repository.projection.UserSearchHit;
+import org.codeup.statiocore.service.CursorSlice;
 import org.codeup.statiocore.service.IAdminService;
 import org.codeup.statiocore.service.IActivityLogService;
+import org.codeup.statiocore.service.ISpotProvisioningService;
+import org.codeup.statiocore.service.event.UserStatusChangedEvent;
 import org.codeup.statiocore.web.dto.auth.RegisterRequest;
 import org.codeup.statiocore.web.dto.common.PageResponse;
 import org.codeup.statiocore.web.dto.admin.*;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.jpa.domain.Specification;
 import org.codeup.statiocore.repository.specification.UserSpecification;
 import org.codeup.statiocore.web.mapper.ActivityLogMapper;
@@ -30,13 +40,19 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.server.ResponseStatusException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
 
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
@@ -95,13 +111,20 @@ import java.util.UUID;
 @SecurityRequirement(name = "Bearer")
 public class AdminController {
 
+    // Upper bound on the match count reported by the first search page
+    private static final int SEARCH_COUNT_CAP = 1_000;
+
     private final IAdminService adminService;
     private final IActivityLogRepository activityLogRepository;
     private final IUserRepository userRepository;
+    private final IUserSearchRepository userSearchRepository;
     private final PasswordEncoder passwordEncoder;
     private final ActivityLogMapper activityLogMapper;
     private final UserMapper userMapper;
     private final IActivityLogService activityLogService;
+    private final ISpotProvisioningService spotProvisioningService;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Get comprehensive admin dashboard with system-wide statistics.
@@ -170,6 +193,21 @@ public class AdminController {
         return ResponseEntity.ok(adminService.getAllBuildings());
     }
 
+    /**
+     * Stream all buildings as a JSON array.
+     *
+     * Same payload as GET /buildings, but elements are written as they are read
+     * so memory use does not grow with the number of buildings.
+     *
+     * @return JSON array of BuildingResponse, streamed
+     */
+    @GetMapping(value = "/buildings/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Stream all buildings", description = "Streaming JSON array of buildings for large tenants")
+    @ApiResponse(responseCode = "200", description = "Buildings streamed successfully")
+    public ResponseEntity<StreamingResponseBody> streamBuildings() {
+        return streamJsonArray(adminService::streamAllBuildings);
+    }
+
     /**
      * Get paginated buildings with floor and spot statistics.
      *
@@ -266,6 +304,7 @@ public class AdminController {
      * - User filtering (by UUID)
      * - Action type filtering (e.g., "USER_CREATED", "SESSION_STARTED")
      * - Date range filtering (ISO-8601 format)
+     * - Spot filtering (all events for a spot, via the payload index)
      * - Pagination (default: page 0, size 20)
      *
      * Filters are optional and combined with AND logic.
@@ -277,6 +316,7 @@ public class AdminController {
      * @param action Filter by action type (optional)
      * @param startDate Filter logs from this date (ISO-8601, optional)
      * @param endDate Filter logs until this date (ISO-8601, optional)
+     * @param spotId Filter by parking spot UUID (optional)
      * @return PageResponse with activity logs and pagination metadata
      */
     @GetMapping("/logs")
@@ -310,7 +350,9 @@ public class AdminController {
             @Parameter(description = "Filter logs from this date (ISO-8601)", example = "2025-01-01")
             @RequestParam(required = false) String startDate,
             @Parameter(description = "Filter logs until this date (ISO-8601)", example = "2025-12-31")
-            @RequestParam(required = false) String endDate) {
+            @RequestParam(required = false) String endDate,
+            @Parameter(description = "Filter by parking spot UUID (optional)", example = "850e8400-e29b-41d4-a716-446655440001")
+            @RequestParam(required = false) UUID spotId) {
         // Filters are optional and validated defensively; returns paginated logs
         Pageable pageable = PageRequest.of(page, size);
         
@@ -345,21 +387,22 @@ public class AdminController {
         // Build specification with filters
         Specification<ActivityLog> spec =
             org.codeup.statiocore.repository.specification.ActivityLogSpecification.withFilters(
-                userUuid, action, start, end
+                userUuid, action, start, end, spotId
             );
         
         Page<ActivityLog> logPage = activityLogRepository.findAll(spec, pageable);
 
-        PageResponse<ActivityLogResponse> response =
-            PageResponse.<ActivityLogResponse>builder()
+        return ResponseEntity.ok(toLogPage(logPage, page, size));
+    }
+
+    private PageResponse<ActivityLogResponse> toLogPage(Page<ActivityLog> logPage, int page, int size) {
+        return PageResponse.<ActivityLogResponse>builder()
                 .items(activityLogMapper.toResponses(logPage.getContent()))
                 .page(page)
                 .size(size)
                 .totalElements(logPage.getTotalElements())
                 .totalPages(logPage.getTotalPages())
                 .build();
-
-        return ResponseEntity.ok(response);
     }
 
     /**
@@ -406,16 +449,22 @@ public class AdminController {
             @Parameter(description = "Filter by role (USER or ADMIN)", example = "USER")
             @RequestParam(required = false) String role,
             @Parameter(description = "Filter by active status", example = "true")
-            @RequestParam(required = false) Boolean active) {
+            @RequestParam(required = false) Boolean active,
+            @Parameter(description = "Search by partial email or full name; results are ordered by relevance", example = "jdoe")
+            @RequestParam(required = false) String search,
+            @Parameter(description = "Opaque cursor from a previous search page (nextCursor); overrides page. " +
+                    "Cursor pages omit totalElements; search totals are capped at " + SEARCH_COUNT_CAP)
+            @RequestParam(required = false) String cursor) {
+        Role roleFilter = role != null ? Role.valueOf(role) : null;
+        if (search != null && !search.isBlank()) {
+            return ResponseEntity.ok(searchUsers(search, roleFilter, active, cursor, page, size));
+        }
+
         // Dynamic filters via specification, paginated for admin list
         Pageable pageable = PageRequest.of(page, size);
 
         // Build specification dynamically based on filters
-        Specification<User> spec =
-            UserSpecification.withFilters(
-                role != null ? Role.valueOf(role) : null,
-                active
-            );
+        Specification<User> spec = UserSpecification.withFilters(roleFilter, active);
 
         Page<User> userPage = userRepository.findAll(spec, pageable);
 
@@ -431,6 +480,38 @@ public class AdminController {
         return ResponseEntity.ok(response);
     }
 
+    // Relevance-ranked search; keyset paging when a cursor is supplied, offset paging otherwise.
+    // Matches are counted (up to SEARCH_COUNT_CAP) only for offset pages, not for cursor pages
+    private PageResponse<UserResponse> searchUsers(String search, Role role, Boolean active,
+                                                   String cursor, int page, int size) {
+        UserSearchCursor after;
+        try {
+            after = cursor != null && !cursor.isBlank() ? UserSearchCursor.decode(cursor) : null;
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Invalid cursor");
+        }
+
+        // Fetch one extra row to know whether another page follows
+        List<UserSearchHit> hits = userSearchRepository.search(
+                search, role, active, after, (long) page * size, size + 1);
+        boolean hasMore = hits.size() > size;
+        List<UserSearchHit> pageHits = hasMore ? hits.subList(0, size) : hits;
+
+        PageResponse.PageResponseBuilder<UserResponse> response = PageResponse.<UserResponse>builder()
+                .items(userMapper.toResponses(pageHits.stream().map(UserSearchHit::user).toList()))
+                .page(after != null ? null : page)
+                .size(size);
+        if (after == null) {
+            long total = userSearchRepository.count(search, role, active, SEARCH_COUNT_CAP);
+            response.totalElements(total)
+                    .totalPages(size > 0 ? (int) Math.ceil((double) total / size) : 0);
+        }
+        if (hasMore) {
+            response.nextCursor(pageHits.get(pageHits.size() - 1).toCursor().encode());
+        }
+        return response.build();
+    }
+
     /**
      * Create a new user account with specified role.
      *
@@ -487,8 +568,11 @@ public class AdminController {
         user = userRepository.save(user);
 
         // Log user creation
-        activityLogService.log(user, "USER_CREATED", 
-            String.format("User created: %s with role %s", user.getEmail(), user.getRole()));
+        activityLogService.log(user, "USER_CREATED", ActivityPayload.builder()
+                .targetUserId(user.getId())
+                .targetEmail(user.getEmail())
+                .role(user.getRole().name())
+                .build());
 
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(userMapper.toResponse(user));
@@ -549,8 +633,11 @@ public class AdminController {
         admin = userRepository.save(admin);
 
         // Log admin creation
-        activityLogService.log(admin, "USER_CREATED", 
-            String.format("Admin user created: %s with role %s", admin.getEmail(), admin.getRole()));
+        activityLogService.log(admin, "USER_CREATED", ActivityPayload.builder()
+                .targetUserId(admin.getId())
+                .targetEmail(admin.getEmail())
+                .role(admin.getRole().name())
+                .build());
 
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(userMapper.toResponse(admin));
@@ -624,10 +711,16 @@ public class AdminController {
         
         user.setUpdatedAt(OffsetDateTime.now());
         user = userRepository.save(user);
+        if (request.getIsActive() != null) {
+            eventPublisher.publishEvent(new UserStatusChangedEvent(user.getId(),
+                    Boolean.TRUE.equals(user.getIsActive()) && user.getDeletedAt() == null));
+        }
 
         // Log user update
-        activityLogService.log(user, "USER_UPDATED", 
-            String.format("User updated: %s", user.getEmail()));
+        activityLogService.log(user, "USER_UPDATED", ActivityPayload.builder()
+                .targetUserId(user.getId())
+                .targetEmail(user.getEmail())
+                .build());
 
         return ResponseEntity.ok(userMapper.toResponse(user));
     }
@@ -680,10 +773,15 @@ public class AdminController {
         user.setIsActive(request.getIsActive());
         user.setUpdatedAt(OffsetDateTime.now());
         user = userRepository.save(user);
+        eventPublisher.publishEvent(new UserStatusChangedEvent(user.getId(),
+                Boolean.TRUE.equals(user.getIsActive()) && user.getDeletedAt() == null));
 
         // Log status change
-        activityLogService.log(user, "USER_STATUS_UPDATED", 
-            String.format("User %s %s", user.getEmail(), request.getIsActive() ? "activated" : "deactivated"));
+        activityLogService.log(user, "USER_STATUS_UPDATED", ActivityPayload.builder()
+                .targetUserId(user.getId())
+                .targetEmail(user.getEmail())
+                .active(request.getIsActive())
+                .build());
 
         return ResponseEntity.ok(userMapper.toResponse(user));
     }
@@ -709,10 +807,13 @@ public class AdminController {
         user.setIsActive(false);
         user.setUpdatedAt(OffsetDateTime.now());
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserStatusChangedEvent(user.getId(), false));
 
         // Log user deletion
-        activityLogService.log(user, "USER_DELETED",
-                String.format("User soft deleted: %s", user.getEmail()));
+        activityLogService.log(user, "USER_DELETED", ActivityPayload.builder()
+                .targetUserId(user.getId())
+                .targetEmail(user.getEmail())
+                .build());
 
         return ResponseEntity.noContent().build();
     }
@@ -779,11 +880,28 @@ public class AdminController {
         return ResponseEntity.ok(adminService.getAllFloors());
     }
 
+    /**
+     * Stream all floors with spot counts as a JSON array.
+     *
+     * @return JSON array of FloorResponse, streamed
+     */
+    @GetMapping(value = "/floors/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Stream all floors", description = "Streaming JSON array of floors for large tenants")
+    @ApiResponse(responseCode = "200", description = "Floors streamed successfully")
+    public ResponseEntity<StreamingResponseBody> streamFloors() {
+        return streamJsonArray(adminService::streamAllFloors);
+    }
+
     /**
      * Get paginated floors across all buildings.
      *
-     * @param page Page number (zero-based, default: 0)
+     * Buildings are ordered by their most recent floor creation (DESC), floors within
+     * a building by number (ASC). Each response carries a nextCursor; passing it back
+     * continues after the last row without scanning the skipped pages.
+     *
+     * @param page Page number (zero-based, default: 0), ignored when a cursor is given
      * @param size Page size (default: 20, max: 100)
+     * @param cursor Keyset token from a previous response (optional)
      * @return PageResponse with floors and pagination metadata
      */
     @GetMapping("/floors/paginated")
@@ -799,20 +917,25 @@ public class AdminController {
             @Parameter(description = "Page number (zero-based)", example = "0")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size (max: 100)", example = "20")
-            @RequestParam(defaultValue = "20") int size) {
-        // Floors are sorted by service: building by most recent floor creation DESC, floors within building by number ASC
-        Pageable pageable = PageRequest.of(page, Math.min(size, 100));
-        Page<FloorResponse> floorsPage = adminService.getFloorsPaginated(pageable);
-
-        PageResponse<FloorResponse> response = PageResponse.<FloorResponse>builder()
-                .items(floorsPage.getContent())
-                .page(page)
-                .size(size)
-                .totalElements(floorsPage.getTotalElements())
-                .totalPages(floorsPage.getTotalPages())
-                .build();
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Keyset cursor from a previous page (optional)")
+            @RequestParam(required = false) String cursor) {
+        // Ordering and paging happen in the database; see FloorPageRepository
+        int pageSize = Math.min(size, 100);
+        boolean byCursor = cursor != null && !cursor.isBlank();
+        CursorSlice<FloorResponse> floors = adminService.getFloorsPaginated(cursor, PageRequest.of(page, pageSize));
 
-        return ResponseEntity.ok(response);
+        PageResponse.PageResponseBuilder<FloorResponse> response = PageResponse.<FloorResponse>builder()
+                .items(floors.items())
+                .page(byCursor ? null : page)
+                .size(pageSize)
+                .nextCursor(floors.nextCursor());
+        if (floors.totalElements() != null) {
+            long total = floors.totalElements();
+            response.totalElements(total)
+                    .totalPages(pageSize > 0 ? (int) Math.ceil((double) total / pageSize) : 0);
+        }
+        return ResponseEntity.ok(response.build());
     }
 
     /**
@@ -886,6 +1009,41 @@ public class AdminController {
         return ResponseEntity.ok(adminService.getAllSpots());
     }
 
+    /**
+     * Stream all parking spots as a JSON array.
+     *
+     * Spots are read through a database cursor and written one by one, so heap
+     * stays flat regardless of the number of spots.
+     *
+     * @return JSON array of SpotResponse, streamed
+     */
+    @GetMapping(value = "/spots/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Stream all parking spots", description = "Streaming JSON array of spots for large tenants")
+    @ApiResponse(responseCode = "200", description = "Spots streamed successfully")
+    public ResponseEntity<StreamingResponseBody> streamSpots() {
+        return streamJsonArray(adminService::streamAllSpots);
+    }
+
+    // Writes each element handed to the sink straight to the response as part of a JSON array
+    private <T> ResponseEntity<StreamingResponseBody> streamJsonArray(Consumer<Consumer<T>> producer) {
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.writeStartArray();
+                producer.accept(element -> {
+                    try {
+                        generator.writeObject(element);
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
     /**
      * Get paginated parking spots across all floors.
      *
@@ -943,6 +1101,60 @@ public class AdminController {
         return ResponseEntity.ok(adminService.createSpot(request));
     }
 
+    /**
+     * Provision a floor with a numbered range of spots.
+     *
+     * Creates the floor when it does not exist and inserts spots prefix+start..prefix+end
+     * (zero padded) in JDBC batches. Spot numbers already present on the floor are
+     * skipped and reported per row; the remaining spots are still created.
+     *
+     * @param request Building, floor number, numbering range and spot type
+     * @return BulkSpotResult with created count and per-row errors
+     */
+    @PostMapping("/floors/provision")
+    @Operation(
+        summary = "Bulk provision spots for a floor",
+        description = "Create a floor (if needed) with spots such as A-001..A-150 of a given type"
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Spots provisioned; see errors for skipped rows"),
+        @ApiResponse(responseCode = "400", description = "Invalid range or building not found")
+    })
+    public ResponseEntity<BulkSpotResult> provisionFloor(
+            @Parameter(description = "Range provisioning request", required = true)
+            @Valid @RequestBody BulkSpotRangeRequest request) {
+        return ResponseEntity.ok(spotProvisioningService.provisionRange(request));
+    }
+
+    /**
+     * Import parking spots from a CSV file.
+     *
+     * Expected header: floor_id,spot_number,type[,status]. Status defaults to AVAILABLE
+     * and may be AVAILABLE or UNDER_MAINTENANCE. Invalid or duplicate rows are skipped
+     * and reported with their line number.
+     *
+     * @param file CSV file (multipart field "file")
+     * @return BulkSpotResult with created count and per-row errors
+     */
+    @PostMapping(value = "/spots/import", consumes = "multipart/form-data")
+    @Operation(
+        summary = "Import parking spots from CSV",
+        description = "Bulk insert spots from a CSV upload with per-row error reporting"
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Import processed; see errors for skipped rows"),
+        @ApiResponse(responseCode = "400", description = "Unreadable file or too many rows")
+    })
+    public ResponseEntity<BulkSpotResult> importSpots(
+            @Parameter(description = "CSV file", required = true)
+            @RequestParam("file") MultipartFile file) {
+        try {
+            return ResponseEntity.ok(spotProvisioningService.importCsv(file.getInputStream()));
+        } catch (IOException ex) {
+            throw new BadRequestException("Could not read CSV file");
+        }
+    }
+
     /**
      * Update parking spot details.
      *
@@ -126,7 +126,7 @@ public class AuthController {
      * - Password comparison using BCrypt secure hashing
      * - Inactive accounts are rejected
      * - Failed attempts do not reveal if email exists
-     * - Rate limiting should be implemented at infrastructure level
+     * - Requests are rate limited per client IP (rate-limit.groups "auth")
      *
      * @param request Login credentials (email and password)
      * @return AuthResponse containing JWT token and user details (excluding password)
@@ -16,24 +16,31 @@ import org.codeup.statiocore.domain.Reservation;
 import org.codeup.statiocore.domain.enums.PaymentMethod;
 import org.codeup.statiocore.domain.enums.SpotStatus;
 import org.codeup.statiocore.domain.enums.SpotType;
+import org.codeup.statiocore.exception.BadRequestException;
 import org.codeup.statiocore.exception.ResourceNotFoundException;
+import org.codeup.statiocore.repository.projection.SessionCursor;
 import org.codeup.statiocore.service.IReservationService;
 import org.codeup.statiocore.service.IParkingService;
 import org.codeup.statiocore.service.IPaymentService;
 import org.codeup.statiocore.service.IUserService;
 import org.codeup.statiocore.service.IAdminService;
+import org.codeup.statiocore.service.CursorSlice;
+import org.codeup.statiocore.web.dto.common.PageResponse;
 import org.codeup.statiocore.web.dto.user.*;
 import org.codeup.statiocore.web.mapper.ParkingSpotMapper;
 import org.codeup.statiocore.web.mapper.ReservationMapper;
 import org.codeup.statiocore.web.mapper.ParkingSessionMapper;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.codeup.statiocore.web.dto.admin.BuildingResponse;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Function;
 
 /**
  * User API Controller with comprehensive Swagger documentation.
@@ -68,6 +75,7 @@ import java.util.UUID;
     description = "User-facing endpoints for parking operations, reservations, and payment"
 )
 public class UserController {
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
 
     private final IUserService userService;
     private final IParkingService parkingService;
@@ -235,7 +243,8 @@ public class UserController {
      * Get all parking sessions history for user (active and completed).
      */
     @GetMapping("/parking/sessions/my")
-    @Operation(summary = "Get user's parking sessions history", description = "Retrieve complete history of all parking sessions")
+    @Operation(summary = "Get user's parking sessions history",
+               description = "Retrieve complete history of all parking sessions. Prefer /parking/sessions/history, which is paginated")
     @ApiResponse(responseCode = "200", description = "Sessions retrieved")
     @SecurityRequirement(name = "Bearer")
     public ResponseEntity<List<ParkingSessionResponse>> getMySessions(@AuthenticationPrincipal UUID userId) {
@@ -243,6 +252,63 @@ public class UserController {
         return ResponseEntity.ok(parkingSessionMapper.toResponses(sessions));
     }
 
+    /**
+     * Page through the user's session history, newest first.
+     *
+     * Cursor-based: pass the returned nextCursor to fetch the following page.
+     * With compact=true the nested spot object is omitted (spotNumber,
+     * buildingName and floorNumber are already flattened on each session).
+     */
+    @GetMapping("/parking/sessions/history")
+    @Operation(summary = "Page through parking session history",
+               description = "Cursor-paginated session history with optional check-in date range and compact mode")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Sessions retrieved"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or date range")
+    })
+    @SecurityRequirement(name = "Bearer")
+    public ResponseEntity<PageResponse<ParkingSessionResponse>> getSessionHistory(
+            @AuthenticationPrincipal UUID userId,
+            @Parameter(description = "Opaque cursor from the previous page (nextCursor)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max: 100)", example = "20")
+            @RequestParam(defaultValue = "20") int limit,
+            @Parameter(description = "First check-in day, inclusive (ISO-8601 date, UTC)", example = "2025-01-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "Last check-in day, inclusive (ISO-8601 date, UTC)", example = "2025-01-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = "Omit the nested spot object")
+            @RequestParam(defaultValue = "false") boolean compact) {
+        if (startDate != null && endDate != null && endDate.isBefore(startDate)) {
+            throw new BadRequestException("endDate must not be before startDate");
+        }
+        SessionCursor after;
+        try {
+            after = cursor != null && !cursor.isBlank() ? SessionCursor.decode(cursor) : null;
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        int pageSize = Math.min(Math.max(limit, 1), MAX_HISTORY_PAGE_SIZE);
+
+        CursorSlice<ParkingSession> history = parkingService.getUserSessionHistory(userId, after, startDate, endDate, pageSize);
+        Function<ParkingSession, ParkingSessionResponse> toResponse = compact
+                ? parkingSessionMapper::toCompactResponse
+                : parkingSessionMapper::toResponse;
+
+        PageResponse<ParkingSessionResponse> response = PageResponse.<ParkingSessionResponse>builder()
+                .items(history.items().stream().map(toResponse).toList())
+                .page(after != null ? null : 0)
+                .size(pageSize)
+                // Counted on the first page only; omitted on cursor pages
+                .totalElements(history.totalElements())
+                .totalPages(history.totalElements() != null
+                        ? (int) Math.ceil((double) history.totalElements() / pageSize)
+                        : null)
+                .nextCursor(history.nextCursor())
+                .build();
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Get user's parking spot reservations.
      */
@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.time.OffsetDateTime;
 
 @Data @NoArgsConstructor @AllArgsConstructor @Builder
 public class AdminDashboardResponse {
@@ -19,4 +20,7 @@ public class AdminDashboardResponse {
     private Long activeSessions;
     private Long totalReservations;
     private Long totalPayments;
+    // When the underlying snapshot was computed and its age at response time
+    private OffsetDateTime generatedAt;
+    private Long stalenessSeconds;
 }
@@ -0,0 +1,53 @@
+package org.codeup.statiocore.web.dto.admin;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Provision a floor with a numbered range of spots, e.g. prefix "A-",
+ * start 1, end 150, padding 3 gives A-001..A-150. The floor is created
+ * when it does not exist yet.
+ */
+@Data @NoArgsConstructor @AllArgsConstructor @Builder
+public class BulkSpotRangeRequest {
+    @NotNull(message = "Building ID is required")
+    private UUID buildingId;
+
+    @NotNull(message = "Floor number is required")
+    private Integer floorNumber;
+
+    @NotBlank(message = "Spot prefix is required")
+    @Size(max = 10, message = "Spot prefix must not exceed 10 characters")
+    private String prefix;
+
+    @NotNull(message = "Range start is required")
+    @Min(value = 0, message = "Range start must be zero or positive")
+    private Integer start;
+
+    @NotNull(message = "Range end is required")
+    @Min(value = 0, message = "Range end must be zero or positive")
+    private Integer end;
+
+    @Min(value = 1, message = "Padding must be at least 1")
+    @Max(value = 6, message = "Padding must not exceed 6")
+    @Builder.Default
+    private Integer padding = 3;
+
+    @NotBlank(message = "Spot type is required")
+    @Pattern(regexp = "STANDARD|VIP|HANDICAP|EV_CHARGING", message = "Invalid spot type")
+    private String type;
+
+    @Pattern(regexp = "AVAILABLE|UNDER_MAINTENANCE", message = "Invalid spot status")
+    @Builder.Default
+    private String status = "AVAILABLE";
+}
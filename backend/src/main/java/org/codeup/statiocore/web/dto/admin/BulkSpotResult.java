@@ -0,0 +1,23 @@
+package org.codeup.statiocore.web.dto.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data @NoArgsConstructor @AllArgsConstructor @Builder
+public class BulkSpotResult {
+    private int requested;
+    private int created;
+    private List<RowError> errors;
+
+    @Data @NoArgsConstructor @AllArgsConstructor @Builder
+    public static class RowError {
+        // 1-based row (CSV line or position in the range)
+        private int row;
+        private String spotNumber;
+        private String message;
+    }
+}
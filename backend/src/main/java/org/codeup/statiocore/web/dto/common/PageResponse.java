@@ -1,5 +1,6 @@
 package org.codeup.statiocore.web.dto.common;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -13,9 +14,18 @@ import java.util.List;
 @Builder
 public class PageResponse<T> {
     private List<T> items;
-    private int page;
+    // Zero-based page number; omitted for pages reached through a cursor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer page;
     private int size;
-    private long totalElements;
-    private int totalPages;
+    // Omitted when the listing did not count its rows for this page (later cursor pages)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long totalElements;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer totalPages;
+
+    // Opaque keyset token for the next page; only set by endpoints that support cursors
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
 }
 
@@ -1,6 +1,7 @@
 package org.codeup.statiocore.web.dto.user;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -22,6 +23,8 @@ public class ParkingSessionResponse {
     private String buildingName;
     private Integer floorNumber;
     private String vehicleNumber;
+    // Omitted in compact responses
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private ParkingSpotResponse spot;
     
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
@@ -1,6 +1,7 @@
 package org.codeup.statiocore.web.mapper;
 
 import org.codeup.statiocore.domain.ActivityLog;
+import org.codeup.statiocore.domain.ActivityPayload;
 import org.codeup.statiocore.web.dto.admin.ActivityLogResponse;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -11,7 +12,39 @@ import java.util.List;
 public interface ActivityLogMapper {
     @Mapping(target = "userId", source = "user.id")
     @Mapping(target = "userEmail", source = "user.email")
+    @Mapping(target = "details", expression = "java(renderDetails(log))")
     ActivityLogResponse toResponse(ActivityLog log);
     List<ActivityLogResponse> toResponses(List<ActivityLog> logs);
-}
 
+    // Render the structured payload into text only when the admin UI reads the log.
+    // Rows written before the payload column existed fall back to the stored details.
+    default String renderDetails(ActivityLog log) {
+        ActivityPayload p = log.getPayload();
+        if (p == null) {
+            return log.getDetails();
+        }
+
+        return switch (log.getAction()) {
+            case "CHECK_IN" -> "Checked in at spot " + p.getSpotNumber();
+            case "CHECK_OUT" -> String.format(
+                    "Checked out from spot %s. Duration: %d minutes. Amount: $%s. Payment method: %s. Transaction: %s",
+                    p.getSpotNumber(), p.getDurationMinutes(), p.getAmount(), p.getPaymentMethod(), p.getTransactionRef());
+            case "PAYMENT_PROCESSED" -> String.format(
+                    "Payment processed successfully. Amount: $%s, Method: %s, Transaction: %s",
+                    p.getAmount(), p.getPaymentMethod(), p.getTransactionRef());
+            case "RESERVATION_CREATED" -> String.format(
+                    "User created a new reservation for spot %s from %s to %s",
+                    p.getSpotNumber(), p.getStartTime(), p.getEndTime());
+            case "USER_REGISTERED" -> "New user account created";
+            case "USER_CREATED" -> String.format("User created: %s with role %s", p.getTargetEmail(), p.getRole());
+            case "USER_UPDATED" -> "User updated: " + p.getTargetEmail();
+            case "USER_STATUS_UPDATED" -> String.format("User %s %s",
+                    p.getTargetEmail(), Boolean.TRUE.equals(p.getActive()) ? "activated" : "deactivated");
+            case "USER_DELETED" -> "User soft deleted: " + p.getTargetEmail();
+            case "USER_ROLE_UPDATED" -> String.format("Admin updated user role for %s from %s to %s",
+                    p.getTargetEmail(), p.getPreviousRole(), p.getRole());
+            case "USER_DEACTIVATED" -> "Admin deactivated user " + p.getTargetEmail();
+            default -> log.getDetails();
+        };
+    }
+}
@@ -1,17 +1,34 @@
 package org.codeup.statiocore.web.mapper;
 
 import org.codeup.statiocore.domain.Building;
+import org.codeup.statiocore.repository.projection.BuildingStats;
+import org.codeup.statiocore.service.cache.BuildingSnapshot;
 import org.codeup.statiocore.web.dto.admin.BuildingResponse;
-import org.codeup.statiocore.web.mapper.decorator.BuildingMapperDecorator;
-import org.mapstruct.DecoratedWith;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
-@DecoratedWith(BuildingMapperDecorator.class)
 public interface BuildingMapper {
-    @Mapping(target = "totalFloors", ignore = true)
-    @Mapping(target = "totalSpots", ignore = true)
-    BuildingResponse toResponse(Building building);
+    // Counts come precomputed from the stats query, no per-building lookups
+    @Mapping(target = "id", source = "building.id")
+    @Mapping(target = "name", source = "building.name")
+    @Mapping(target = "address", source = "building.address")
+    @Mapping(target = "createdAt", source = "building.createdAt")
+    @Mapping(target = "totalFloors", source = "stats.totalFloors")
+    @Mapping(target = "totalSpots", source = "stats.totalSpots")
+    @Mapping(target = "occupiedSpots", source = "stats.occupiedSpots")
+    @Mapping(target = "availableSpots", source = "stats.availableSpots")
+    BuildingResponse toResponse(Building building, BuildingStats stats);
+
+    // Cached path: reference data snapshot plus stats
+    @Mapping(target = "id", source = "building.id")
+    @Mapping(target = "name", source = "building.name")
+    @Mapping(target = "address", source = "building.address")
+    @Mapping(target = "createdAt", source = "building.createdAt")
+    @Mapping(target = "totalFloors", source = "stats.totalFloors")
+    @Mapping(target = "totalSpots", source = "stats.totalSpots")
+    @Mapping(target = "occupiedSpots", source = "stats.occupiedSpots")
+    @Mapping(target = "availableSpots", source = "stats.availableSpots")
+    BuildingResponse toResponse(BuildingSnapshot building, BuildingStats stats);
 }
 
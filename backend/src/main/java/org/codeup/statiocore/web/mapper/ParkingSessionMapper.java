@@ -4,6 +4,7 @@ import org.codeup.statiocore.domain.ParkingSession;
 import org.codeup.statiocore.web.dto.user.ParkingSessionResponse;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.Named;
 
 import java.util.List;
 
@@ -25,6 +26,22 @@ public interface ParkingSessionMapper {
     ParkingSessionResponse toResponse(ParkingSession session);
     
     List<ParkingSessionResponse> toResponses(List<ParkingSession> sessions);
+
+    // Same as toResponse without the nested spot; its fields are already flattened above
+    @Mapping(target = "userId", source = "user.id")
+    @Mapping(target = "spotId", source = "spot.id")
+    @Mapping(target = "spotNumber", source = "spot.spotNumber")
+    @Mapping(target = "buildingName", source = "spot.floor.building.name")
+    @Mapping(target = "floorNumber", source = "spot.floor.floorNumber")
+    @Mapping(target = "spot", ignore = true)
+    @Mapping(target = "vehicleNumber", source = "vehicleNumber")
+    @Mapping(target = "status", expression = "java(session.getStatus().name())")
+    @Mapping(target = "duration", expression = "java(calculateDuration(session))")
+    @Mapping(target = "fee", source = "amountDue")
+    @Mapping(target = "transactionId", ignore = true)
+    @Mapping(target = "paymentMethod", ignore = true)
+    @Named("compact")
+    ParkingSessionResponse toCompactResponse(ParkingSession session);
     
     // Helper method to calculate duration in minutes
     default Long calculateDuration(ParkingSession session) {
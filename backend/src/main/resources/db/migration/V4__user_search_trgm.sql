@@ -0,0 +1,10 @@
+-- ==========================================
+-- V4__user_search_trgm.sql
+-- Trigram indexes for admin user search
+-- ==========================================
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Serve similarity (%) and ILIKE '%term%' lookups on email and full name
+CREATE INDEX idx_users_email_trgm ON users USING GIN (email gin_trgm_ops);
+CREATE INDEX idx_users_full_name_trgm ON users USING GIN (full_name gin_trgm_ops);
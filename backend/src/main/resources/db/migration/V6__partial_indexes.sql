@@ -0,0 +1,45 @@
+-- ==========================================
+-- V6__partial_indexes.sql
+-- Partial indexes for active sessions and free spots
+-- ==========================================
+
+-- Duplicate active sessions can only come from the check-in race closed below.
+-- Keep each user's latest one and release the spots held by the others.
+WITH duplicates AS (
+    SELECT id, spot_id
+    FROM (
+        SELECT id, spot_id,
+               ROW_NUMBER() OVER (PARTITION BY user_id ORDER BY check_in_time DESC, id DESC) AS rn
+        FROM parking_sessions
+        WHERE status = 'ACTIVE'
+    ) ranked
+    WHERE rn > 1
+), closed AS (
+    UPDATE parking_sessions s
+    SET status = 'COMPLETED', check_out_time = now()
+    FROM duplicates d
+    WHERE s.id = d.id
+    RETURNING s.spot_id
+)
+UPDATE parking_spots p
+SET status = 'AVAILABLE'
+WHERE p.id IN (SELECT spot_id FROM closed)
+  AND p.status = 'OCCUPIED'
+  AND NOT EXISTS (
+      SELECT 1 FROM parking_sessions a
+      WHERE a.spot_id = p.id AND a.status = 'ACTIVE'
+        AND a.id NOT IN (SELECT id FROM duplicates)
+  );
+
+-- At most one active session per user; check-in relies on this instead of a pre-check query
+CREATE UNIQUE INDEX uk_sessions_user_active ON parking_sessions(user_id) WHERE status = 'ACTIVE';
+
+-- Serves findBySpotIdAndStatus(spotId, ACTIVE) and the active-session count
+CREATE INDEX idx_sessions_spot_active ON parking_sessions(spot_id) WHERE status = 'ACTIVE';
+
+-- Serves the availability listing (AVAILABLE and not reserved), grouped by floor
+CREATE INDEX idx_spots_available_unreserved ON parking_spots(floor_id, spot_number)
+    WHERE status = 'AVAILABLE' AND reserved_by_user_id IS NULL;
+
+-- Low selectivity: almost every session is COMPLETED
+DROP INDEX IF EXISTS idx_sessions_status;
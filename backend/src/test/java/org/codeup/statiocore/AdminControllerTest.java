@@ -1,10 +1,21 @@
 package org.codeup.statiocore;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.codeup.statiocore.domain.User;
+import org.codeup.statiocore.domain.enums.Role;
+import org.codeup.statiocore.security.AccountStatusRegistry;
+import org.codeup.statiocore.service.CursorSlice;
+import org.codeup.statiocore.service.IActivityLogService;
 import org.codeup.statiocore.service.IAdminService;
+import org.codeup.statiocore.service.ISpotProvisioningService;
 import org.codeup.statiocore.repository.IActivityLogRepository;
 import org.codeup.statiocore.repository.IUserRepository;
+import org.codeup.statiocore.repository.IUserSearchRepository;
+import org.codeup.statiocore.repository.projection.UserSearchCursor;
+import org.codeup.statiocore.repository.projection.UserSearchHit;
 import org.codeup.statiocore.web.controller.AdminController;
+import org.codeup.statiocore.web.dto.admin.FloorResponse;
+import org.codeup.statiocore.web.dto.admin.SpotResponse;
 import org.codeup.statiocore.web.mapper.ActivityLogMapper;
 import org.codeup.statiocore.web.mapper.UserMapper;
 import org.junit.jupiter.api.Test;
@@ -13,14 +24,26 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.hamcrest.Matchers.notNullValue;
@@ -41,12 +64,27 @@ public class AdminControllerTest {
     @MockBean
     private IUserRepository userRepository;
 
+    @MockBean
+    private IUserSearchRepository userSearchRepository;
+
     @MockBean
     private ActivityLogMapper activityLogMapper;
 
     @MockBean
     private UserMapper userMapper;
 
+    @MockBean
+    private ISpotProvisioningService spotProvisioningService;
+
+    @MockBean
+    private AccountStatusRegistry accountStatusRegistry;
+
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private IActivityLogService activityLogService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -66,5 +104,106 @@ public class AdminControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", notNullValue()));
     }
-}
 
+    @Test
+    public void floorsPaginated_byPage_reportsPageAndNextCursor() throws Exception {
+        FloorResponse floor = FloorResponse.builder().floorNumber(1).build();
+        Mockito.when(adminService.getFloorsPaginated(isNull(), any()))
+                .thenReturn(new CursorSlice<>(List.of(floor), "next-token", 45L));
+
+        mockMvc.perform(get("/api/admin/floors/paginated").param("page", "1").param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.page").value(1))
+                .andExpect(jsonPath("$.totalElements").value(45))
+                .andExpect(jsonPath("$.totalPages").value(3))
+                .andExpect(jsonPath("$.nextCursor").value("next-token"))
+                .andExpect(jsonPath("$.items[0].floorNumber").value(1));
+    }
+
+    @Test
+    public void floorsPaginated_byCursor_omitsPageNumberAndTotals() throws Exception {
+        Mockito.when(adminService.getFloorsPaginated(eq("cursor-token"), any()))
+                .thenReturn(new CursorSlice<>(List.of(), null, null));
+
+        mockMvc.perform(get("/api/admin/floors/paginated").param("cursor", "cursor-token").param("page", "4"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.page").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").doesNotExist())
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andExpect(jsonPath("$.totalPages").doesNotExist());
+    }
+
+    @Test
+    public void streamSpots_writesEachElementAsPartOfAJsonArray() throws Exception {
+        Mockito.doAnswer(invocation -> {
+            Consumer<SpotResponse> sink = invocation.getArgument(0);
+            sink.accept(SpotResponse.builder().spotNumber("A-001").status("AVAILABLE").build());
+            sink.accept(SpotResponse.builder().spotNumber("A-002").status("OCCUPIED").build());
+            return null;
+        }).when(adminService).streamAllSpots(any());
+
+        MvcResult started = mockMvc.perform(get("/api/admin/spots/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].spotNumber").value("A-001"))
+                .andExpect(jsonPath("$[1].status").value("OCCUPIED"));
+    }
+
+    @Test
+    public void streamBuildings_withNoRows_writesAnEmptyArray() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/admin/buildings/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(content().string("[]"));
+    }
+
+    @Test
+    public void searchUsers_firstPage_countsMatchesAndReturnsCursor() throws Exception {
+        List<UserSearchHit> hits = List.of(hit(10_000), hit(10_000), hit(0));
+        Mockito.when(userSearchRepository.search(eq("jdoe"), eq(Role.USER), isNull(), isNull(), eq(0L), eq(3)))
+                .thenReturn(hits);
+        Mockito.when(userSearchRepository.count(eq("jdoe"), eq(Role.USER), isNull(), anyInt())).thenReturn(5L);
+
+        mockMvc.perform(get("/api/admin/users").param("search", "jdoe").param("role", "USER").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.page").value(0))
+                .andExpect(jsonPath("$.totalElements").value(5))
+                .andExpect(jsonPath("$.totalPages").value(3))
+                .andExpect(jsonPath("$.nextCursor").value(hits.get(1).toCursor().encode()));
+    }
+
+    @Test
+    public void searchUsers_byCursor_skipsTheCountAndStopsOnTheLastPage() throws Exception {
+        UserSearchCursor after = new UserSearchCursor(10_000, UUID.randomUUID());
+        Mockito.when(userSearchRepository.search(eq("jdoe"), isNull(), isNull(), eq(after), anyLong(), eq(3)))
+                .thenReturn(List.of(hit(0)));
+
+        mockMvc.perform(get("/api/admin/users").param("search", "jdoe").param("size", "2")
+                        .param("cursor", after.encode()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.page").doesNotExist())
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        verify(userSearchRepository, never()).count(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    public void searchUsers_withMalformedCursor_isBadRequest() throws Exception {
+        mockMvc.perform(get("/api/admin/users").param("search", "jdoe").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static UserSearchHit hit(int rank) {
+        return new UserSearchHit(User.builder().id(UUID.randomUUID()).role(Role.USER).build(), rank);
+    }
+}
@@ -1,6 +1,7 @@
 package org.codeup.statiocore;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.codeup.statiocore.security.AccountStatusRegistry;
 import org.codeup.statiocore.service.IAuthService;
 import org.codeup.statiocore.web.controller.AuthController;
 import org.codeup.statiocore.web.dto.auth.AuthResponse;
@@ -31,6 +32,9 @@ public class AuthControllerTest {
     @MockBean
     private IAuthService authService;
 
+    @MockBean
+    private AccountStatusRegistry accountStatusRegistry;
+
     @Autowired
     private ObjectMapper objectMapper;
 
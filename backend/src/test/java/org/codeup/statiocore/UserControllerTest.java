@@ -1,13 +1,19 @@
 package org.codeup.statiocore;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.codeup.statiocore.domain.ParkingSession;
+import org.codeup.statiocore.repository.projection.SessionCursor;
+import org.codeup.statiocore.security.AccountStatusRegistry;
+import org.codeup.statiocore.service.CursorSlice;
 import org.codeup.statiocore.service.IAdminService;
+import org.codeup.statiocore.service.IPaymentService;
 import org.codeup.statiocore.service.IReservationService;
 import org.codeup.statiocore.service.IParkingService;
 import org.codeup.statiocore.service.IUserService;
 import org.codeup.statiocore.web.controller.UserController;
 import org.codeup.statiocore.web.mapper.ParkingSpotMapper;
 import org.codeup.statiocore.web.mapper.ParkingSessionMapper;
+import org.codeup.statiocore.web.mapper.ReservationMapper;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,13 +22,18 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.UUID;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 
 @WebMvcTest(controllers = UserController.class)
 @AutoConfigureMockMvc(addFilters = false)
@@ -40,15 +51,24 @@ public class UserControllerTest {
     @MockBean
     private IReservationService reservationService;
 
+    @MockBean
+    private IPaymentService paymentService;
+
     @MockBean
     private IAdminService adminService;
 
+    @MockBean
+    private ReservationMapper reservationMapper;
+
     @MockBean
     private ParkingSpotMapper parkingSpotMapper;
 
     @MockBean
     private ParkingSessionMapper parkingSessionMapper;
 
+    @MockBean
+    private AccountStatusRegistry accountStatusRegistry;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -72,4 +92,30 @@ public class UserControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(0)));
     }
+
+    @Test
+    public void sessionHistory_firstPage_reportsTotalAndCursor() throws Exception {
+        Mockito.when(parkingService.getUserSessionHistory(any(), isNull(), any(), any(), anyInt()))
+                .thenReturn(new CursorSlice<>(List.of(new ParkingSession()), "next-token", 45L));
+
+        mockMvc.perform(get("/api/parking/sessions/history").param("limit", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.page").value(0))
+                .andExpect(jsonPath("$.totalElements").value(45))
+                .andExpect(jsonPath("$.totalPages").value(3))
+                .andExpect(jsonPath("$.nextCursor").value("next-token"));
+    }
+
+    @Test
+    public void sessionHistory_byCursor_omitsTheTotal() throws Exception {
+        SessionCursor after = new SessionCursor(OffsetDateTime.now(), UUID.randomUUID());
+        Mockito.when(parkingService.getUserSessionHistory(any(), eq(after), any(), any(), anyInt()))
+                .thenReturn(new CursorSlice<>(List.of(), null, null));
+
+        mockMvc.perform(get("/api/parking/sessions/history").param("cursor", after.encode()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.page").doesNotExist())
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
 }
@@ -0,0 +1,100 @@
+package org.codeup.statiocore.config.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Routing between two H2 databases standing in for the primary and a replica.
+ * Each holds a one-row table naming itself, and the replica exposes its
+ * "lag" in a table the lag query reads.
+ *
+ * @author TonyS-dev
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+    private ReplicaLagMonitor lagMonitor;
+    private JdbcTemplate routed;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primaryDataSource = h2("routing_primary");
+        DataSource replicaDataSource = h2("routing_replica");
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaDataSource);
+        primary.execute("CREATE TABLE node (name VARCHAR(20))");
+        primary.update("INSERT INTO node VALUES ('primary')");
+        replica.execute("CREATE TABLE node (name VARCHAR(20))");
+        replica.update("INSERT INTO node VALUES ('replica')");
+        replica.execute("CREATE TABLE replica_lag (lag_ms BIGINT)");
+        replica.update("INSERT INTO replica_lag VALUES (0)");
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        lagMonitor = new ReplicaLagMonitor(Map.of("replica-1", replicaDataSource), 1_000,
+                "SELECT lag_ms FROM replica_lag", meterRegistry);
+        DataSource routing = new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primaryDataSource, lagMonitor, meterRegistry));
+
+        routed = new JdbcTemplate(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.execute("DROP ALL OBJECTS");
+        replica.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    void readOnlyTransactionsGoToAHealthyReplica() {
+        lagMonitor.check();
+
+        assertEquals("replica", readOnlyTransaction.execute(status -> currentNode()));
+        assertEquals("primary", writeTransaction.execute(status -> currentNode()));
+    }
+
+    @Test
+    void readsFallBackToPrimaryWhileTheReplicaLags() {
+        replica.update("UPDATE replica_lag SET lag_ms = 60000");
+        lagMonitor.check();
+
+        assertTrue(lagMonitor.availableReplicas().isEmpty());
+        assertEquals("primary", readOnlyTransaction.execute(status -> currentNode()));
+
+        replica.update("UPDATE replica_lag SET lag_ms = 200");
+        lagMonitor.check();
+
+        assertEquals("replica", readOnlyTransaction.execute(status -> currentNode()));
+    }
+
+    @Test
+    void replicaIsUnusedUntilItsLagHasBeenChecked() {
+        assertEquals("primary", readOnlyTransaction.execute(status -> currentNode()));
+    }
+
+    private String currentNode() {
+        return routed.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+}
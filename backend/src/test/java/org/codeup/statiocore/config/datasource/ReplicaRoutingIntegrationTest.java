@@ -0,0 +1,148 @@
+package org.codeup.statiocore.config.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.codeup.statiocore.domain.Building;
+import org.codeup.statiocore.domain.Floor;
+import org.codeup.statiocore.domain.ParkingSession;
+import org.codeup.statiocore.domain.ParkingSpot;
+import org.codeup.statiocore.domain.User;
+import org.codeup.statiocore.domain.enums.Role;
+import org.codeup.statiocore.domain.enums.SpotStatus;
+import org.codeup.statiocore.domain.enums.SpotType;
+import org.codeup.statiocore.repository.IBuildingRepository;
+import org.codeup.statiocore.repository.IFloorRepository;
+import org.codeup.statiocore.repository.IParkingSpotRepository;
+import org.codeup.statiocore.repository.IUserRepository;
+import org.codeup.statiocore.service.IParkingService;
+import org.codeup.statiocore.service.IUserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Routing with the full application context. The "replica" is a second pool
+ * on the same H2 database, so every read succeeds wherever it is routed;
+ * which pool served a request is told apart by the connections each pool
+ * handed out (hikaricp.connections.acquire).
+ *
+ * - A request that reads and then writes sends the write to the primary
+ * - Reads that follow the caller's own write stay on the primary
+ *
+ * @author TonyS-dev
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routingdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=PostgreSQL",
+        "datasource.routing.enabled=true",
+        "datasource.routing.lag-query=SELECT 0",
+        "datasource.routing.lag-check-interval-ms=3600000",
+        "datasource.routing.replicas[0].name=replica-1",
+        "datasource.routing.replicas[0].url=jdbc:h2:mem:routingdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;MODE=PostgreSQL",
+        "datasource.routing.replicas[0].username=sa",
+        "datasource.routing.replicas[0].password="
+})
+@AutoConfigureMockMvc(addFilters = false)
+class ReplicaRoutingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReplicaLagMonitor lagMonitor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private IParkingService parkingService;
+
+    @Autowired
+    private IUserService userService;
+
+    @Autowired
+    private IUserRepository userRepository;
+
+    @Autowired
+    private IBuildingRepository buildingRepository;
+
+    @Autowired
+    private IFloorRepository floorRepository;
+
+    @Autowired
+    private IParkingSpotRepository spotRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .email("routing-" + UUID.randomUUID() + "@example.com")
+                .passwordHash("not-a-real-hash")
+                .fullName("Routing Test")
+                .role(Role.USER)
+                .build());
+        lagMonitor.check();
+        assertEquals(1, lagMonitor.availableReplicas().size());
+    }
+
+    @Test
+    void readThenWriteInOneRequestWritesToThePrimary() throws Exception {
+        double primaryBefore = acquired(ReplicaRoutingDataSource.PRIMARY);
+        double replicaBefore = acquired("replica-1");
+
+        // findById (read-only) and then save, activity log insert
+        mockMvc.perform(put("/api/admin/users/{userId}", user.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"fullName\":\"Renamed Through Routing\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.fullName").value("Renamed Through Routing"));
+
+        assertTrue(acquired("replica-1") > replicaBefore, "the lookup should be served by the replica");
+        assertTrue(acquired(ReplicaRoutingDataSource.PRIMARY) > primaryBefore, "the update should go to the primary");
+        assertEquals("Renamed Through Routing", userRepository.findById(user.getId()).orElseThrow().getFullName());
+    }
+
+    @Test
+    void readsAfterOwnWriteStayOnThePrimary() {
+        ParkingSession session = parkingService.checkIn(user.getId(), newSpot().getId(), "RYW-001");
+        double replicaBefore = acquired("replica-1");
+
+        parkingService.calculateFee(session.getId());
+        parkingService.getActiveSessions(user.getId());
+        userService.getDashboard(user.getId());
+        parkingService.getAvailableSpots(null, null, null, null);
+
+        assertEquals(replicaBefore, acquired("replica-1"));
+    }
+
+    private double acquired(String pool) {
+        return meterRegistry.get("hikaricp.connections.acquire").tag("pool", pool).timer().count();
+    }
+
+    private ParkingSpot newSpot() {
+        Building building = buildingRepository.save(Building.builder()
+                .name("Routing Tower " + UUID.randomUUID())
+                .address("1 Routing Street")
+                .build());
+        Floor floor = floorRepository.save(Floor.builder()
+                .building(building)
+                .floorNumber(1)
+                .build());
+        return spotRepository.save(ParkingSpot.builder()
+                .floor(floor)
+                .spotNumber("R-" + UUID.randomUUID().toString().substring(0, 8))
+                .type(SpotType.STANDARD)
+                .status(SpotStatus.AVAILABLE)
+                .build());
+    }
+}
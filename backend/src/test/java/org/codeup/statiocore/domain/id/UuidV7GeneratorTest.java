@@ -0,0 +1,27 @@
+package org.codeup.statiocore.domain.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7GeneratorTest {
+
+    @Test
+    void generatesVersion7IdsInIssueOrder() {
+        long before = System.currentTimeMillis();
+        UUID previous = UuidV7Generator.next();
+
+        for (int i = 0; i < 100_000; i++) {
+            UUID next = UuidV7Generator.next();
+            assertEquals(7, next.version());
+            assertEquals(2, next.variant());
+            assertTrue(Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits()) > 0);
+            previous = next;
+        }
+
+        long timestamp = previous.getMostSignificantBits() >>> 16;
+        assertTrue(timestamp >= before);
+    }
+}
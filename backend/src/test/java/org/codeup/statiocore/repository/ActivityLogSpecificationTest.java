@@ -0,0 +1,102 @@
+package org.codeup.statiocore.repository;
+
+import org.codeup.statiocore.domain.ActivityLog;
+import org.codeup.statiocore.domain.ActivityPayload;
+import org.codeup.statiocore.domain.User;
+import org.codeup.statiocore.domain.enums.Role;
+import org.codeup.statiocore.repository.specification.ActivityLogSpecification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Audit log filters: the spot filter (a predicate on the JSONB payload)
+ * combines with the user, action and date filters instead of replacing them.
+ * Each test uses a fresh spot id, so other tests' rows never match.
+ *
+ * @author TonyS-dev
+ */
+@SpringBootTest
+@Transactional
+class ActivityLogSpecificationTest {
+
+    @Autowired
+    private IActivityLogRepository activityLogRepository;
+
+    @Autowired
+    private IUserRepository userRepository;
+
+    private UUID spotId;
+    private User alice;
+    private User bob;
+
+    @BeforeEach
+    void setUp() {
+        spotId = UUID.randomUUID();
+        alice = user("alice");
+        bob = user("bob");
+    }
+
+    @Test
+    void spotFilterMatchesOnlyThatSpot() {
+        ActivityLog checkIn = log(alice, "CHECK_IN", spotId);
+        log(alice, "CHECK_IN", UUID.randomUUID());
+        log(alice, "USER_UPDATED", null);
+
+        assertEquals(List.of(checkIn.getId()), ids(find(null, null, null, spotId)));
+    }
+
+    @Test
+    void spotFilterCombinesWithUserAndAction() {
+        ActivityLog aliceCheckOut = log(alice, "CHECK_OUT", spotId);
+        log(alice, "CHECK_IN", spotId);
+        log(bob, "CHECK_OUT", spotId);
+
+        assertEquals(List.of(aliceCheckOut.getId()), ids(find(alice.getId(), "CHECK_OUT", null, spotId)));
+        assertEquals(2, find(alice.getId(), null, null, spotId).getTotalElements());
+    }
+
+    @Test
+    void spotFilterCombinesWithDateRange() {
+        log(alice, "CHECK_IN", spotId);
+
+        assertEquals(1, find(null, null, LocalDate.now().minusDays(1), spotId).getTotalElements());
+        assertEquals(0, find(null, null, LocalDate.now().plusDays(1), spotId).getTotalElements());
+    }
+
+    private Page<ActivityLog> find(UUID userId, String action, LocalDate start, UUID spot) {
+        return activityLogRepository.findAll(
+                ActivityLogSpecification.withFilters(userId, action, start, null, spot), PageRequest.of(0, 20));
+    }
+
+    private ActivityLog log(User user, String action, UUID spot) {
+        return activityLogRepository.save(ActivityLog.builder()
+                .user(user)
+                .action(action)
+                .payload(ActivityPayload.builder().spotId(spot).spotNumber("A-1").build())
+                .build());
+    }
+
+    private User user(String name) {
+        return userRepository.save(User.builder()
+                .email(name + "-" + UUID.randomUUID() + "@example.com")
+                .passwordHash("not-a-real-hash")
+                .fullName(name)
+                .role(Role.USER)
+                .build());
+    }
+
+    private static List<UUID> ids(Page<ActivityLog> page) {
+        return page.getContent().stream().map(ActivityLog::getId).toList();
+    }
+}
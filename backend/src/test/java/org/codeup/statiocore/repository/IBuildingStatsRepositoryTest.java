@@ -0,0 +1,95 @@
+package org.codeup.statiocore.repository;
+
+import org.codeup.statiocore.domain.Building;
+import org.codeup.statiocore.domain.Floor;
+import org.codeup.statiocore.domain.ParkingSpot;
+import org.codeup.statiocore.domain.enums.SpotStatus;
+import org.codeup.statiocore.domain.enums.SpotType;
+import org.codeup.statiocore.repository.projection.BuildingStats;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Aggregate building stats: conditional counts per status and zero counts
+ * for buildings without floors.
+ *
+ * @author TonyS-dev
+ */
+@SpringBootTest
+@Transactional
+class IBuildingStatsRepositoryTest {
+
+    @Autowired
+    private IBuildingStatsRepository buildingStatsRepository;
+
+    @Autowired
+    private IBuildingRepository buildingRepository;
+
+    @Autowired
+    private IFloorRepository floorRepository;
+
+    @Autowired
+    private IParkingSpotRepository spotRepository;
+
+    @Test
+    void countsFloorsAndSpotsByStatusInOneRowPerBuilding() {
+        Building tower = building("Stats Tower");
+        Floor ground = floor(tower, 1);
+        Floor upper = floor(tower, 2);
+        spot(ground, "S-001", SpotStatus.AVAILABLE);
+        spot(ground, "S-002", SpotStatus.OCCUPIED);
+        spot(upper, "S-003", SpotStatus.OCCUPIED);
+        spot(upper, "S-004", SpotStatus.UNDER_MAINTENANCE);
+        Building empty = building("Empty Lot");
+
+        Map<UUID, BuildingStats> stats = buildingStatsRepository
+                .findStatsByBuildingIds(List.of(tower.getId(), empty.getId())).stream()
+                .collect(Collectors.toMap(BuildingStats::buildingId, Function.identity()));
+
+        assertEquals(new BuildingStats(tower.getId(), 2L, 4L, 2L, 1L), stats.get(tower.getId()));
+        assertEquals(BuildingStats.empty(empty.getId()), stats.get(empty.getId()));
+    }
+
+    @Test
+    void ignoresBuildingsOutsideTheRequestedIds() {
+        Building requested = building("Requested Tower");
+        spot(floor(building("Other Tower"), 1), "O-001", SpotStatus.AVAILABLE);
+
+        List<BuildingStats> stats = buildingStatsRepository.findStatsByBuildingIds(List.of(requested.getId()));
+
+        assertEquals(List.of(BuildingStats.empty(requested.getId())), stats);
+    }
+
+    private Building building(String name) {
+        return buildingRepository.save(Building.builder()
+                .name(name + " " + UUID.randomUUID())
+                .address("1 Stats Street")
+                .build());
+    }
+
+    private Floor floor(Building building, int number) {
+        return floorRepository.save(Floor.builder()
+                .building(building)
+                .floorNumber(number)
+                .build());
+    }
+
+    private void spot(Floor floor, String number, SpotStatus status) {
+        spotRepository.save(ParkingSpot.builder()
+                .floor(floor)
+                .spotNumber(number)
+                .type(SpotType.STANDARD)
+                .status(status)
+                .build());
+    }
+}
@@ -0,0 +1,192 @@
+package org.codeup.statiocore.repository;
+
+import jakarta.persistence.EntityManager;
+import org.codeup.statiocore.domain.Building;
+import org.codeup.statiocore.domain.Floor;
+import org.codeup.statiocore.domain.ParkingSession;
+import org.codeup.statiocore.domain.ParkingSpot;
+import org.codeup.statiocore.domain.Reservation;
+import org.codeup.statiocore.domain.User;
+import org.codeup.statiocore.domain.enums.ReservationStatus;
+import org.codeup.statiocore.domain.enums.Role;
+import org.codeup.statiocore.domain.enums.SessionStatus;
+import org.codeup.statiocore.domain.enums.SpotStatus;
+import org.codeup.statiocore.domain.enums.SpotType;
+import org.codeup.statiocore.repository.projection.RecentActivityRow;
+import org.codeup.statiocore.repository.projection.UserDashboardStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * User dashboard SQL on the H2 test profile: the filtered aggregates count
+ * only the user's rows in each status, the activity queries return the most
+ * recent rows up to their limit, and rows carry the building name through
+ * the spot's floor.
+ *
+ * @author TonyS-dev
+ */
+@SpringBootTest
+@Transactional
+class UserDashboardRepositoryTest {
+
+    @Autowired
+    private UserDashboardRepository dashboardRepository;
+
+    @Autowired
+    private IUserRepository userRepository;
+
+    @Autowired
+    private IBuildingRepository buildingRepository;
+
+    @Autowired
+    private IFloorRepository floorRepository;
+
+    @Autowired
+    private IParkingSpotRepository spotRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+    private Building building;
+    private Floor floor;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .email("dashboard-" + UUID.randomUUID() + "@example.com")
+                .passwordHash("not-a-real-hash")
+                .fullName("Dashboard Test")
+                .role(Role.USER)
+                .build());
+        building = buildingRepository.save(Building.builder()
+                .name("Dashboard Tower " + UUID.randomUUID())
+                .address("1 Dashboard Street")
+                .build());
+        floor = floorRepository.save(Floor.builder()
+                .building(building)
+                .floorNumber(1)
+                .build());
+    }
+
+    @Test
+    void statsCountOnlyTheUsersRowsByStatus() {
+        OffsetDateTime now = OffsetDateTime.now();
+        session(SessionStatus.ACTIVE, now, null);
+        session(SessionStatus.COMPLETED, now.minusDays(1), new BigDecimal("12.50"));
+        session(SessionStatus.COMPLETED, now.minusDays(2), new BigDecimal("7.50"));
+        reservation(ReservationStatus.PENDING, now.plusDays(1));
+        reservation(ReservationStatus.ACTIVE, now.plusDays(2));
+        reservation(ReservationStatus.CANCELLED, now.plusDays(3));
+        reservation(ReservationStatus.COMPLETED, now.minusDays(3));
+        // Another user's rows must not be counted
+        User other = userRepository.save(User.builder()
+                .email("dashboard-other-" + UUID.randomUUID() + "@example.com")
+                .passwordHash("not-a-real-hash")
+                .fullName("Other")
+                .role(Role.USER)
+                .build());
+        entityManager.persist(ParkingSession.builder()
+                .user(other).spot(spot(SpotStatus.OCCUPIED)).checkInTime(now)
+                .status(SessionStatus.COMPLETED).amountDue(new BigDecimal("99.00")).vehicleNumber("OTHER")
+                .build());
+        entityManager.flush();
+
+        UserDashboardStats stats = dashboardRepository.loadStats(user.getId());
+
+        assertEquals(1, stats.activeSessions());
+        assertEquals(2, stats.completedSessions());
+        assertEquals(0, new BigDecimal("20.00").compareTo(stats.totalAmountDue()));
+        assertEquals(4, stats.totalReservations());
+        assertEquals(2, stats.activeReservations());
+    }
+
+    @Test
+    void statsForAUserWithoutHistoryAreZero() {
+        UserDashboardStats stats = dashboardRepository.loadStats(user.getId());
+
+        assertEquals(0, stats.activeSessions());
+        assertEquals(0, stats.completedSessions());
+        assertEquals(0, stats.totalReservations());
+        assertEquals(0, BigDecimal.ZERO.compareTo(stats.totalAmountDue()));
+    }
+
+    @Test
+    void recentSessionsAreNewestFirstUpToTheLimit() {
+        OffsetDateTime now = OffsetDateTime.now();
+        ParkingSession oldest = session(SessionStatus.COMPLETED, now.minusHours(3), BigDecimal.ONE);
+        ParkingSession middle = session(SessionStatus.COMPLETED, now.minusHours(2), BigDecimal.ONE);
+        ParkingSession newest = session(SessionStatus.ACTIVE, now.minusHours(1), null);
+        entityManager.flush();
+
+        List<RecentActivityRow> rows = dashboardRepository.findRecentSessions(user.getId(), 2);
+
+        assertEquals(2, rows.size());
+        assertEquals(SessionStatus.ACTIVE.name(), rows.get(0).status());
+        assertEquals(newest.getSpot().getSpotNumber(), rows.get(0).spotNumber());
+        assertEquals(middle.getSpot().getSpotNumber(), rows.get(1).spotNumber());
+        assertEquals(building.getName(), rows.get(0).buildingName());
+        assertTrue(rows.stream().noneMatch(row -> row.spotNumber().equals(oldest.getSpot().getSpotNumber())));
+        assertNotNull(rows.get(0).timestamp());
+    }
+
+    @Test
+    void recentReservationsAreLatestStartFirstUpToTheLimit() {
+        OffsetDateTime now = OffsetDateTime.now();
+        reservation(ReservationStatus.COMPLETED, now.minusDays(1));
+        Reservation later = reservation(ReservationStatus.PENDING, now.plusDays(2));
+        Reservation soon = reservation(ReservationStatus.ACTIVE, now.plusDays(1));
+        entityManager.flush();
+
+        List<RecentActivityRow> rows = dashboardRepository.findRecentReservations(user.getId(), 2);
+
+        assertEquals(List.of(later.getSpot().getSpotNumber(), soon.getSpot().getSpotNumber()),
+                rows.stream().map(RecentActivityRow::spotNumber).toList());
+        assertEquals(ReservationStatus.PENDING.name(), rows.get(0).status());
+        assertEquals(building.getName(), rows.get(0).buildingName());
+    }
+
+    private ParkingSession session(SessionStatus status, OffsetDateTime checkIn, BigDecimal amountDue) {
+        ParkingSession session = ParkingSession.builder()
+                .user(user)
+                .spot(spot(status == SessionStatus.ACTIVE ? SpotStatus.OCCUPIED : SpotStatus.AVAILABLE))
+                .checkInTime(checkIn)
+                .status(status)
+                .amountDue(amountDue)
+                .vehicleNumber("DASH-1")
+                .build();
+        entityManager.persist(session);
+        return session;
+    }
+
+    private Reservation reservation(ReservationStatus status, OffsetDateTime start) {
+        Reservation reservation = Reservation.builder()
+                .user(user)
+                .spot(spot(SpotStatus.AVAILABLE))
+                .startTime(start)
+                .endTime(start.plusHours(1))
+                .status(status)
+                .build();
+        entityManager.persist(reservation);
+        return reservation;
+    }
+
+    private ParkingSpot spot(SpotStatus status) {
+        return spotRepository.save(ParkingSpot.builder()
+                .floor(floor)
+                .spotNumber("D-" + UUID.randomUUID().toString().substring(0, 8))
+                .type(SpotType.STANDARD)
+                .status(status)
+                .build());
+    }
+}
@@ -0,0 +1,116 @@
+package org.codeup.statiocore.repository;
+
+import org.codeup.statiocore.domain.User;
+import org.codeup.statiocore.domain.enums.Role;
+import org.codeup.statiocore.repository.projection.UserSearchCursor;
+import org.codeup.statiocore.repository.projection.UserSearchHit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * User search against the test-profile repository (LikeUserSearchRepository):
+ * prefix matches rank first, filters and soft deletes narrow the matches,
+ * and keyset pages cover every match exactly once. Every user carries a
+ * random tag so other tests' rows never match.
+ *
+ * @author TonyS-dev
+ */
+@SpringBootTest
+@Transactional
+class UserSearchRepositoryTest {
+
+    @Autowired
+    private IUserSearchRepository userSearchRepository;
+
+    @Autowired
+    private IUserRepository userRepository;
+
+    private String tag;
+
+    @BeforeEach
+    void setUp() {
+        tag = "srch" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Test
+    void prefixMatchesRankAboveSubstringMatches() {
+        User contains = user("Someone " + tag, Role.USER, true);
+        User prefix = user(tag + " Person", Role.USER, true);
+
+        List<UserSearchHit> hits = userSearchRepository.search(tag, null, null, null, 0, 10);
+
+        assertEquals(List.of(prefix.getId(), contains.getId()), ids(hits));
+        assertTrue(hits.get(0).rank() > hits.get(1).rank());
+    }
+
+    @Test
+    void appliesRoleActiveAndSoftDeleteFilters() {
+        User activeUser = user(tag + " User", Role.USER, true);
+        User admin = user(tag + " Admin", Role.ADMIN, true);
+        User inactive = user(tag + " Inactive", Role.USER, false);
+        User deleted = user(tag + " Deleted", Role.USER, true);
+        deleted.setDeletedAt(OffsetDateTime.now());
+        userRepository.saveAndFlush(deleted);
+
+        assertEquals(List.of(admin.getId()), ids(userSearchRepository.search(tag, Role.ADMIN, null, null, 0, 10)));
+        assertEquals(List.of(inactive.getId()), ids(userSearchRepository.search(tag, null, false, null, 0, 10)));
+        assertEquals(new HashSet<>(List.of(activeUser.getId(), admin.getId(), inactive.getId())),
+                new HashSet<>(ids(userSearchRepository.search(tag, null, null, null, 0, 10))));
+        assertEquals(2, userSearchRepository.count(tag, Role.USER, null, 100));
+    }
+
+    @Test
+    void cursorPagesCoverEveryMatchOnceInRankOrder() {
+        for (int i = 0; i < 3; i++) {
+            user(tag + " Prefix " + i, Role.USER, true);
+            user("Contains " + tag + " " + i, Role.USER, true);
+        }
+        List<UUID> all = ids(userSearchRepository.search(tag, null, null, null, 0, 10));
+
+        List<UUID> paged = new ArrayList<>();
+        UserSearchCursor after = null;
+        do {
+            List<UserSearchHit> page = userSearchRepository.search(tag, null, null, after, 0, 4);
+            paged.addAll(ids(page));
+            after = page.size() == 4 ? UserSearchCursor.decode(page.get(3).toCursor().encode()) : null;
+        } while (after != null);
+
+        assertEquals(6, all.size());
+        assertEquals(all, paged);
+    }
+
+    @Test
+    void countStopsAtTheCap() {
+        for (int i = 0; i < 5; i++) {
+            user(tag + " Capped " + i, Role.USER, true);
+        }
+
+        assertEquals(5, userSearchRepository.count(tag, null, null, 100));
+        assertEquals(3, userSearchRepository.count(tag, null, null, 3));
+    }
+
+    private User user(String fullName, Role role, boolean active) {
+        return userRepository.saveAndFlush(User.builder()
+                .email("user-" + UUID.randomUUID() + "@example.com")
+                .passwordHash("not-a-real-hash")
+                .fullName(fullName)
+                .role(role)
+                .isActive(active)
+                .build());
+    }
+
+    private static List<UUID> ids(List<UserSearchHit> hits) {
+        return hits.stream().map(hit -> hit.user().getId()).toList();
+    }
+}
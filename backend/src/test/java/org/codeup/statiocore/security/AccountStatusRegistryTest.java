@@ -0,0 +1,54 @@
+package org.codeup.statiocore.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AccountStatusRegistry
+ *
+ * - Single updates disable and re-enable an account
+ * - A full replace re-enables every id it no longer contains
+ *
+ * @author TonyS-dev
+ */
+class AccountStatusRegistryTest {
+
+    private final AccountStatusRegistry registry = new AccountStatusRegistry();
+
+    @Test
+    void updateDisablesAndReenables() {
+        UUID userId = UUID.randomUUID();
+
+        registry.update(userId, true);
+        assertTrue(registry.isDisabled(userId));
+
+        registry.update(userId, false);
+        assertFalse(registry.isDisabled(userId));
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    void replaceAllReenablesIdsNoLongerListed() {
+        UUID stillDisabled = UUID.randomUUID();
+        UUID reenabled = UUID.randomUUID();
+        UUID newlyDisabled = UUID.randomUUID();
+        registry.update(stillDisabled, true);
+        registry.update(reenabled, true);
+
+        registry.replaceAll(List.of(stillDisabled, newlyDisabled));
+
+        assertTrue(registry.isDisabled(stillDisabled));
+        assertTrue(registry.isDisabled(newlyDisabled));
+        assertFalse(registry.isDisabled(reenabled));
+        assertEquals(2, registry.size());
+    }
+
+    @Test
+    void nullUserIsNeverDisabled() {
+        assertFalse(registry.isDisabled(null));
+    }
+}
@@ -0,0 +1,114 @@
+package org.codeup.statiocore.security;
+
+import org.codeup.statiocore.repository.IUserRepository;
+import org.codeup.statiocore.repository.projection.UserStatusRow;
+import org.codeup.statiocore.service.event.UserStatusChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AccountStatusSynchronizer
+ *
+ * - The full load fills the registry and starts the delta sync
+ * - Deltas disable and re-enable accounts and advance the high-water mark
+ * - Each delta re-reads the overlap window before the mark
+ * - A failed delta keeps the mark, so the next sync re-reads the same changes
+ *
+ * @author TonyS-dev
+ */
+@ExtendWith(MockitoExtension.class)
+class AccountStatusSynchronizerTest {
+
+    private static final long OVERLAP_MS = 10_000;
+
+    @Mock
+    private IUserRepository userRepository;
+
+    private AccountStatusRegistry registry;
+    private AccountStatusSynchronizer synchronizer;
+
+    @BeforeEach
+    void setUp() {
+        registry = new AccountStatusRegistry();
+        synchronizer = new AccountStatusSynchronizer(userRepository, registry);
+        ReflectionTestUtils.setField(synchronizer, "syncOverlapMs", OVERLAP_MS);
+    }
+
+    @Test
+    void syncBeforeTheFirstLoadDoesAFullLoad() {
+        UUID disabled = UUID.randomUUID();
+        when(userRepository.findDisabledUserIds()).thenReturn(List.of(disabled));
+
+        synchronizer.syncChanges();
+
+        assertTrue(registry.isDisabled(disabled));
+        verify(userRepository, never()).findStatusChangedSince(any());
+    }
+
+    @Test
+    void deltaAppliesChangesAndAdvancesTheMark() {
+        UUID reenabled = UUID.randomUUID();
+        UUID deactivated = UUID.randomUUID();
+        UUID deleted = UUID.randomUUID();
+        when(userRepository.findDisabledUserIds()).thenReturn(List.of(reenabled));
+        synchronizer.reload();
+
+        OffsetDateTime newest = OffsetDateTime.now().plusMinutes(1);
+        when(userRepository.findStatusChangedSince(any())).thenReturn(List.of(
+                new UserStatusRow(reenabled, true, null, newest.minusSeconds(2)),
+                new UserStatusRow(deactivated, false, null, newest),
+                new UserStatusRow(deleted, true, newest.minusSeconds(1), newest.minusSeconds(1))));
+
+        synchronizer.syncChanges();
+        synchronizer.syncChanges();
+
+        assertFalse(registry.isDisabled(reenabled));
+        assertTrue(registry.isDisabled(deactivated));
+        assertTrue(registry.isDisabled(deleted));
+
+        ArgumentCaptor<OffsetDateTime> since = ArgumentCaptor.forClass(OffsetDateTime.class);
+        verify(userRepository, times(2)).findStatusChangedSince(since.capture());
+        // Second sync starts from the newest change seen, minus the overlap
+        assertEquals(newest.minus(Duration.ofMillis(OVERLAP_MS)), since.getAllValues().get(1));
+    }
+
+    @Test
+    void failedDeltaKeepsTheMark() {
+        when(userRepository.findDisabledUserIds()).thenReturn(List.of());
+        synchronizer.reload();
+        when(userRepository.findStatusChangedSince(any()))
+                .thenThrow(new DataAccessResourceFailureException("database down"))
+                .thenReturn(List.of());
+
+        synchronizer.syncChanges();
+        synchronizer.syncChanges();
+
+        ArgumentCaptor<OffsetDateTime> since = ArgumentCaptor.forClass(OffsetDateTime.class);
+        verify(userRepository, times(2)).findStatusChangedSince(since.capture());
+        assertEquals(since.getAllValues().get(0), since.getAllValues().get(1));
+    }
+
+    @Test
+    void localStatusChangeIsAppliedImmediately() {
+        UUID userId = UUID.randomUUID();
+
+        synchronizer.onUserStatusChanged(new UserStatusChangedEvent(userId, false));
+
+        assertTrue(registry.isDisabled(userId));
+    }
+}
@@ -0,0 +1,123 @@
+package org.codeup.statiocore.security;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for JwtTokenVerifier
+ *
+ * - Valid tokens are verified once and then served from the cache
+ * - Tampered signatures and expired tokens are rejected
+ * - A cached token is still rejected once it expires
+ *
+ * @author TonyS-dev
+ */
+class JwtTokenVerifierTest {
+
+    private static final String SECRET = "test-secret-key-that-is-at-least-32-bytes-long";
+
+    private MutableClock clock;
+    private JwtTokenVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-12-05T10:00:00Z"));
+        verifier = new JwtTokenVerifier(SECRET, 100, clock);
+    }
+
+    @Test
+    void verifiesValidTokenAndServesRepeatsFromTheCache() {
+        UUID userId = UUID.randomUUID();
+        String token = token(userId, SECRET, Duration.ofMinutes(15));
+
+        JwtTokenVerifier.VerifiedToken first = verifier.verify(token);
+        JwtTokenVerifier.VerifiedToken second = verifier.verify(token);
+
+        assertEquals(userId, first.userId());
+        assertEquals("ROLE_USER", first.authorities().get(0).getAuthority());
+        assertSame(first, second);
+    }
+
+    @Test
+    void rejectsTamperedSignature() {
+        String token = token(UUID.randomUUID(), SECRET, Duration.ofMinutes(15));
+        String forged = token(UUID.randomUUID(), "another-secret-key-that-is-at-least-32-bytes", Duration.ofMinutes(15));
+        // Claims of one token with the signature of another
+        String tampered = forged.substring(0, forged.lastIndexOf('.')) + token.substring(token.lastIndexOf('.'));
+
+        assertThrows(JwtException.class, () -> verifier.verify(forged));
+        assertThrows(JwtException.class, () -> verifier.verify(tampered));
+    }
+
+    @Test
+    void rejectsExpiredToken() {
+        String token = token(UUID.randomUUID(), SECRET, Duration.ofMinutes(-1));
+
+        assertThrows(ExpiredJwtException.class, () -> verifier.verify(token));
+    }
+
+    @Test
+    void cacheHitStillChecksExpiry() {
+        String token = token(UUID.randomUUID(), SECRET, Duration.ofMinutes(15));
+        verifier.verify(token);
+
+        // The entry is still cached (real time has not passed), but the token has expired
+        clock.advance(Duration.ofMinutes(16));
+
+        assertThrows(ExpiredJwtException.class, () -> verifier.verify(token));
+    }
+
+    private String token(UUID userId, String secret, Duration validFor) {
+        Instant now = clock.instant();
+        return Jwts.builder()
+                .setSubject(userId.toString())
+                .claim("role", "USER")
+                .setIssuedAt(Date.from(now))
+                .setExpiration(Date.from(now.plus(validFor)))
+                .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+
+    // Clock the test moves forward explicitly
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package org.codeup.statiocore.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.codeup.statiocore.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PasswordHashingExecutor
+ *
+ * - A full queue is rejected right away with a 503 and Retry-After
+ * - Unknown accounts pay for a real verification against the dummy hash
+ *
+ * @author TonyS-dev
+ */
+@ExtendWith(MockitoExtension.class)
+class PasswordHashingExecutorTest {
+
+    private static final String DUMMY_HASH = "$2a$10$dummy";
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordHashingExecutor hashingExecutor;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        when(passwordEncoder.encode(anyString())).thenReturn(DUMMY_HASH);
+        // One thread and one queued task: the third concurrent call has nowhere to go
+        hashingExecutor = new PasswordHashingExecutor(passwordEncoder, meterRegistry, 1, 1, 5_000);
+        callers = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        hashingExecutor.shutdown();
+    }
+
+    @Test
+    void rejectsWithRetryAfterWhenTheQueueIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(passwordEncoder.matches(anyString(), anyString())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return true;
+        });
+
+        Future<Boolean> running = callers.submit(() -> hashingExecutor.matches("first", "hash"));
+        Future<Boolean> queued = callers.submit(() -> hashingExecutor.matches("second", "hash"));
+        awaitQueued(1);
+
+        long started = System.nanoTime();
+        ServiceUnavailableException ex = assertThrows(ServiceUnavailableException.class,
+                () -> hashingExecutor.matches("third", "hash"));
+        long waitedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        assertTrue(ex.getRetryAfterSeconds() > 0);
+        assertTrue(waitedMs < 1_000, "rejection should not wait for the pool, waited " + waitedMs + " ms");
+
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void unknownAccountVerifiesAgainstTheDummyHashAndFails() {
+        when(passwordEncoder.matches("secret", DUMMY_HASH)).thenReturn(true);
+
+        assertFalse(hashingExecutor.matchesUnknownAccount("secret"));
+
+        // Same hashing work and timer as a real verification
+        verify(passwordEncoder).matches("secret", DUMMY_HASH);
+        assertEquals(1, meterRegistry.get("password.hashing.duration").tag("operation", "matches").timer().count());
+    }
+
+    private void awaitQueued(double expected) throws InterruptedException {
+        Gauge queued = meterRegistry.get("executor.queued").tag("name", "password.hashing").gauge();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (queued.value() < expected) {
+            assertTrue(System.nanoTime() < deadline, "task was never queued");
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package org.codeup.statiocore.security.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for RateLimitFilter
+ *
+ * - An exhausted bucket answers 429 with Retry-After and a problem body
+ * - Anonymous clients are budgeted per address, authenticated ones per user
+ * - Paths outside every group are not limited
+ *
+ * @author TonyS-dev
+ */
+class RateLimitFilterTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties.Group auth = new RateLimitProperties.Group();
+        auth.setName("auth");
+        auth.setPatterns(List.of("/api/auth/**"));
+        auth.setCapacity(2);
+        auth.setRefillPerSecond(0.1);
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setGroups(List.of(auth));
+
+        meterRegistry = new SimpleMeterRegistry();
+        // Not a Hikari pool, so load shedding never applies here
+        filter = new RateLimitFilter(properties, objectMapper, mock(DataSource.class), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void exhaustedBucketAnswers429WithRetryAfter() throws Exception {
+        assertEquals(200, call("/api/auth/login", "10.0.0.1").getStatus());
+        assertEquals(200, call("/api/auth/login", "10.0.0.1").getStatus());
+
+        MockHttpServletResponse rejected = call("/api/auth/login", "10.0.0.1");
+
+        assertEquals(429, rejected.getStatus());
+        // One token every 10 seconds
+        assertEquals("10", rejected.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals("application/problem+json", rejected.getContentType());
+        assertEquals(429, objectMapper.readTree(rejected.getContentAsString()).get("status").asInt());
+        assertEquals(1, meterRegistry.get("http.server.requests.rejected")
+                .tag("group", "auth").tag("status", "429").counter().count());
+    }
+
+    @Test
+    void anonymousClientsHaveOneBucketPerAddress() throws Exception {
+        call("/api/auth/login", "10.0.0.1");
+        call("/api/auth/login", "10.0.0.1");
+
+        assertEquals(429, call("/api/auth/login", "10.0.0.1").getStatus());
+        assertEquals(200, call("/api/auth/login", "10.0.0.2").getStatus());
+    }
+
+    @Test
+    void authenticatedClientsAreBudgetedPerUser() throws Exception {
+        authenticate(UUID.randomUUID());
+        call("/api/auth/refresh", "10.0.0.1");
+        call("/api/auth/refresh", "10.0.0.2");
+        assertEquals(429, call("/api/auth/refresh", "10.0.0.3").getStatus());
+
+        authenticate(UUID.randomUUID());
+        assertEquals(200, call("/api/auth/refresh", "10.0.0.1").getStatus());
+    }
+
+    @Test
+    void unmatchedPathsAreNotLimited() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            assertEquals(200, call("/api/health", "10.0.0.1").getStatus());
+        }
+    }
+
+    private MockHttpServletResponse call(String path, String remoteAddr) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setRemoteAddr(remoteAddr);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static void authenticate(UUID userId) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                userId, null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+}
@@ -0,0 +1,84 @@
+package org.codeup.statiocore.security.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TokenBucket, on a clock the test moves forward.
+ *
+ * - A full bucket allows exactly its capacity as a burst
+ * - Rejections report the wait until the next token
+ * - Tokens refill at the configured rate but never beyond the capacity
+ *
+ * @author TonyS-dev
+ */
+class TokenBucketTest {
+
+    private final AtomicLong now = new AtomicLong(1_000);
+
+    @Test
+    void allowsBurstUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(5, 1, now::get);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, bucket.tryConsume(), "request " + (i + 1));
+        }
+        assertTrue(bucket.tryConsume() > 0);
+    }
+
+    @Test
+    void reportsWaitUntilTheNextToken() {
+        TokenBucket bucket = new TokenBucket(1, 2, now::get);
+        bucket.tryConsume();
+
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(500), bucket.tryConsume());
+
+        advanceMillis(200);
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(300), bucket.tryConsume(), 1);
+    }
+
+    @Test
+    void refillsAtTheConfiguredRate() {
+        TokenBucket bucket = new TokenBucket(4, 2, now::get);
+        drain(bucket);
+
+        advanceMillis(1_000);
+
+        assertEquals(2, drain(bucket));
+    }
+
+    @Test
+    void neverRefillsBeyondCapacity() {
+        TokenBucket bucket = new TokenBucket(3, 10, now::get);
+        drain(bucket);
+
+        advanceMillis(60_000);
+
+        assertEquals(3, drain(bucket));
+    }
+
+    @Test
+    void bucketWithoutRefillWaitsForever() {
+        TokenBucket bucket = new TokenBucket(1, 0, now::get);
+        bucket.tryConsume();
+
+        assertEquals(Long.MAX_VALUE, bucket.tryConsume());
+    }
+
+    // Takes tokens until refused; returns how many were taken
+    private static int drain(TokenBucket bucket) {
+        int taken = 0;
+        while (bucket.tryConsume() == 0) {
+            taken++;
+        }
+        return taken;
+    }
+
+    private void advanceMillis(long millis) {
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+}
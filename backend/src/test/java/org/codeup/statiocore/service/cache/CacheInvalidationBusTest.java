@@ -0,0 +1,91 @@
+package org.codeup.statiocore.service.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Two application contexts in one JVM acting as separate nodes:
+ * an eviction on one node must reach the other one.
+ *
+ * @author TonyS-dev
+ */
+class CacheInvalidationBusTest {
+
+    private AnnotationConfigApplicationContext nodeA;
+    private AnnotationConfigApplicationContext nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = startNode();
+        nodeB = startNode();
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    void evictReachesPeerNode() {
+        UUID userId = UUID.randomUUID();
+        UUID otherUserId = UUID.randomUUID();
+        cache(nodeA).put(userId, "a");
+        cache(nodeB).put(userId, "b");
+        cache(nodeB).put(otherUserId, "b");
+
+        nodeA.getBean(CacheInvalidationBus.class).evict("userDashboard", userId);
+
+        assertNull(cache(nodeA).get(userId));
+        assertNull(cache(nodeB).get(userId));
+        assertNotNull(cache(nodeB).get(otherUserId));
+    }
+
+    @Test
+    void clearReachesPeerNode() {
+        UUID userId = UUID.randomUUID();
+        cache(nodeB).put(userId, "b");
+
+        nodeA.getBean(CacheInvalidationBus.class).clear("userDashboard");
+
+        assertNull(cache(nodeB).get(userId));
+    }
+
+    @Test
+    void closedNodeStopsReceiving() {
+        nodeB.close();
+
+        assertDoesNotThrow(() -> nodeA.getBean(CacheInvalidationBus.class).clear("userDashboard"));
+    }
+
+    private static Cache cache(AnnotationConfigApplicationContext node) {
+        return node.getBean(CacheManager.class).getCache("userDashboard");
+    }
+
+    private static AnnotationConfigApplicationContext startNode() {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().setActiveProfiles("test");
+        context.register(NodeConfig.class, InProcessCacheInvalidationTransport.class, CacheInvalidationBus.class);
+        context.refresh();
+        return context;
+    }
+
+    @Configuration
+    static class NodeConfig {
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager("userDashboard");
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package org.codeup.statiocore.service.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CacheMetricsBinder
+ *
+ * - The manager tag is the bean name without a trailing "CacheManager"
+ * - Caches of every manager are bound, tagged with cache and cache.manager
+ *
+ * @author TonyS-dev
+ */
+class CacheMetricsBinderTest {
+
+    @Test
+    void managerNameDropsTheCacheManagerSuffix() {
+        assertEquals("longTerm", CacheMetricsBinder.managerName("longTermCacheManager"));
+    }
+
+    @Test
+    void managerNameKeepsAPlainCacheManagerBeanName() {
+        assertEquals("cacheManager", CacheMetricsBinder.managerName("cacheManager"));
+    }
+
+    @Test
+    void cachesOfBothManagersAreBoundWithCacheAndManagerTags() {
+        Map<String, CacheManager> cacheManagers = new LinkedHashMap<>();
+        cacheManagers.put("cacheManager", manager("availableSpots"));
+        cacheManagers.put("longTermCacheManager", manager("buildings"));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        new CacheMetricsBinder(cacheManagers, registry).afterSingletonsInstantiated();
+
+        assertFalse(registry.find("cache.gets")
+                .tags("cache", "availableSpots", "cache.manager", "cacheManager").meters().isEmpty());
+        assertFalse(registry.find("cache.gets")
+                .tags("cache", "buildings", "cache.manager", "longTerm").meters().isEmpty());
+        assertNotNull(registry.find("cache.size").tags("cache", "buildings", "cache.manager", "longTerm").gauge());
+    }
+
+    private static CacheManager manager(String cacheName) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheNames(List.of());
+        cacheManager.registerCustomCache(cacheName, Caffeine.newBuilder().maximumSize(10).recordStats().build());
+        return cacheManager;
+    }
+}
@@ -0,0 +1,134 @@
+package org.codeup.statiocore.service.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PostgresCacheInvalidationTransport against mocked JDBC/PGConnection
+ * (no Postgres in the test environment)
+ *
+ * - The listener issues LISTEN on the channel and dispatches each notification
+ * - Malformed payloads are skipped without stopping the loop
+ * - After a lost connection it reconnects and clears all caches, since
+ *   notifications sent meanwhile were missed; the first connect does not
+ * - publish sends the encoded message with pg_notify
+ *
+ * @author TonyS-dev
+ */
+class PostgresCacheInvalidationTransportTest {
+
+    private static final String CHANNEL = "cache_invalidation";
+
+    private final Queue<Connection> connections = new ConcurrentLinkedQueue<>();
+    private final BlockingQueue<CacheInvalidationMessage> received = new LinkedBlockingQueue<>();
+
+    private JdbcTemplate jdbcTemplate;
+    private PostgresCacheInvalidationTransport transport;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        transport = new PostgresCacheInvalidationTransport(jdbcTemplate, new DataSourceProperties()) {
+            @Override
+            Connection openListenerConnection() throws SQLException {
+                Connection next = connections.poll();
+                return next != null ? next : connection();
+            }
+        };
+        ReflectionTestUtils.setField(transport, "channel", CHANNEL);
+        ReflectionTestUtils.setField(transport, "pollTimeoutMs", 10);
+        ReflectionTestUtils.setField(transport, "reconnectDelayMs", 0L);
+        transport.subscribe(received::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        transport.stop();
+    }
+
+    @Test
+    void listensOnTheChannelAndDispatchesNotifications() throws Exception {
+        CacheInvalidationMessage message = new CacheInvalidationMessage("node-b", "userDashboard", UUID.randomUUID());
+        Statement statement = mock(Statement.class);
+        connections.add(connection(statement, notification("not a message"), notification(message.encode())));
+
+        transport.start();
+
+        assertEquals(message, received.poll(5, TimeUnit.SECONDS));
+        verify(statement).execute("LISTEN " + CHANNEL);
+        // First connect: nothing was missed, so no clear-all
+        assertNull(received.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void reconnectAfterALostConnectionClearsAllCaches() throws Exception {
+        Connection lost = connection();
+        PGConnection lostPg = lost.unwrap(PGConnection.class);
+        when(lostPg.getNotifications(anyInt())).thenThrow(new SQLException("An I/O error occurred"));
+        CacheInvalidationMessage afterReconnect = new CacheInvalidationMessage("node-b", "availableSpots", null);
+        connections.add(lost);
+        connections.add(connection(mock(Statement.class), notification(afterReconnect.encode())));
+
+        transport.start();
+
+        CacheInvalidationMessage clearAll = received.poll(5, TimeUnit.SECONDS);
+        assertNotNull(clearAll);
+        assertEquals(CacheInvalidationMessage.ALL_CACHES, clearAll.cacheName());
+        assertNull(clearAll.key());
+        assertEquals(afterReconnect, received.poll(5, TimeUnit.SECONDS));
+        verify(lost).close();
+    }
+
+    @Test
+    void publishSendsTheEncodedMessageWithPgNotify() {
+        CacheInvalidationMessage message = new CacheInvalidationMessage("node-a", "buildingStats", UUID.randomUUID());
+
+        transport.publish(message);
+
+        verify(jdbcTemplate).queryForList("SELECT pg_notify(?, ?)", CHANNEL, message.encode());
+    }
+
+    // Delivers the given notifications in one batch, then reports none (after a short wait, like a poll timeout)
+    private static Connection connection(Statement statement, PGNotification... notifications) throws SQLException {
+        Connection connection = mock(Connection.class);
+        PGConnection pgConnection = mock(PGConnection.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(pgConnection.getNotifications(anyInt())).thenReturn(notifications).thenAnswer(invocation -> {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(5));
+            return null;
+        });
+        return connection;
+    }
+
+    private static Connection connection() throws SQLException {
+        return connection(mock(Statement.class));
+    }
+
+    private static PGNotification notification(String payload) {
+        PGNotification notification = mock(PGNotification.class);
+        when(notification.getParameter()).thenReturn(payload);
+        return notification;
+    }
+}
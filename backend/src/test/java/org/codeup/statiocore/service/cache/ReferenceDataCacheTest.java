@@ -0,0 +1,170 @@
+package org.codeup.statiocore.service.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.codeup.statiocore.domain.Building;
+import org.codeup.statiocore.domain.Floor;
+import org.codeup.statiocore.domain.ParkingSpot;
+import org.codeup.statiocore.domain.enums.SpotStatus;
+import org.codeup.statiocore.domain.enums.SpotType;
+import org.codeup.statiocore.repository.IBuildingRepository;
+import org.codeup.statiocore.repository.IFloorRepository;
+import org.codeup.statiocore.repository.IParkingSpotRepository;
+import org.codeup.statiocore.service.IAdminService;
+import org.codeup.statiocore.service.event.BuildingInventoryChangedEvent;
+import org.codeup.statiocore.support.StatementBudget;
+import org.codeup.statiocore.web.dto.admin.BuildingRequest;
+import org.codeup.statiocore.web.dto.admin.FloorRequest;
+import org.codeup.statiocore.web.dto.admin.FloorResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Long-term reference data caches: layouts load in floor and spot order,
+ * a cold floors listing loads every building's layout in one query, and
+ * admin changes evict exactly the affected entries after commit.
+ *
+ * @author TonyS-dev
+ */
+@SpringBootTest
+class ReferenceDataCacheTest {
+
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
+    @Autowired
+    @Qualifier("longTermCacheManager")
+    private CacheManager longTermCacheManager;
+
+    @Autowired
+    private IAdminService adminService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private IBuildingRepository buildingRepository;
+
+    @Autowired
+    private IFloorRepository floorRepository;
+
+    @Autowired
+    private IParkingSpotRepository spotRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private StatementBudget budget;
+    private Building building;
+    private Floor ground;
+
+    @BeforeEach
+    void setUp() {
+        budget = new StatementBudget(entityManagerFactory);
+        building = buildingRepository.save(Building.builder()
+                .name("Reference Tower " + UUID.randomUUID())
+                .address("1 Reference Street")
+                .build());
+        // Saved out of order: the layout must come back sorted
+        Floor upper = floorRepository.save(Floor.builder().building(building).floorNumber(2).build());
+        ground = floorRepository.save(Floor.builder().building(building).floorNumber(1).build());
+        spot(ground, "G-002");
+        spot(ground, "G-001");
+        spot(upper, "U-001");
+        // A second building, so a per-building load would show up in the statement count
+        Building annex = buildingRepository.save(Building.builder()
+                .name("Reference Annex " + UUID.randomUUID())
+                .address("2 Reference Street")
+                .build());
+        floorRepository.save(Floor.builder().building(annex).floorNumber(1).build());
+
+        longTermCacheManager.getCacheNames().forEach(name -> longTermCacheManager.getCache(name).clear());
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void loadsLayoutOrderedByFloorAndSpotNumber() {
+        List<FloorSnapshot> floors = referenceDataCache.floors(building.getId());
+
+        assertEquals(List.of(1, 2), floors.stream().map(FloorSnapshot::floorNumber).toList());
+        assertEquals(List.of("G-001", "G-002"),
+                floors.get(0).spots().stream().map(FloorSnapshot.SpotLayout::spotNumber).toList());
+        assertEquals(1, floors.get(1).spotCount());
+    }
+
+    @Test
+    void bulkLoadIncludesBuildingsWithoutFloors() {
+        Building empty = buildingRepository.save(Building.builder()
+                .name("Reference Lot " + UUID.randomUUID())
+                .address("3 Reference Street")
+                .build());
+
+        Map<UUID, List<FloorSnapshot>> floors = referenceDataCache.floors(List.of(building.getId(), empty.getId()));
+
+        assertEquals(2, floors.get(building.getId()).size());
+        assertEquals(List.of(), floors.get(empty.getId()));
+    }
+
+    @Test
+    void coldFloorsListingLoadsEveryLayoutInOneQuery() {
+        // building list and one layout query, however many buildings exist
+        List<FloorResponse> floors = budget.assertAtMost(2, "cold floors listing", () -> adminService.getAllFloors());
+
+        assertTrue(buildingRepository.count() > 1);
+        assertEquals(floorRepository.count(), floors.size());
+        assertTrue(floors.stream().anyMatch(floor -> floor.getId().equals(ground.getId()) && floor.getSpotCount() == 2));
+
+        budget.assertAtMost(0, "warm floors listing", () -> adminService.getAllFloors());
+    }
+
+    @Test
+    void layoutChangeEvictsTheBuildingsFloors() {
+        referenceDataCache.floors(building.getId());
+
+        adminService.createFloor(FloorRequest.builder().buildingId(building.getId()).floorNumber(3).build());
+
+        assertEquals(List.of(1, 2, 3), referenceDataCache.floors(building.getId()).stream()
+                .map(FloorSnapshot::floorNumber).toList());
+    }
+
+    @Test
+    void buildingChangeEvictsTheBuildingList() {
+        referenceDataCache.buildings();
+        String renamed = "Renamed Tower " + UUID.randomUUID();
+
+        adminService.updateBuilding(building.getId(), BuildingRequest.builder()
+                .name(renamed)
+                .address("1 Reference Street")
+                .build());
+
+        assertTrue(referenceDataCache.buildings().stream().anyMatch(b -> b.name().equals(renamed)));
+    }
+
+    @Test
+    void occupancyChangeKeepsTheCachedLayout() {
+        referenceDataCache.floors(building.getId());
+
+        eventPublisher.publishEvent(BuildingInventoryChangedEvent.occupancy(building.getId()));
+
+        assertNotNull(longTermCacheManager.getCache(ReferenceDataCache.FLOORS).get(building.getId()));
+    }
+
+    private void spot(Floor floor, String number) {
+        spotRepository.save(ParkingSpot.builder()
+                .floor(floor)
+                .spotNumber(number)
+                .type(SpotType.STANDARD)
+                .status(SpotStatus.AVAILABLE)
+                .build());
+    }
+}
@@ -0,0 +1,107 @@
+package org.codeup.statiocore.service.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.codeup.statiocore.domain.Building;
+import org.codeup.statiocore.domain.Floor;
+import org.codeup.statiocore.repository.IBuildingRepository;
+import org.codeup.statiocore.repository.IFloorRepository;
+import org.codeup.statiocore.service.IAdminService;
+import org.codeup.statiocore.web.dto.admin.BuildingRequest;
+import org.codeup.statiocore.web.dto.admin.FloorRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Hibernate second-level regions across nodes. A second bus on the in-process
+ * transport acts as a peer node sharing this node's EntityManagerFactory, so a
+ * region entry the peer drops is visibly gone.
+ *
+ * @author TonyS-dev
+ */
+@SpringBootTest
+class SecondLevelCacheInvalidationTest {
+
+    @Autowired
+    private IAdminService adminService;
+
+    @Autowired
+    private IBuildingRepository buildingRepository;
+
+    @Autowired
+    private IFloorRepository floorRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectProvider<EntityManagerFactory> entityManagerFactoryProvider;
+
+    private InProcessCacheInvalidationTransport peerTransport;
+    private Building building;
+    private Floor floor;
+
+    @BeforeEach
+    void setUp() {
+        building = buildingRepository.save(Building.builder()
+                .name("Region Tower " + UUID.randomUUID())
+                .address("1 Region Street")
+                .build());
+        floor = floorRepository.save(Floor.builder().building(building).floorNumber(1).build());
+        entityManagerFactory.getCache().evictAll();
+
+        peerTransport = new InProcessCacheInvalidationTransport();
+        new CacheInvalidationBus(List.of(), peerTransport, entityManagerFactoryProvider);
+    }
+
+    @AfterEach
+    void tearDown() {
+        peerTransport.destroy();
+    }
+
+    @Test
+    void buildingChangeEvictsThePeersBuildingEntry() {
+        buildingRepository.findById(building.getId());
+        assertTrue(cache().contains(Building.class, building.getId()));
+
+        // Hibernate re-caches the updated building on this node; the peer's eviction must come after
+        adminService.updateBuilding(building.getId(), BuildingRequest.builder()
+                .name("Renamed Region " + UUID.randomUUID())
+                .address("1 Region Street")
+                .build());
+
+        assertFalse(cache().contains(Building.class, building.getId()));
+    }
+
+    @Test
+    void layoutChangeClearsThePeersFloorRegion() {
+        floorRepository.findById(floor.getId());
+        assertTrue(cache().contains(Floor.class, floor.getId()));
+
+        adminService.createFloor(FloorRequest.builder().buildingId(building.getId()).floorNumber(2).build());
+
+        assertFalse(cache().contains(Floor.class, floor.getId()));
+    }
+
+    @Test
+    void unknownEntityIsIgnored() {
+        floorRepository.findById(floor.getId());
+
+        peerTransport.publish(new CacheInvalidationMessage(
+                "another-node", CacheInvalidationMessage.ENTITY_PREFIX + "java.lang.String", null));
+
+        assertTrue(cache().contains(Floor.class, floor.getId()));
+    }
+
+    private jakarta.persistence.Cache cache() {
+        return entityManagerFactory.getCache();
+    }
+}
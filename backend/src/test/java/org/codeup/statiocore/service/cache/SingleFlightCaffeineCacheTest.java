@@ -0,0 +1,57 @@
+package org.codeup.statiocore.service.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SingleFlightCaffeineCache
+ *
+ * - A value loader miss ({@code @Cacheable(sync = true)}) is timed in cache.loads
+ * - Hits do not load and are not timed
+ *
+ * @author TonyS-dev
+ */
+class SingleFlightCaffeineCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlightCaffeineCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new SingleFlightCaffeineCache("availableSpots", Caffeine.newBuilder().buildAsync(), meterRegistry);
+    }
+
+    @Test
+    void valueLoaderMissIsTimed() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("spots", cache.get("all", () -> {
+            loads.incrementAndGet();
+            return "spots";
+        }));
+
+        assertEquals(1, loads.get());
+        assertEquals(1, loadTimer().count());
+    }
+
+    @Test
+    void hitIsNotTimed() {
+        cache.get("all", () -> "spots");
+
+        assertEquals("spots", cache.get("all", () -> fail("hit must not load")));
+
+        assertEquals(1, loadTimer().count());
+    }
+
+    private Timer loadTimer() {
+        return meterRegistry.get("cache.loads").tag("cache", "availableSpots").timer();
+    }
+}
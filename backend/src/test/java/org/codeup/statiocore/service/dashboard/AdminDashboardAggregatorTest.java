@@ -0,0 +1,89 @@
+package org.codeup.statiocore.service.dashboard;
+
+import org.codeup.statiocore.exception.ServiceUnavailableException;
+import org.codeup.statiocore.repository.AdminDashboardRepository;
+import org.codeup.statiocore.repository.projection.AdminDashboardStats;
+import org.codeup.statiocore.web.dto.admin.AdminDashboardResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AdminDashboardAggregator
+ *
+ * - The first read computes the snapshot instead of serving zeros
+ * - Later reads are served from the snapshot without querying
+ * - A failed first computation is reported as unavailable
+ * - A failed refresh keeps the previous snapshot
+ *
+ * @author TonyS-dev
+ */
+@ExtendWith(MockitoExtension.class)
+class AdminDashboardAggregatorTest {
+
+    private static final AdminDashboardStats STATS =
+            new AdminDashboardStats(10, 2, 9, 40, 12, 25, 12, 7, 30, new BigDecimal("450.00"));
+
+    @Mock
+    private AdminDashboardRepository dashboardRepository;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @InjectMocks
+    private AdminDashboardAggregator aggregator;
+
+    @Test
+    void firstReadComputesTheSnapshot() {
+        when(dashboardRepository.loadStats()).thenReturn(STATS);
+
+        AdminDashboardResponse response = aggregator.current();
+
+        assertEquals(10, response.getTotalUsers());
+        assertEquals(12, response.getOccupiedSpots());
+        assertEquals(new BigDecimal("450.00"), response.getTotalRevenue());
+        assertNotNull(response.getGeneratedAt());
+        assertNotNull(response.getStalenessSeconds());
+    }
+
+    @Test
+    void laterReadsAreServedFromTheSnapshot() {
+        when(dashboardRepository.loadStats()).thenReturn(STATS);
+        aggregator.refresh();
+
+        aggregator.current();
+        aggregator.current();
+
+        verify(dashboardRepository, times(1)).loadStats();
+    }
+
+    @Test
+    void failedFirstComputationIsUnavailable() {
+        when(dashboardRepository.loadStats()).thenThrow(new DataAccessResourceFailureException("database down"));
+
+        ServiceUnavailableException ex = assertThrows(ServiceUnavailableException.class, aggregator::current);
+
+        assertTrue(ex.getRetryAfterSeconds() > 0);
+    }
+
+    @Test
+    void failedRefreshKeepsThePreviousSnapshot() {
+        when(dashboardRepository.loadStats())
+                .thenReturn(STATS)
+                .thenThrow(new DataAccessResourceFailureException("database down"));
+        aggregator.refresh();
+
+        aggregator.refresh();
+
+        assertEquals(10, aggregator.current().getTotalUsers());
+    }
+}
@@ -0,0 +1,95 @@
+package org.codeup.statiocore.service.dashboard;
+
+import org.codeup.statiocore.repository.UserDashboardRepository;
+import org.codeup.statiocore.repository.projection.RecentActivityRow;
+import org.codeup.statiocore.repository.projection.UserDashboardStats;
+import org.codeup.statiocore.web.dto.user.DashboardResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for UserDashboardAssembler
+ *
+ * - Counters are copied from the aggregate row; spot counts are left to the caller
+ * - The average session fee is derived as before (HALF_UP, 2 decimals)
+ * - The activity feed reads 3 sessions and 2 reservations, newest first, at most 5
+ * - Rows without a building read "Unknown Location"
+ *
+ * @author TonyS-dev
+ */
+@ExtendWith(MockitoExtension.class)
+class UserDashboardAssemblerTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final OffsetDateTime NOW = OffsetDateTime.of(2025, 6, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+
+    @Mock
+    private UserDashboardRepository dashboardRepository;
+
+    @InjectMocks
+    private UserDashboardAssembler assembler;
+
+    @Test
+    void copiesCountersAndDerivesAverageFee() {
+        when(dashboardRepository.loadStats(USER_ID))
+                .thenReturn(new UserDashboardStats(4, 2, 1, 3, new BigDecimal("20.00")));
+
+        DashboardResponse response = assembler.assemble(USER_ID);
+
+        assertNull(response.getTotalSpots());
+        assertNull(response.getOccupancyPercentage());
+        assertEquals(4, response.getTotalReservations());
+        assertEquals(2, response.getActiveReservations());
+        assertEquals(1, response.getActiveSessions());
+        assertEquals(3, response.getTotalCompletedSessions());
+        assertEquals(new BigDecimal("20.00"), response.getTotalEarnings());
+        assertEquals(new BigDecimal("6.67"), response.getAverageSessionFee());
+        assertEquals(BigDecimal.ZERO, response.getOutstandingFees());
+    }
+
+    @Test
+    void emptyHistoryHasZeroAverage() {
+        when(dashboardRepository.loadStats(USER_ID))
+                .thenReturn(new UserDashboardStats(0, 0, 0, 0, BigDecimal.ZERO));
+
+        DashboardResponse response = assembler.assemble(USER_ID);
+
+        assertEquals(BigDecimal.ZERO, response.getAverageSessionFee());
+        assertTrue(response.getRecentActivity().isEmpty());
+    }
+
+    @Test
+    void recentActivityIsNewestFirstAndCappedAtFive() {
+        when(dashboardRepository.loadStats(USER_ID))
+                .thenReturn(new UserDashboardStats(3, 1, 1, 2, BigDecimal.TEN));
+        when(dashboardRepository.findRecentSessions(USER_ID, 3)).thenReturn(List.of(
+                new RecentActivityRow("ACTIVE", "S-1", "North", NOW.minusHours(1)),
+                new RecentActivityRow("COMPLETED", "S-2", "North", NOW.minusHours(5)),
+                new RecentActivityRow("COMPLETED", "S-3", null, NOW.minusHours(9))));
+        when(dashboardRepository.findRecentReservations(USER_ID, 2)).thenReturn(List.of(
+                new RecentActivityRow("PENDING", "R-1", "South", NOW.minusHours(3)),
+                new RecentActivityRow("ACTIVE", "R-2", "South", NOW.minusHours(12))));
+
+        List<DashboardResponse.ActivityRecord> activity = assembler.assemble(USER_ID).getRecentActivity();
+
+        assertEquals(List.of("Checked In", "Reserved", "Checked Out", "Checked Out", "Reserved"),
+                activity.stream().map(DashboardResponse.ActivityRecord::getAction).toList());
+        assertEquals("Spot S-1 at North", activity.get(0).getDetails());
+        assertEquals("Spot R-1 at South", activity.get(1).getDetails());
+        assertEquals("Spot S-3 at Unknown Location", activity.get(3).getDetails());
+        assertEquals(NOW.minusHours(1).format(DateTimeFormatter.ISO_DATE_TIME), activity.get(0).getTimestamp());
+    }
+}
@@ -0,0 +1,97 @@
+package org.codeup.statiocore.service.impl;
+
+import org.codeup.statiocore.domain.Building;
+import org.codeup.statiocore.domain.Floor;
+import org.codeup.statiocore.exception.BadRequestException;
+import org.codeup.statiocore.repository.IBuildingRepository;
+import org.codeup.statiocore.repository.IFloorRepository;
+import org.codeup.statiocore.service.CursorSlice;
+import org.codeup.statiocore.service.IAdminService;
+import org.codeup.statiocore.web.dto.admin.FloorResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Floors admin page: offset and keyset slices over the single-statement
+ * floor query; only numbered (non-cursor) slices carry the total. The test
+ * building is created last, so its floors lead the ordering (latest floor
+ * first, then floor number).
+ *
+ * @author TonyS-dev
+ */
+@SpringBootTest
+class AdminServiceImplFloorPageTest {
+
+    @Autowired
+    private IAdminService adminService;
+
+    @Autowired
+    private IBuildingRepository buildingRepository;
+
+    @Autowired
+    private IFloorRepository floorRepository;
+
+    private Building building;
+
+    @BeforeEach
+    void setUp() {
+        building = buildingRepository.save(Building.builder()
+                .name("Paging Tower " + UUID.randomUUID())
+                .address("1 Paging Street")
+                .build());
+        for (int number = 1; number <= 3; number++) {
+            floorRepository.save(Floor.builder()
+                    .building(building)
+                    .floorNumber(number)
+                    .build());
+        }
+    }
+
+    @Test
+    void firstSliceCarriesCursorAndTotal() {
+        CursorSlice<FloorResponse> slice = adminService.getFloorsPaginated(null, PageRequest.of(0, 2));
+
+        assertEquals(2, slice.items().size());
+        assertEquals(building.getId(), slice.items().get(0).getBuildingId());
+        assertEquals(1, slice.items().get(0).getFloorNumber());
+        assertEquals(2, slice.items().get(1).getFloorNumber());
+        assertTrue(slice.hasNext());
+        assertEquals(floorRepository.count(), slice.totalElements());
+    }
+
+    @Test
+    void cursorContinuesAfterTheLastFloorOfThePreviousSlice() {
+        CursorSlice<FloorResponse> first = adminService.getFloorsPaginated(null, PageRequest.of(0, 2));
+
+        CursorSlice<FloorResponse> next = adminService.getFloorsPaginated(first.nextCursor(), PageRequest.of(0, 2));
+
+        FloorResponse third = next.items().get(0);
+        assertEquals(building.getId(), third.getBuildingId());
+        assertEquals(3, third.getFloorNumber());
+        assertNull(next.totalElements());
+    }
+
+    @Test
+    void lastSliceHasNoCursor() {
+        int total = (int) floorRepository.count();
+
+        CursorSlice<FloorResponse> slice = adminService.getFloorsPaginated(null, PageRequest.of(0, total));
+
+        assertEquals(total, slice.items().size());
+        assertFalse(slice.hasNext());
+        assertNull(slice.nextCursor());
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        assertThrows(BadRequestException.class,
+                () -> adminService.getFloorsPaginated("not-a-cursor", PageRequest.of(0, 2)));
+    }
+}
@@ -0,0 +1,99 @@
+package org.codeup.statiocore.service.impl;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.codeup.statiocore.domain.Building;
+import org.codeup.statiocore.domain.Floor;
+import org.codeup.statiocore.domain.ParkingSpot;
+import org.codeup.statiocore.domain.User;
+import org.codeup.statiocore.domain.enums.Role;
+import org.codeup.statiocore.domain.enums.SpotStatus;
+import org.codeup.statiocore.domain.enums.SpotType;
+import org.codeup.statiocore.repository.IBuildingRepository;
+import org.codeup.statiocore.repository.IFloorRepository;
+import org.codeup.statiocore.repository.IParkingSpotRepository;
+import org.codeup.statiocore.repository.IUserRepository;
+import org.codeup.statiocore.service.IParkingService;
+import org.codeup.statiocore.support.SqlStatementCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Statement count of a check-in with the Building/Floor second-level cache
+ * cold versus warm.
+ *
+ * @author TonyS-dev
+ */
+@SpringBootTest
+class ParkingServiceImplSecondLevelCacheTest {
+
+    @Autowired
+    private IParkingService parkingService;
+
+    @Autowired
+    private IUserRepository userRepository;
+
+    @Autowired
+    private IBuildingRepository buildingRepository;
+
+    @Autowired
+    private IFloorRepository floorRepository;
+
+    @Autowired
+    private IParkingSpotRepository spotRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void checkInReadsFloorAndBuildingFromSecondLevelCache() {
+        Building building = buildingRepository.save(Building.builder()
+                .name("L2 Cache Tower")
+                .address("1 Cache Street")
+                .build());
+        Floor floor = floorRepository.save(Floor.builder()
+                .building(building)
+                .floorNumber(1)
+                .build());
+        ParkingSpot firstSpot = spotRepository.save(spot(floor, "L2-001"));
+        ParkingSpot secondSpot = spotRepository.save(spot(floor, "L2-002"));
+        User firstUser = userRepository.save(user("l2-first@example.com"));
+        User secondUser = userRepository.save(user("l2-second@example.com"));
+
+        entityManagerFactory.getCache().evictAll();
+
+        SqlStatementCounter.reset();
+        parkingService.checkIn(firstUser.getId(), firstSpot.getId(), "L2-AAA");
+        int cold = SqlStatementCounter.count();
+
+        assertTrue(entityManagerFactory.getCache().contains(Floor.class, floor.getId()));
+        assertTrue(entityManagerFactory.getCache().contains(Building.class, building.getId()));
+
+        SqlStatementCounter.reset();
+        parkingService.checkIn(secondUser.getId(), secondSpot.getId(), "L2-BBB");
+        int warm = SqlStatementCounter.count();
+
+        // The floor and building selects disappear once both are cached
+        assertTrue(warm <= cold - 2, "cold check-in ran " + cold + " statements, warm ran " + warm);
+    }
+
+    private static ParkingSpot spot(Floor floor, String number) {
+        return ParkingSpot.builder()
+                .floor(floor)
+                .spotNumber(number)
+                .type(SpotType.STANDARD)
+                .status(SpotStatus.AVAILABLE)
+                .build();
+    }
+
+    private static User user(String email) {
+        return User.builder()
+                .email(email)
+                .passwordHash("not-a-real-hash")
+                .fullName("Cache Test")
+                .role(Role.USER)
+                .build();
+    }
+}
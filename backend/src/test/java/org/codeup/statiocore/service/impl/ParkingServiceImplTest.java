@@ -0,0 +1,147 @@
+package org.codeup.statiocore.service.impl;
+
+import org.codeup.statiocore.domain.Building;
+import org.codeup.statiocore.domain.Floor;
+import org.codeup.statiocore.domain.ParkingSession;
+import org.codeup.statiocore.domain.ParkingSpot;
+import org.codeup.statiocore.domain.User;
+import org.codeup.statiocore.domain.enums.Role;
+import org.codeup.statiocore.domain.enums.SpotStatus;
+import org.codeup.statiocore.domain.enums.SpotType;
+import org.codeup.statiocore.exception.ConflictException;
+import org.codeup.statiocore.repository.IParkingSessionRepository;
+import org.codeup.statiocore.repository.IParkingSpotRepository;
+import org.codeup.statiocore.repository.IUserRepository;
+import org.codeup.statiocore.service.IActivityLogService;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ParkingServiceImpl check-in
+ *
+ * - A violation of uk_sessions_user_active is reported as a conflict
+ * - The constraint name is matched regardless of case (H2 reports it upper-cased)
+ * - Any other integrity violation is rethrown unchanged
+ * - No event is published for a rejected check-in
+ *
+ * @author TonyS-dev
+ */
+@ExtendWith(MockitoExtension.class)
+class ParkingServiceImplTest {
+
+    @Mock
+    private IParkingSpotRepository spotRepository;
+
+    @Mock
+    private IParkingSessionRepository sessionRepository;
+
+    @Mock
+    private IUserRepository userRepository;
+
+    @Mock
+    private IActivityLogService logService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ParkingServiceImpl parkingService;
+
+    private UUID userId;
+    private UUID spotId;
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        spotId = UUID.randomUUID();
+
+        User user = User.builder()
+                .id(userId)
+                .email("test@example.com")
+                .fullName("Test User")
+                .role(Role.USER)
+                .isActive(true)
+                .build();
+        Building building = Building.builder()
+                .id(UUID.randomUUID())
+                .name("Test Tower")
+                .address("1 Test Street")
+                .build();
+        Floor floor = Floor.builder()
+                .id(UUID.randomUUID())
+                .building(building)
+                .floorNumber(1)
+                .build();
+        ParkingSpot spot = ParkingSpot.builder()
+                .id(spotId)
+                .floor(floor)
+                .spotNumber("A-01")
+                .type(SpotType.STANDARD)
+                .status(SpotStatus.AVAILABLE)
+                .build();
+
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(spotRepository.findById(spotId)).thenReturn(Optional.of(spot));
+    }
+
+    @Test
+    void secondActiveSessionIsAConflict() {
+        when(sessionRepository.saveAndFlush(any(ParkingSession.class)))
+                .thenThrow(violation("uk_sessions_user_active"));
+
+        assertThrows(ConflictException.class, () -> parkingService.checkIn(userId, spotId, "ABC-123"));
+        verifyNoInteractions(eventPublisher, logService);
+    }
+
+    @Test
+    void constraintNameIsMatchedIgnoringCase() {
+        when(sessionRepository.saveAndFlush(any(ParkingSession.class)))
+                .thenThrow(violation("UK_SESSIONS_USER_ACTIVE"));
+
+        assertThrows(ConflictException.class, () -> parkingService.checkIn(userId, spotId, "ABC-123"));
+    }
+
+    @Test
+    void otherConstraintViolationsAreRethrown() {
+        DataIntegrityViolationException violation = violation("fk_sessions_spot");
+        when(sessionRepository.saveAndFlush(any(ParkingSession.class))).thenThrow(violation);
+
+        DataIntegrityViolationException thrown = assertThrows(DataIntegrityViolationException.class,
+                () -> parkingService.checkIn(userId, spotId, "ABC-123"));
+
+        assertSame(violation, thrown);
+        verifyNoInteractions(eventPublisher, logService);
+    }
+
+    @Test
+    void violationWithoutConstraintNameIsRethrown() {
+        DataIntegrityViolationException violation =
+                new DataIntegrityViolationException("value too long", new SQLException("value too long"));
+        when(sessionRepository.saveAndFlush(any(ParkingSession.class))).thenThrow(violation);
+
+        assertSame(violation, assertThrows(DataIntegrityViolationException.class,
+                () -> parkingService.checkIn(userId, spotId, "ABC-123")));
+    }
+
+    // As translated by Spring: the Hibernate exception carrying the constraint name is the cause
+    private static DataIntegrityViolationException violation(String constraintName) {
+        SQLException sqlException = new SQLException("duplicate key value violates unique constraint", "23505");
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", sqlException, constraintName));
+    }
+}
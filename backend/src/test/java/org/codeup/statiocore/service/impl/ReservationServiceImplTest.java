@@ -9,12 +9,14 @@ import org.codeup.statiocore.repository.IParkingSpotRepository;
 import org.codeup.statiocore.repository.IReservationRepository;
 import org.codeup.statiocore.repository.IUserRepository;
 import org.codeup.statiocore.service.IActivityLogService;
+import org.codeup.statiocore.service.event.ReservationCreatedEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.OffsetDateTime;
 import java.util.Optional;
@@ -50,6 +52,9 @@ class ReservationServiceImplTest {
     @Mock
     private IActivityLogService activityLogService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ReservationServiceImpl reservationService;
 
@@ -82,7 +87,7 @@ class ReservationServiceImplTest {
     void createReservation_withPastStartTime_shouldThrowBadRequestException() {
         // Arrange
         when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
-        when(spotRepository.findById(spotId)).thenReturn(Optional.of(testSpot));
+        when(spotRepository.findWithLocationById(spotId)).thenReturn(Optional.of(testSpot));
 
         // Use a time in the past (1 hour ago)
         OffsetDateTime pastTime = OffsetDateTime.now().minusHours(1);
@@ -104,7 +109,7 @@ class ReservationServiceImplTest {
     void createReservation_withCurrentTime_shouldSucceed() {
         // Arrange
         when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
-        when(spotRepository.findById(spotId)).thenReturn(Optional.of(testSpot));
+        when(spotRepository.findWithLocationById(spotId)).thenReturn(Optional.of(testSpot));
         when(reservationRepository.existsOverlappingReservation(any(), any(), any())).thenReturn(false);
 
         Reservation expectedReservation = Reservation.builder()
@@ -124,14 +129,15 @@ class ReservationServiceImplTest {
         // Assert
         assertNotNull(result);
         verify(reservationRepository).save(any(Reservation.class));
-        verify(activityLogService).log(eq(testUser), eq("RESERVATION_CREATED"), anyString());
+        verify(activityLogService).log(eq(testUser), eq("RESERVATION_CREATED"),
+                argThat(payload -> spotId.equals(payload.getSpotId())));
     }
 
     @Test
     void createReservation_withFutureTime_shouldSucceed() {
         // Arrange
         when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
-        when(spotRepository.findById(spotId)).thenReturn(Optional.of(testSpot));
+        when(spotRepository.findWithLocationById(spotId)).thenReturn(Optional.of(testSpot));
         when(reservationRepository.existsOverlappingReservation(any(), any(), any())).thenReturn(false);
 
         Reservation expectedReservation = Reservation.builder()
@@ -151,7 +157,10 @@ class ReservationServiceImplTest {
         // Assert
         assertNotNull(result);
         verify(reservationRepository).save(any(Reservation.class));
-        verify(activityLogService).log(eq(testUser), eq("RESERVATION_CREATED"), anyString());
+        verify(activityLogService).log(eq(testUser), eq("RESERVATION_CREATED"),
+                argThat(payload -> spotId.equals(payload.getSpotId())));
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof ReservationCreatedEvent created
+                && userId.equals(created.userId())));
     }
 
     @Test
@@ -159,7 +168,7 @@ class ReservationServiceImplTest {
         // Arrange
         testSpot.setStatus(SpotStatus.OCCUPIED);
         when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
-        when(spotRepository.findById(spotId)).thenReturn(Optional.of(testSpot));
+        when(spotRepository.findWithLocationById(spotId)).thenReturn(Optional.of(testSpot));
 
         OffsetDateTime futureTime = OffsetDateTime.now().plusHours(1);
         Integer duration = 120;
@@ -193,7 +202,7 @@ class ReservationServiceImplTest {
     void createReservation_withNegativeDuration_shouldThrowBadRequestException() {
         // Arrange
         when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
-        when(spotRepository.findById(spotId)).thenReturn(Optional.of(testSpot));
+        when(spotRepository.findWithLocationById(spotId)).thenReturn(Optional.of(testSpot));
 
         OffsetDateTime futureTime = OffsetDateTime.now().plusHours(1);
         Integer negativeDuration = -60;
@@ -211,7 +220,7 @@ class ReservationServiceImplTest {
     void createReservation_withOverlappingReservation_shouldThrowBadRequestException() {
         // Arrange
         when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
-        when(spotRepository.findById(spotId)).thenReturn(Optional.of(testSpot));
+        when(spotRepository.findWithLocationById(spotId)).thenReturn(Optional.of(testSpot));
         when(reservationRepository.existsOverlappingReservation(any(), any(), any())).thenReturn(true);
 
         OffsetDateTime futureTime = OffsetDateTime.now().plusHours(1);
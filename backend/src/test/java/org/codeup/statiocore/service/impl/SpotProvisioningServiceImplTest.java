@@ -0,0 +1,146 @@
+package org.codeup.statiocore.service.impl;
+
+import org.codeup.statiocore.domain.Building;
+import org.codeup.statiocore.domain.Floor;
+import org.codeup.statiocore.domain.ParkingSpot;
+import org.codeup.statiocore.domain.enums.SpotStatus;
+import org.codeup.statiocore.domain.enums.SpotType;
+import org.codeup.statiocore.exception.BadRequestException;
+import org.codeup.statiocore.repository.IBuildingRepository;
+import org.codeup.statiocore.repository.IFloorRepository;
+import org.codeup.statiocore.repository.IParkingSpotRepository;
+import org.codeup.statiocore.service.ISpotProvisioningService;
+import org.codeup.statiocore.web.dto.admin.BulkSpotRangeRequest;
+import org.codeup.statiocore.web.dto.admin.BulkSpotResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Bulk provisioning against the database: imports larger than one
+ * flush chunk (500 rows), and per-row errors for the rows that are skipped.
+ *
+ * @author TonyS-dev
+ */
+@SpringBootTest
+class SpotProvisioningServiceImplTest {
+
+    private static final int VALID_ROWS = 1_200;
+
+    @Autowired
+    private ISpotProvisioningService provisioningService;
+
+    @Autowired
+    private IBuildingRepository buildingRepository;
+
+    @Autowired
+    private IFloorRepository floorRepository;
+
+    @Autowired
+    private IParkingSpotRepository spotRepository;
+
+    private Building building;
+    private Floor floor;
+
+    @BeforeEach
+    void setUp() {
+        building = buildingRepository.save(Building.builder()
+                .name("Provisioning Tower " + UUID.randomUUID())
+                .address("1 Import Street")
+                .build());
+        floor = floorRepository.save(Floor.builder()
+                .building(building)
+                .floorNumber(1)
+                .build());
+    }
+
+    @Test
+    void importsLargeCsvAndReportsBadRowsByLine() {
+        List<String> lines = new ArrayList<>();
+        // Leading byte order mark, as written by spreadsheet exports
+        lines.add("\uFEFFfloor_id,spot_number,type,status");
+        for (int i = 1; i <= VALID_ROWS; i++) {
+            lines.add(floor.getId() + ",CSV-" + i + ",STANDARD");
+        }
+        int blank = add(lines, "");
+        int quoted = add(lines, floor.getId() + ",\"Q,1\",VIP,UNDER_MAINTENANCE");
+        int trailingCommas = add(lines, floor.getId() + ",TRAIL-1,EV_CHARGING,,");
+        int unknownFloor = add(lines, UUID.randomUUID() + ",BAD-1,STANDARD");
+        int badType = add(lines, floor.getId() + ",BAD-2,MOTORBIKE");
+        int tooFew = add(lines, floor.getId() + ",BAD-3");
+        int tooMany = add(lines, floor.getId() + ",BAD-4,STANDARD,AVAILABLE,extra");
+        int duplicate = add(lines, floor.getId() + ",CSV-7,STANDARD");
+        String csv = String.join("\n", lines) + "\n";
+
+        BulkSpotResult result = provisioningService.importCsv(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(VALID_ROWS + 7, result.getRequested());
+        assertEquals(VALID_ROWS + 2, result.getCreated());
+        assertEquals(VALID_ROWS + 2, spotRepository.countByFloorId(floor.getId()));
+
+        Map<Integer, String> errors = result.getErrors().stream()
+                .collect(Collectors.toMap(BulkSpotResult.RowError::getRow, BulkSpotResult.RowError::getMessage));
+        assertEquals(List.of(unknownFloor, badType, tooFew, tooMany, duplicate),
+                result.getErrors().stream().map(BulkSpotResult.RowError::getRow).toList());
+        assertEquals("Floor not found", errors.get(unknownFloor));
+        assertEquals("Invalid spot type", errors.get(badType));
+        assertTrue(errors.get(tooFew).contains("found 2"));
+        assertTrue(errors.get(tooMany).contains("found 5"));
+        assertEquals("Spot number already exists on this floor", errors.get(duplicate));
+        assertFalse(errors.containsKey(blank));
+
+        ParkingSpot quotedSpot = spotRepository.findAll().stream()
+                .filter(spot -> "Q,1".equals(spot.getSpotNumber()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(SpotType.VIP, quotedSpot.getType());
+        assertEquals(SpotStatus.UNDER_MAINTENANCE, quotedSpot.getStatus());
+        assertTrue(errors.keySet().stream().noneMatch(row -> row == quoted || row == trailingCommas));
+    }
+
+    @Test
+    void rejectsMalformedCsv() {
+        String csv = floor.getId() + ",\"UNTERMINATED,STANDARD\n";
+
+        assertThrows(BadRequestException.class, () -> provisioningService.importCsv(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    void provisionsLargeRangeAcrossBatches() {
+        BulkSpotRangeRequest request = BulkSpotRangeRequest.builder()
+                .buildingId(building.getId())
+                .floorNumber(2)
+                .prefix("R-")
+                .start(1)
+                .end(1_500)
+                .padding(4)
+                .type(SpotType.STANDARD.name())
+                .build();
+
+        BulkSpotResult result = provisioningService.provisionRange(request);
+
+        assertEquals(1_500, result.getCreated());
+        assertTrue(result.getErrors().isEmpty());
+        Floor second = floorRepository.findByBuildingIdAndFloorNumber(building.getId(), 2).orElseThrow();
+        assertEquals(1_500, spotRepository.countByFloorId(second.getId()));
+    }
+
+    // Appends a line and returns its 1-based line number
+    private static int add(List<String> lines, String line) {
+        lines.add(line);
+        return lines.size();
+    }
+}
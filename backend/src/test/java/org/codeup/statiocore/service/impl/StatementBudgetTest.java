@@ -0,0 +1,287 @@
+package org.codeup.statiocore.service.impl;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.codeup.statiocore.domain.Building;
+import org.codeup.statiocore.domain.Floor;
+import org.codeup.statiocore.domain.ParkingSession;
+import org.codeup.statiocore.domain.ParkingSpot;
+import org.codeup.statiocore.domain.User;
+import org.codeup.statiocore.domain.enums.PaymentMethod;
+import org.codeup.statiocore.domain.enums.Role;
+import org.codeup.statiocore.domain.enums.SpotStatus;
+import org.codeup.statiocore.domain.enums.SpotType;
+import org.codeup.statiocore.repository.IActivityLogRepository;
+import org.codeup.statiocore.repository.IBuildingRepository;
+import org.codeup.statiocore.repository.IFloorRepository;
+import org.codeup.statiocore.repository.IParkingSessionRepository;
+import org.codeup.statiocore.repository.IParkingSpotRepository;
+import org.codeup.statiocore.repository.IUserRepository;
+import org.codeup.statiocore.repository.projection.SessionCursor;
+import org.codeup.statiocore.repository.specification.ActivityLogSpecification;
+import org.codeup.statiocore.service.CursorSlice;
+import org.codeup.statiocore.service.IAdminService;
+import org.codeup.statiocore.service.IParkingService;
+import org.codeup.statiocore.service.IReservationService;
+import org.codeup.statiocore.service.ISpotProvisioningService;
+import org.codeup.statiocore.service.cache.SpotAvailabilityLoader;
+import org.codeup.statiocore.support.StatementBudget;
+import org.codeup.statiocore.web.dto.admin.BuildingRequest;
+import org.codeup.statiocore.web.dto.admin.BuildingResponse;
+import org.codeup.statiocore.web.dto.admin.BulkSpotRangeRequest;
+import org.codeup.statiocore.web.dto.admin.BulkSpotResult;
+import org.codeup.statiocore.web.dto.user.ParkingSessionResponse;
+import org.codeup.statiocore.web.dto.user.ParkingSpotResponse;
+import org.codeup.statiocore.web.mapper.ActivityLogMapper;
+import org.codeup.statiocore.web.mapper.ParkingSessionMapper;
+import org.codeup.statiocore.web.mapper.ParkingSpotMapper;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Maximum SQL statements per use case: the write paths, and the read paths
+ * whose entity graphs must fetch everything their responses need. Each test
+ * seeds a few unrelated rows first, so a query that grows with table size
+ * (N+1, findAll filtering) blows the budget instead of passing on an empty table.
+ *
+ * Budgets assume a cold second-level cache; batch_size is 10 in tests.
+ *
+ * @author TonyS-dev
+ */
+@SpringBootTest
+class StatementBudgetTest {
+
+    @Autowired
+    private IParkingService parkingService;
+
+    @Autowired
+    private IReservationService reservationService;
+
+    @Autowired
+    private ISpotProvisioningService spotProvisioningService;
+
+    @Autowired
+    private IUserRepository userRepository;
+
+    @Autowired
+    private IBuildingRepository buildingRepository;
+
+    @Autowired
+    private IFloorRepository floorRepository;
+
+    @Autowired
+    private IParkingSpotRepository spotRepository;
+
+    @Autowired
+    private IParkingSessionRepository sessionRepository;
+
+    @Autowired
+    private IActivityLogRepository activityLogRepository;
+
+    @Autowired
+    private IAdminService adminService;
+
+    @Autowired
+    private SpotAvailabilityLoader spotAvailabilityLoader;
+
+    @Autowired
+    private ParkingSessionMapper parkingSessionMapper;
+
+    @Autowired
+    private ParkingSpotMapper parkingSpotMapper;
+
+    @Autowired
+    private ActivityLogMapper activityLogMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private StatementBudget budget;
+    private Building building;
+    private Floor floor;
+
+    @BeforeEach
+    void setUp() {
+        budget = new StatementBudget(entityManagerFactory);
+        building = buildingRepository.save(Building.builder()
+                .name("Budget Tower " + UUID.randomUUID())
+                .address("1 Budget Street")
+                .build());
+        floor = floorRepository.save(Floor.builder()
+                .building(building)
+                .floorNumber(1)
+                .build());
+
+        // History the measured operation must not scan
+        for (int i = 0; i < 3; i++) {
+            ParkingSession session = parkingService.checkIn(
+                    newUser().getId(), newSpot().getId(), "HIST-" + i);
+            parkingService.checkOut(session.getId(), PaymentMethod.CASH);
+        }
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void checkInStaysWithinBudget() {
+        User user = newUser();
+        ParkingSpot spot = newSpot();
+
+        // user, spot, floor, building; spot update, session and log inserts
+        // (one active session per user is enforced by uk_sessions_user_active, not a query)
+        budget.assertAtMost(7, "check-in", () -> parkingService.checkIn(user.getId(), spot.getId(), "BUD-001"));
+    }
+
+    @Test
+    void checkOutStaysWithinBudget() {
+        ParkingSession session = parkingService.checkIn(newUser().getId(), newSpot().getId(), "BUD-002");
+        entityManagerFactory.getCache().evictAll();
+
+        // session joined with its spot, floor, paid check; payment and batched log inserts, spot and session updates
+        budget.assertAtMost(7, "check-out", () -> parkingService.checkOut(session.getId(), PaymentMethod.CREDIT_CARD));
+    }
+
+    @Test
+    void createReservationStaysWithinBudget() {
+        User user = newUser();
+        ParkingSpot spot = newSpot();
+
+        // user, spot, overlap check; reservation and log inserts
+        budget.assertAtMost(5, "reservation", () -> reservationService.createReservation(
+                user.getId(), spot.getId(), OffsetDateTime.now().plusHours(1), 60));
+    }
+
+    @Test
+    void bulkProvisioningIsBatched() {
+        BulkSpotRangeRequest request = BulkSpotRangeRequest.builder()
+                .buildingId(building.getId())
+                .floorNumber(2)
+                .prefix("BULK-")
+                .start(1)
+                .end(50)
+                .type(SpotType.STANDARD.name())
+                .build();
+
+        // 50 spot inserts go out as 5 batches; unbatched this would be 50+ statements
+        BulkSpotResult result = budget.assertAtMost(12, "bulk provisioning",
+                () -> spotProvisioningService.provisionRange(request));
+
+        assertEquals(50, result.getCreated());
+    }
+
+    @Test
+    void createBuildingUsesTheAggregateStatsQuery() {
+        BuildingRequest request = BuildingRequest.builder()
+                .name("Budget Annex " + UUID.randomUUID())
+                .address("2 Budget Street")
+                .build();
+
+        // building insert, one aggregate stats query (no per-building count queries)
+        BuildingResponse response = budget.assertAtMost(2, "create building",
+                () -> adminService.createBuilding(request));
+
+        assertEquals(0, response.getTotalFloors());
+        assertEquals(0, response.getTotalSpots());
+    }
+
+    // Read paths below are mapped outside any transaction, as after a cache hit:
+    // an association the entity graph misses fails with LazyInitializationException
+
+    @Test
+    void sessionHistoryIsOneSelect() {
+        User user = newUser();
+        for (int i = 0; i < 3; i++) {
+            ParkingSession session = parkingService.checkIn(user.getId(), newSpot().getId(), "HIS-" + i);
+            parkingService.checkOut(session.getId(), PaymentMethod.CASH);
+        }
+
+        List<ParkingSessionResponse> history = budget.assertAtMost(1, "session history",
+                () -> parkingSessionMapper.toResponses(parkingService.getUserSessions(user.getId())));
+
+        assertEquals(3, history.size());
+        assertEquals(building.getName(), history.get(0).getBuildingName());
+    }
+
+    @Test
+    void sessionHistoryCountsOnlyTheFirstPage() {
+        User user = newUser();
+        for (int i = 0; i < 3; i++) {
+            ParkingSession session = parkingService.checkIn(user.getId(), newSpot().getId(), "PAG-" + i);
+            parkingService.checkOut(session.getId(), PaymentMethod.CASH);
+        }
+
+        // page select plus the count
+        CursorSlice<ParkingSession> first = budget.assertAtMost(2, "history first page",
+                () -> parkingService.getUserSessionHistory(user.getId(), null, null, null, 2));
+        // page select only
+        CursorSlice<ParkingSession> next = budget.assertAtMost(1, "history cursor page",
+                () -> parkingService.getUserSessionHistory(
+                        user.getId(), SessionCursor.decode(first.nextCursor()), null, null, 2));
+
+        assertEquals(3L, first.totalElements());
+        assertNull(next.totalElements());
+        assertEquals(1, next.items().size());
+        assertFalse(next.hasNext());
+    }
+
+    @Test
+    void availabilityListIsOneSelect() {
+        newSpot();
+        newSpot();
+
+        List<ParkingSpotResponse> spots = budget.assertAtMost(1, "availability list",
+                () -> parkingSpotMapper.toUserResponses(spotAvailabilityLoader.load(building.getId(), null, null, null)));
+
+        assertFalse(spots.isEmpty());
+        assertEquals(building.getAddress(), spots.get(0).getBuildingAddress());
+    }
+
+    @Test
+    void adminSpotListingIsOneSelectPlusCount() {
+        budget.assertAtMost(2, "admin spot listing", () -> adminService.getSpotsPaginated(PageRequest.of(0, 20)));
+    }
+
+    @Test
+    void auditLogListingIsOneSelectPlusCount() {
+        budget.assertAtMost(2, "audit log listing", () -> activityLogMapper.toResponses(activityLogRepository
+                .findAll(ActivityLogSpecification.withFilters(null, null, null, null, null), PageRequest.of(0, 20))
+                .getContent()));
+    }
+
+    @Test
+    void paymentSessionLookupLoadsNoAssociations() {
+        ParkingSession active = parkingService.checkIn(newUser().getId(), newSpot().getId(), "BUD-003");
+
+        ParkingSession session = budget.assertAtMost(1, "session lookup",
+                () -> sessionRepository.findById(active.getId()).orElseThrow());
+
+        assertFalse(Hibernate.isInitialized(session.getUser()));
+        assertFalse(Hibernate.isInitialized(session.getSpot()));
+    }
+
+    private User newUser() {
+        return userRepository.save(User.builder()
+                .email("budget-" + UUID.randomUUID() + "@example.com")
+                .passwordHash("not-a-real-hash")
+                .fullName("Budget Test")
+                .role(Role.USER)
+                .build());
+    }
+
+    private ParkingSpot newSpot() {
+        return spotRepository.save(ParkingSpot.builder()
+                .floor(floor)
+                .spotNumber("B-" + UUID.randomUUID().toString().substring(0, 8))
+                .type(SpotType.STANDARD)
+                .status(SpotStatus.AVAILABLE)
+                .build());
+    }
+}
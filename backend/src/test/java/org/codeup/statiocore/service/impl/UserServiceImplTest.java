@@ -0,0 +1,99 @@
+package org.codeup.statiocore.service.impl;
+
+import org.codeup.statiocore.service.dashboard.AdminDashboardAggregator;
+import org.codeup.statiocore.service.dashboard.UserDashboardAssembler;
+import org.codeup.statiocore.web.dto.admin.AdminDashboardResponse;
+import org.codeup.statiocore.web.dto.user.DashboardResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for UserServiceImpl dashboard
+ *
+ * - The user's own part is cached and loaded once
+ * - Spot counts and occupancy come from the admin snapshot on every request,
+ *   so another user's check-in shows up without evicting this user's entry
+ * - The cached entry itself never carries spot counts
+ *
+ * @author TonyS-dev
+ */
+@ExtendWith(MockitoExtension.class)
+class UserServiceImplTest {
+
+    @Mock
+    private UserDashboardAssembler dashboardAssembler;
+
+    @Mock
+    private AdminDashboardAggregator dashboardAggregator;
+
+    private ConcurrentMapCacheManager cacheManager;
+    private UserServiceImpl userService;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(UserServiceImpl.USER_DASHBOARD);
+        userService = new UserServiceImpl(dashboardAssembler, dashboardAggregator, cacheManager);
+        userId = UUID.randomUUID();
+        when(dashboardAssembler.assemble(userId)).thenReturn(DashboardResponse.builder()
+                .activeSessions(1L)
+                .totalReservations(2L)
+                .build());
+    }
+
+    @Test
+    void spotCountsComeFromTheAdminSnapshot() {
+        when(dashboardAggregator.current()).thenReturn(snapshot(40, 10, 25));
+
+        DashboardResponse dashboard = userService.getDashboard(userId);
+
+        assertEquals(40, dashboard.getTotalSpots());
+        assertEquals(10, dashboard.getOccupiedSpots());
+        assertEquals(25, dashboard.getAvailableSpots());
+        assertEquals(25.0, dashboard.getOccupancyPercentage());
+        assertEquals(1, dashboard.getActiveSessions());
+        assertEquals(2, dashboard.getTotalReservations());
+    }
+
+    @Test
+    void otherUsersCheckInIsVisibleWithoutReloadingTheUsersEntry() {
+        when(dashboardAggregator.current()).thenReturn(snapshot(40, 10, 25), snapshot(40, 11, 24));
+
+        userService.getDashboard(userId);
+        DashboardResponse afterCheckIn = userService.getDashboard(userId);
+
+        assertEquals(11, afterCheckIn.getOccupiedSpots());
+        assertEquals(24, afterCheckIn.getAvailableSpots());
+        verify(dashboardAssembler, times(1)).assemble(userId);
+    }
+
+    @Test
+    void cachedEntryIsNotModified() {
+        when(dashboardAggregator.current()).thenReturn(snapshot(0, 0, 0));
+
+        userService.getDashboard(userId);
+
+        DashboardResponse cached = cacheManager.getCache(UserServiceImpl.USER_DASHBOARD)
+                .get(userId, DashboardResponse.class);
+        assertNotNull(cached);
+        assertNull(cached.getTotalSpots());
+        assertNull(cached.getOccupancyPercentage());
+    }
+
+    private static AdminDashboardResponse snapshot(long total, long occupied, long available) {
+        return AdminDashboardResponse.builder()
+                .totalSpots(total)
+                .occupiedSpots(occupied)
+                .availableSpots(available)
+                .build();
+    }
+}
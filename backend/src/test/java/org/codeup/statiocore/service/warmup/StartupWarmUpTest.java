@@ -0,0 +1,147 @@
+package org.codeup.statiocore.service.warmup;
+
+import org.codeup.statiocore.service.IAdminService;
+import org.codeup.statiocore.service.IParkingService;
+import org.codeup.statiocore.service.dashboard.AdminDashboardAggregator;
+import org.codeup.statiocore.web.dto.admin.BuildingResponse;
+import org.codeup.statiocore.web.mapper.ParkingSpotMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for StartupWarmUp and WarmUpHealthIndicator
+ *
+ * - Readiness is OUT_OF_SERVICE before and during warm-up, UP afterwards
+ * - A failing step is logged and skipped; the node still becomes ready
+ * - Readiness flips to UP at the budget even while a step is still running
+ * - Disabled warm-up is ready immediately
+ *
+ * @author TonyS-dev
+ */
+@ExtendWith(MockitoExtension.class)
+class StartupWarmUpTest {
+
+    @Mock
+    private IAdminService adminService;
+
+    @Mock
+    private IParkingService parkingService;
+
+    @Mock
+    private AdminDashboardAggregator dashboardAggregator;
+
+    @Mock
+    private ParkingSpotMapper parkingSpotMapper;
+
+    private StartupWarmUp warmUp;
+    private WarmUpHealthIndicator healthIndicator;
+
+    @BeforeEach
+    void setUp() {
+        warmUp = new StartupWarmUp(adminService, parkingService, dashboardAggregator, List.of(), parkingSpotMapper);
+        ReflectionTestUtils.setField(warmUp, "enabled", true);
+        ReflectionTestUtils.setField(warmUp, "budgetMs", 10_000L);
+        ReflectionTestUtils.setField(warmUp, "jitIterations", 10);
+        healthIndicator = new WarmUpHealthIndicator(warmUp);
+    }
+
+    @Test
+    void notReadyBeforeWarmUpStarts() {
+        Health health = healthIndicator.health();
+
+        assertEquals(Status.OUT_OF_SERVICE, health.getStatus());
+        assertEquals(StartupWarmUp.State.PENDING, health.getDetails().get("state"));
+    }
+
+    @Test
+    void notReadyWhileRunningAndReadyAfterwards() throws Exception {
+        UUID buildingId = UUID.randomUUID();
+        CountDownLatch release = new CountDownLatch(1);
+        when(adminService.getAllBuildings()).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(BuildingResponse.builder().id(buildingId).build());
+        });
+
+        warmUp.onApplicationReady();
+        assertEquals(Status.OUT_OF_SERVICE, healthIndicator.health().getStatus());
+        assertEquals(StartupWarmUp.State.RUNNING, warmUp.getState());
+
+        release.countDown();
+        awaitFinished();
+
+        Health health = healthIndicator.health();
+        assertEquals(Status.UP, health.getStatus());
+        assertEquals(StartupWarmUp.State.COMPLETED, health.getDetails().get("state"));
+        assertEquals(5, warmUp.getStepMillis().size());
+        verify(parkingService).getAvailableSpots(buildingId, null, null, null);
+        verify(dashboardAggregator).refresh();
+    }
+
+    @Test
+    void failingStepDoesNotKeepTheNodeOutOfRotation() throws Exception {
+        when(adminService.getAllBuildings()).thenThrow(new DataAccessResourceFailureException("database down"));
+
+        warmUp.onApplicationReady();
+        awaitFinished();
+
+        assertEquals(Status.UP, healthIndicator.health().getStatus());
+        assertEquals(StartupWarmUp.State.COMPLETED, warmUp.getState());
+        // Later steps still ran
+        verify(dashboardAggregator).refresh();
+        verify(parkingService).getAvailableSpots();
+    }
+
+    @Test
+    void readyAtTheBudgetEvenWhileAStepIsRunning() throws Exception {
+        ReflectionTestUtils.setField(warmUp, "budgetMs", 50L);
+        CountDownLatch release = new CountDownLatch(1);
+        when(adminService.getAllBuildings()).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+
+        try {
+            warmUp.onApplicationReady();
+            awaitFinished();
+
+            assertEquals(Status.UP, healthIndicator.health().getStatus());
+            assertEquals(StartupWarmUp.State.BUDGET_EXCEEDED, warmUp.getState());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void disabledWarmUpIsReadyImmediately() {
+        ReflectionTestUtils.setField(warmUp, "enabled", false);
+
+        warmUp.onApplicationReady();
+
+        assertEquals(Status.UP, healthIndicator.health().getStatus());
+        assertEquals(StartupWarmUp.State.DISABLED, warmUp.getState());
+        verifyNoInteractions(adminService, parkingService, dashboardAggregator);
+    }
+
+    private void awaitFinished() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!warmUp.isFinished() || warmUp.getState() == StartupWarmUp.State.RUNNING) {
+            assertTrue(System.nanoTime() < deadline, "warm-up did not finish");
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package org.codeup.statiocore.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Fails a test when an operation sends more SQL statements than its budget.
+ *
+ * The budget is checked against {@link SqlStatementCounter}, which only sees
+ * the calling thread, so scheduled jobs cannot make a test flaky. Hibernate
+ * {@link Statistics} are reset around the operation and their breakdown is
+ * included in the failure message to show where the extra statements came
+ * from (lazy fetches, queries, unbatched inserts).
+ */
+public class StatementBudget {
+    private final Statistics statistics;
+
+    public StatementBudget(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public <T> T assertAtMost(int maxStatements, String operation, Supplier<T> work) {
+        statistics.clear();
+        SqlStatementCounter.reset();
+
+        T result = work.get();
+
+        int statements = SqlStatementCounter.count();
+        if (statements > maxStatements) {
+            fail(operation + " ran " + statements + " statements, budget is " + maxStatements + " (" + breakdown() + ")");
+        }
+        return result;
+    }
+
+    public void assertAtMost(int maxStatements, String operation, Runnable work) {
+        assertAtMost(maxStatements, operation, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    private String breakdown() {
+        return "prepared=" + statistics.getPrepareStatementCount()
+                + ", queries=" + statistics.getQueryExecutionCount()
+                + ", entityLoads=" + statistics.getEntityLoadCount()
+                + ", entityFetches=" + statistics.getEntityFetchCount()
+                + ", collectionFetches=" + statistics.getCollectionFetchCount()
+                + ", inserts=" + statistics.getEntityInsertCount()
+                + ", updates=" + statistics.getEntityUpdateCount()
+                + ", l2Hits=" + statistics.getSecondLevelCacheHitCount()
+                + ", l2Misses=" + statistics.getSecondLevelCacheMissCount();
+    }
+}
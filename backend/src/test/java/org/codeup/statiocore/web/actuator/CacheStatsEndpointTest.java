@@ -0,0 +1,82 @@
+package org.codeup.statiocore.web.actuator;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CacheStatsEndpoint
+ *
+ * - Each Caffeine cache is reported with its manager, size, hit ratio and top keys
+ * - An unknown cache name returns null, which the actuator answers with 404
+ *
+ * @author TonyS-dev
+ */
+class CacheStatsEndpointTest {
+
+    private CaffeineCacheManager cacheManager;
+    private CacheStatsEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = manager("availableSpots");
+        Map<String, CacheManager> cacheManagers = new LinkedHashMap<>();
+        cacheManagers.put("cacheManager", cacheManager);
+        cacheManagers.put("longTermCacheManager", manager("buildings"));
+        endpoint = new CacheStatsEndpoint(cacheManagers);
+    }
+
+    @Test
+    void reportsSizeHitRatioAndTopKeys() {
+        Cache cache = cacheManager.getCache("availableSpots");
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+        cache.get("a");
+        cache.get("b");
+        cache.get("missing");
+
+        CacheStatsEndpoint.CacheStatsDescriptor stats = endpoint.cache("availableSpots");
+
+        assertNotNull(stats);
+        assertEquals("cacheManager", stats.cacheManager());
+        assertEquals(2, stats.size());
+        assertEquals(0.75, stats.hitRatio());
+        assertEquals(3, stats.hitCount());
+        assertEquals(1, stats.missCount());
+        assertTrue(stats.topKeys().containsAll(List.of("a", "b")));
+    }
+
+    @Test
+    void listsTheCachesOfEveryManager() {
+        assertEquals(List.of("availableSpots:cacheManager", "buildings:longTerm"), endpoint.caches().stream()
+                .map(descriptor -> descriptor.name() + ":" + descriptor.cacheManager())
+                .toList());
+    }
+
+    @Test
+    void unknownCacheIsNull() {
+        assertNull(endpoint.cache("noSuchCache"));
+    }
+
+    private static CaffeineCacheManager manager(String cacheName) {
+        CaffeineCacheManager manager = new CaffeineCacheManager();
+        manager.setCacheNames(List.of());
+        // Same-thread maintenance, so size and stats are exact right after each call
+        manager.registerCustomCache(cacheName, Caffeine.newBuilder()
+                .maximumSize(100)
+                .executor(Runnable::run)
+                .recordStats()
+                .build());
+        return manager;
+    }
+}
@@ -0,0 +1,12 @@
+-- ==========================================
+-- V3__activity_log_payload.sql
+-- Structured event payloads for activity logs
+-- ==========================================
+
+-- Typed event payload (spotId, sessionId, amount, transactionRef, ...).
+-- The legacy free-text 'details' column is kept for rows written before V3.
+ALTER TABLE activity_logs ADD COLUMN payload JSONB;
+
+-- jsonb_path_ops keeps the index small and serves containment lookups
+-- such as: payload @> '{"spotId": "..."}'
+CREATE INDEX idx_activity_logs_payload ON activity_logs USING GIN (payload jsonb_path_ops);
@@ -0,0 +1,11 @@
+-- ==========================================
+-- V5__session_history_index.sql
+-- Keyset index for per-user session history
+-- ==========================================
+
+-- Serves WHERE user_id = ? ORDER BY check_in_time DESC, id DESC LIMIT n
+-- and check-in date ranges; also covers every plain user_id lookup.
+CREATE INDEX idx_sessions_user_checkin ON parking_sessions(user_id, check_in_time DESC, id DESC);
+
+-- Superseded by the composite index above
+DROP INDEX IF EXISTS idx_sessions_user_id;
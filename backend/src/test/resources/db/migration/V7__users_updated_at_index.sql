@@ -0,0 +1,8 @@
+-- ==========================================
+-- V7__users_updated_at_index.sql
+-- Index for the disabled-account delta sync
+-- ==========================================
+
+-- Serves WHERE updated_at > ? (AccountStatusSynchronizer, every node every 30s),
+-- which only ever touches the last few seconds of changes
+CREATE INDEX idx_users_updated_at ON users(updated_at);
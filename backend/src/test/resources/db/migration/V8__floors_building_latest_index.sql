@@ -0,0 +1,12 @@
+-- ==========================================
+-- V8__floors_building_latest_index.sql
+-- Index for the floors admin page ordering
+-- ==========================================
+
+-- Serves the per-building MAX(created_at) probe of FloorPageRepository: one
+-- backward index lookup per building instead of aggregating every floor.
+-- Also covers every plain building_id lookup.
+CREATE INDEX idx_floors_building_created ON floors(building_id, created_at);
+
+-- Superseded by the composite index above
+DROP INDEX IF EXISTS idx_floors_building_id;
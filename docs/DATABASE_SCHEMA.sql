@@ -1,5 +1,7 @@
 -- Enable extension for native UUID generation (PostgreSQL 13+)
 CREATE EXTENSION IF NOT EXISTS "pgcrypto";
+-- Trigram matching for user search
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
 
 -- ==========================================
 -- 0. UTILITY FUNCTIONS (AUTOMATIC AUDITING)
@@ -30,6 +32,10 @@ CREATE TABLE users (
     CONSTRAINT chk_user_role CHECK (role IN ('ADMIN', 'USER'))
 );
 
+-- Trigram indexes for admin user search
+CREATE INDEX idx_users_email_trgm ON users USING GIN (email gin_trgm_ops);
+CREATE INDEX idx_users_full_name_trgm ON users USING GIN (full_name gin_trgm_ops);
+
 -- Trigger for users
 CREATE TRIGGER update_users_modtime BEFORE UPDATE ON users FOR EACH ROW EXECUTE PROCEDURE update_updated_at_column();
 
@@ -79,6 +85,8 @@ CREATE TRIGGER update_spots_modtime BEFORE UPDATE ON parking_spots FOR EACH ROW
 -- Indexes for fast searches
 CREATE INDEX idx_spots_floor_id ON parking_spots(floor_id);
 CREATE INDEX idx_spots_status_type ON parking_spots(status, type);
+CREATE INDEX idx_spots_available_unreserved ON parking_spots(floor_id, spot_number)
+    WHERE status = 'AVAILABLE' AND reserved_by_user_id IS NULL;
 
 -- ==========================================
 -- 3. OPERATIONS
@@ -123,9 +131,11 @@ CREATE TABLE parking_sessions (
 CREATE TRIGGER update_sessions_modtime BEFORE UPDATE ON parking_sessions FOR EACH ROW EXECUTE PROCEDURE update_updated_at_column();
 
 -- Indexes for parking sessions
-CREATE INDEX idx_sessions_user_id ON parking_sessions(user_id);
+CREATE INDEX idx_sessions_user_checkin ON parking_sessions(user_id, check_in_time DESC, id DESC);
 CREATE INDEX idx_sessions_spot_id ON parking_sessions(spot_id);
-CREATE INDEX idx_sessions_status ON parking_sessions(status);
+-- One active session per user
+CREATE UNIQUE INDEX uk_sessions_user_active ON parking_sessions(user_id) WHERE status = 'ACTIVE';
+CREATE INDEX idx_sessions_spot_active ON parking_sessions(spot_id) WHERE status = 'ACTIVE';
 
 -- ==========================================
 -- 4. FINANCIALS (Payments)
@@ -160,9 +170,11 @@ CREATE TABLE activity_logs (
     user_id UUID REFERENCES users(id) ON DELETE SET NULL,
     action VARCHAR(50) NOT NULL,
     details TEXT,
+    payload JSONB,
     created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP
 );
 
 -- Index for activity logs
 CREATE INDEX idx_activity_logs_user_id ON activity_logs(user_id);
-CREATE INDEX idx_activity_logs_created_at ON activity_logs(created_at DESC);
\ No newline at end of file
+CREATE INDEX idx_activity_logs_created_at ON activity_logs(created_at DESC);
+CREATE INDEX idx_activity_logs_payload ON activity_logs USING GIN (payload jsonb_path_ops);
\ No newline at end of file
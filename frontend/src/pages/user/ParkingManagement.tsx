@@ -1,5 +1,5 @@
 import { useState, useEffect } from 'react';
-import { useQuery, useMutation, useQueryClient } from '@tanstack/react-query';
+import { useQuery, useInfiniteQuery, useMutation, useQueryClient } from '@tanstack/react-query';
 import { useLocation, useNavigate } from 'react-router-dom';
 import { userService } from '@/services/userService';
 import { PaymentMethod, SpotType } from '@/types';
@@ -316,11 +316,20 @@ const ParkingManagement = () => {
     refetchInterval: 15000, // Refresh every 15 seconds
   });
 
-  // Fetch session history
-  const { data: sessions, isLoading: loadingSessions } = useQuery({
+  // Fetch session history one page at a time
+  const {
+    data: sessionPages,
+    isLoading: loadingSessions,
+    hasNextPage,
+    fetchNextPage,
+    isFetchingNextPage,
+  } = useInfiniteQuery({
     queryKey: ['mySessions'],
-    queryFn: () => userService.getMySessions(),
+    queryFn: ({ pageParam }) => userService.getSessionHistory(pageParam),
+    initialPageParam: undefined as string | undefined,
+    getNextPageParam: (lastPage) => lastPage.nextCursor,
   });
+  const sessions = sessionPages?.pages.flatMap((page) => page.items);
 
   // Calculate fee mutation
   const calculateFeeMutation = useMutation({
@@ -541,6 +550,17 @@ const ParkingManagement = () => {
                   ))}
                 </TableBody>
               </Table>
+              {hasNextPage && (
+                <div className="flex justify-center pt-4">
+                  <Button
+                    variant="outline"
+                    onClick={() => fetchNextPage()}
+                    disabled={isFetchingNextPage}
+                  >
+                    {isFetchingNextPage ? 'Loading...' : 'Load more'}
+                  </Button>
+                </div>
+              )}
             </div>
           ) : (
             <div className="text-center py-8 text-gray-500">
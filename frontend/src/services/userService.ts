@@ -11,6 +11,7 @@ import type {
   ReservationRequest,
   Reservation,
   DashboardResponse,
+  PageResponse,
 } from '../types';
 
 export const userService = {
@@ -47,6 +48,13 @@ export const userService = {
     return response.data;
   },
 
+  async getSessionHistory(cursor?: string, limit = 20): Promise<PageResponse<ParkingSession>> {
+    const response = await api.get<PageResponse<ParkingSession>>('/parking/sessions/history', {
+      params: { cursor, limit, compact: true },
+    });
+    return response.data;
+  },
+
   // Alias for parkingStore compatibility
   async getReservations(): Promise<Reservation[]> {
     return this.getMyReservations();
@@ -85,6 +93,13 @@ export const userService = {
     return response.data;
   },
 
+  async getSessionHistory(cursor?: string, limit = 20): Promise<PageResponse<ParkingSession>> {
+    const response = await api.get<PageResponse<ParkingSession>>('/parking/sessions/history', {
+      params: { cursor, limit, compact: true },
+    });
+    return response.data;
+  },
+
   // Alias for parkingStore compatibility
   async getActiveSessions(): Promise<ParkingSession[]> {
     return this.getMySessions();
@@ -286,6 +286,7 @@ export interface PageResponse<T> {
   size: number;
   totalElements: number;
   totalPages: number;
+  nextCursor?: string;
 }
 
 // ============= FILTERS =============
@@ -0,0 +1,82 @@
+-- =====================================================
+-- UUIDv4 vs UUIDv7 primary keys: insert throughput and index size
+-- =====================================================
+-- Inserts 10M rows into two copies of a parking_sessions-like table, one keyed
+-- by random UUIDv4 and one by time-ordered UUIDv7, then reports elapsed time,
+-- primary key index size and leaf density. Both id sets are generated before
+-- the timed inserts, so only insert and index work is timed.
+--
+-- Run against a scratch database (never production):
+--   psql -d statiocore_bench -f scripts/benchmark/uuid_pk_inserts.sql
+--
+-- Tune ROWS below for a quicker run. Requires PostgreSQL 13+ (pgstattuple is
+-- created if missing; skip the density query if the extension is unavailable).
+-- =====================================================
+
+\set ROWS 10000000
+
+CREATE EXTENSION IF NOT EXISTS pgcrypto;
+CREATE EXTENSION IF NOT EXISTS pgstattuple;
+
+DROP TABLE IF EXISTS bench_ids_v4;
+DROP TABLE IF EXISTS bench_ids_v7;
+DROP TABLE IF EXISTS bench_sessions_v4;
+DROP TABLE IF EXISTS bench_sessions_v7;
+
+-- v4: random ids from pgcrypto
+CREATE UNLOGGED TABLE bench_ids_v4 AS
+SELECT n, gen_random_uuid() AS id, gen_random_uuid() AS user_id
+FROM generate_series(1, :ROWS) AS n;
+
+-- v7: same layout as UuidV7Generator (48-bit ms timestamp, version 7, 12-bit
+-- sequence, variant 10, random tail). Ids are spread 4096 per millisecond from
+-- a fixed start, so the sequence never wraps and the ids are strictly ordered,
+-- as the Java generator issues them under a burst.
+SELECT (extract(epoch FROM clock_timestamp()) * 1000)::BIGINT AS base_ms \gset
+CREATE UNLOGGED TABLE bench_ids_v7 AS
+SELECT n,
+       encode(
+           int8send(((:base_ms + (n - 1) / 4096) << 16) | x'7000'::BIGINT | ((n - 1) % 4096))
+           || set_byte(rnd, 0, (get_byte(rnd, 0) & 63) | 128),
+           'hex')::UUID AS id,
+       user_id
+FROM (
+    SELECT n, gen_random_bytes(8) AS rnd, gen_random_uuid() AS user_id
+    FROM generate_series(1, :ROWS) AS n
+) AS g;
+
+CREATE TABLE bench_sessions_v4 (
+    id UUID PRIMARY KEY,
+    user_id UUID NOT NULL,
+    check_in_time TIMESTAMP WITH TIME ZONE NOT NULL,
+    status VARCHAR(20) NOT NULL
+);
+CREATE TABLE bench_sessions_v7 (LIKE bench_sessions_v4 INCLUDING ALL);
+
+-- Both sources are read back in generation order (sequential scan of a fresh table)
+\timing on
+
+\echo 'UUIDv4 inserts'
+INSERT INTO bench_sessions_v4
+SELECT id, user_id, now(), 'ACTIVE'
+FROM bench_ids_v4;
+
+\echo 'UUIDv7 inserts'
+INSERT INTO bench_sessions_v7
+SELECT id, user_id, now(), 'ACTIVE'
+FROM bench_ids_v7;
+
+\timing off
+
+SELECT 'v4' AS key_type,
+       pg_size_pretty(pg_relation_size('bench_sessions_v4_pkey')) AS pk_size,
+       (pgstatindex('bench_sessions_v4_pkey')).avg_leaf_density AS leaf_density
+UNION ALL
+SELECT 'v7',
+       pg_size_pretty(pg_relation_size('bench_sessions_v7_pkey')),
+       (pgstatindex('bench_sessions_v7_pkey')).avg_leaf_density;
+
+DROP TABLE bench_sessions_v4;
+DROP TABLE bench_sessions_v7;
+DROP TABLE bench_ids_v4;
+DROP TABLE bench_ids_v7;